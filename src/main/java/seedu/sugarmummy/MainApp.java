@@ -3,6 +3,8 @@ package seedu.sugarmummy;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
@@ -10,6 +12,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.sugarmummy.commons.core.Config;
 import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.commons.core.StorageFormat;
 import seedu.sugarmummy.commons.core.Version;
 import seedu.sugarmummy.commons.exceptions.DataConversionException;
 import seedu.sugarmummy.commons.util.ConfigUtil;
@@ -25,6 +28,7 @@ import seedu.sugarmummy.model.biography.ReadOnlyUserList;
 import seedu.sugarmummy.model.biography.UserList;
 import seedu.sugarmummy.model.calendar.Calendar;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
+import seedu.sugarmummy.model.calendar.Scheduler;
 import seedu.sugarmummy.model.recmf.UniqueFoodList;
 import seedu.sugarmummy.model.records.UniqueRecordList;
 import seedu.sugarmummy.model.util.SampleCalendarDataUtil;
@@ -37,8 +41,11 @@ import seedu.sugarmummy.storage.StorageManager;
 import seedu.sugarmummy.storage.UserPrefsStorage;
 import seedu.sugarmummy.storage.biography.JsonUserListStorage;
 import seedu.sugarmummy.storage.biography.UserListStorage;
+import seedu.sugarmummy.storage.calendar.BinaryCalendarStorage;
 import seedu.sugarmummy.storage.calendar.JsonCalendarStorage;
+import seedu.sugarmummy.storage.recmf.BinaryFoodListStorage;
 import seedu.sugarmummy.storage.recmf.JsonFoodListStorage;
+import seedu.sugarmummy.storage.records.BinaryRecordListStorage;
 import seedu.sugarmummy.storage.records.JsonRecordListStorage;
 import seedu.sugarmummy.ui.Ui;
 import seedu.sugarmummy.ui.UiManager;
@@ -57,6 +64,9 @@ public class MainApp extends Application {
     private static final String LABEL_FOOD_DATA_TYPE = "food list";
     private static final String LABEL_RECORD_DATA_TYPE = "record list";
 
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -73,13 +83,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        UserListStorage userListStorage = new JsonUserListStorage(userPrefs.getUserListFilePath());
-        JsonFoodListStorage jsonFoodListStorage = new JsonFoodListStorage(userPrefs.getFoodListFilePath());
-        JsonRecordListStorage jsonRecordListStorage = new JsonRecordListStorage(userPrefs.getRecordListFilePath());
-        JsonCalendarStorage jsonCalendarStorage = new JsonCalendarStorage(userPrefs.getEventListFilePath(),
-                userPrefs.getReminderListFilePath());
-        storage = new StorageManager(userPrefsStorage, userListStorage, jsonFoodListStorage,
-                jsonRecordListStorage, jsonCalendarStorage);
+        storage = initStorage(userPrefsStorage, userPrefs);
 
         initLogging(config);
 
@@ -90,28 +94,73 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code StorageManager} with the data files in {@code userPrefs}, stored in the storage format in
+     * {@code config}. Binary storages fall back on the json files until their binary files are first saved.
+     */
+    private Storage initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        UserListStorage userListStorage = new JsonUserListStorage(userPrefs.getUserListFilePath());
+        JsonFoodListStorage jsonFoodListStorage = new JsonFoodListStorage(userPrefs.getFoodListFilePath());
+        JsonRecordListStorage jsonRecordListStorage = new JsonRecordListStorage(userPrefs.getRecordListFilePath());
+        JsonCalendarStorage jsonCalendarStorage = new JsonCalendarStorage(userPrefs.getEventListFilePath(),
+                userPrefs.getReminderListFilePath());
+        if (config.getStorageFormat() != StorageFormat.BINARY) {
+            return new StorageManager(userPrefsStorage, userListStorage, jsonFoodListStorage,
+                    jsonRecordListStorage, jsonCalendarStorage);
+        }
+
+        logger.info("Using binary storage for the food list, record list and calendar");
+        return new StorageManager(userPrefsStorage, userListStorage,
+                new BinaryFoodListStorage(getBinaryFilePath(userPrefs.getFoodListFilePath()), jsonFoodListStorage),
+                new BinaryRecordListStorage(getBinaryFilePath(userPrefs.getRecordListFilePath()),
+                        jsonRecordListStorage),
+                new BinaryCalendarStorage(getBinaryFilePath(userPrefs.getEventListFilePath()),
+                        getBinaryFilePath(userPrefs.getReminderListFilePath()), jsonCalendarStorage));
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}.
+     */
+    private Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s SugarMummy and {@code userPrefs}. <br> The
      * data from the sample data will be used instead if {@code storage}'s SugarMummy is not found, or an empty
-     * SugarMummy will be used instead if errors occur when reading {@code storage}'s SugarMummy.
+     * SugarMummy will be used instead if errors occur when reading {@code storage}'s SugarMummy. <br> The data types
+     * are stored in separate files that do not depend on one another, so they are read concurrently.
      */
     private Model initModelManager(ReadOnlyUserPrefs userPrefs) {
-        ReadOnlyUserList initialUserData;
-        ReadOnlyCalendar initialCalendar;
-        UniqueFoodList initialFoodList;
-        UniqueRecordList initialRecordListData;
-
-        initialUserData = (ReadOnlyUserList) getInitialData(LABEL_BIO_DATA_TYPE,
-                SampleUserDataUtil::getSampleUserList, UserList::new);
-        initialFoodList = (UniqueFoodList) getInitialData(LABEL_FOOD_DATA_TYPE,
-                SampleFoodDataUtil::getSampleFoodList, UniqueFoodList::new);
-        initialRecordListData = (UniqueRecordList) getInitialData(LABEL_RECORD_DATA_TYPE,
-                SampleRecordDataUtil::getSampleRecordList, UniqueRecordList::new);
-        initialCalendar = (ReadOnlyCalendar) getInitialData(LABEL_CALENDAR_DATA_TYPE,
-                SampleCalendarDataUtil::getSampleCalendar, Calendar::new);
+        long startTime = System.nanoTime();
+        CompletableFuture<Object> userData = CompletableFuture.supplyAsync(() -> getInitialData(LABEL_BIO_DATA_TYPE,
+                SampleUserDataUtil::getSampleUserList, UserList::new));
+        CompletableFuture<Object> foodList = CompletableFuture.supplyAsync(() -> getInitialData(LABEL_FOOD_DATA_TYPE,
+                SampleFoodDataUtil::getSampleFoodList, UniqueFoodList::new));
+        CompletableFuture<Object> recordList = CompletableFuture.supplyAsync(() -> getInitialData(
+                LABEL_RECORD_DATA_TYPE, SampleRecordDataUtil::getSampleRecordList, UniqueRecordList::new));
+        CompletableFuture<Object> calendar = CompletableFuture.supplyAsync(() -> getInitialData(
+                LABEL_CALENDAR_DATA_TYPE, SampleCalendarDataUtil::getSampleCalendar, Calendar::new));
+
+        ReadOnlyUserList initialUserData = (ReadOnlyUserList) userData.join();
+        UniqueFoodList initialFoodList = (UniqueFoodList) foodList.join();
+        UniqueRecordList initialRecordListData = (UniqueRecordList) recordList.join();
+        ReadOnlyCalendar initialCalendar = (ReadOnlyCalendar) calendar.join();
+        logger.info("Loaded all data in " + getMillisecondsSince(startTime) + " ms");
 
         return new ModelManager(userPrefs, initialUserData, initialFoodList, initialRecordListData,
-                initialCalendar);
+                initialCalendar, new Scheduler());
+    }
+
+    /**
+     * Returns the number of whole milliseconds elapsed since {@code startTime}, as given by {@link System#nanoTime()}.
+     */
+    private long getMillisecondsSince(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
     }
 
     /**
@@ -148,6 +197,7 @@ public class MainApp extends Application {
      */
     private Object getInitialData(String dataType, Supplier<? extends Object> sampleDataSupplier,
                                   Supplier<? extends Object> dataObjectSupplier) {
+        long startTime = System.nanoTime();
         Object initialData;
         try {
             Optional<? extends ReadOnlyData> dataOptional = getOptionalData(dataType);
@@ -163,6 +213,7 @@ public class MainApp extends Application {
                     + dataType + " data file");
             initialData = dataObjectSupplier.get();
         }
+        logger.info("Loaded " + dataType + " data in " + getMillisecondsSince(startTime) + " ms");
         return initialData;
     }
 
@@ -250,11 +301,21 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SugarMummy ] =============================");
+        try {
+            logic.stopSaving();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.compactRecordList(model.getUniqueRecordListObject());
+        } catch (IOException e) {
+            logger.severe("Failed to compact record list " + StringUtil.getDetails(e));
+        }
         logic.stopAllReminders();
     }
 }
@@ -15,6 +15,8 @@ import javax.imageio.ImageIO;
 
 import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
+import seedu.sugarmummy.model.aesthetics.DominantColourCache;
+import seedu.sugarmummy.model.aesthetics.ImageAnalyser;
 
 /**
  * A Serializable class that contains the GUI settings. Guarantees: immutable.
@@ -89,12 +91,16 @@ public class GuiSettings implements Serializable {
         this.fontColour = fontColour.toString();
     }
 
-    public Background getBackground() {
+    /**
+     * Returns the background in these settings, with its dominant colour found using {@code dominantColourCache}.
+     */
+    public Background getBackground(DominantColourCache dominantColourCache) {
         if (background == null
                 || background.isEmpty()) {
             setDefaultAesthetics();
             showDefaultBackground = true;
-        } else if (!Colour.isValidColour(background)) {
+        } else if (!Colour.isValidColour(background)
+                && !ImageAnalyser.hasCachedDominantColour(background, dominantColourCache)) {
             try {
                 Image image = ImageIO.read(new File(background));
                 if (image == null) {
@@ -124,7 +130,7 @@ public class GuiSettings implements Serializable {
             background.setBgRepeat("");
         }
 
-        background.setDominantColour();
+        background.setDominantColour(dominantColourCache);
 
         return background;
     }
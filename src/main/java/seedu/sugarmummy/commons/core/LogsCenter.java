@@ -34,9 +34,10 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger with the given name.
+     * Creates a logger with the given name. Loggers may be created from several threads while the data is loaded, so
+     * the shared handlers are only ever created once.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
@@ -0,0 +1,11 @@
+package seedu.sugarmummy.commons.core;
+
+/**
+ * Represents the format in which the data files of the application are stored.
+ */
+public enum StorageFormat {
+    /** Human-readable json files. */
+    JSON,
+    /** Compact binary files, which are smaller and faster to load than json files. */
+    BINARY
+}
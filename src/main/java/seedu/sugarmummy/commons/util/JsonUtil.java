@@ -1,20 +1,30 @@
 package seedu.sugarmummy.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.sugarmummy.commons.core.LogsCenter;
 import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -93,6 +104,84 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Reads the json object in the given file one element of the array in its field {@code arrayFieldName} at a time,
+     * passing each element to {@code elementConsumer} as soon as it is read, without reading the whole file into
+     * memory. The other fields of the object are ignored. Returns false if the file is not found.
+     *
+     * @param filePath     cannot be null.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @throws DataConversionException if the file format is not as expected, or if {@code elementConsumer} finds
+     *                                 illegal values in an element.
+     */
+    public static <E> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<E> elementClass,
+            JsonArrayElementConsumer<E> elementConsumer) throws DataConversionException {
+        requireAllNonNull(filePath, arrayFieldName, elementClass, elementConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && fieldName.equals(arrayFieldName)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code items} to the specified file as the array in the field {@code arrayFieldName} of a json object,
+     * converting each item with {@code toJsonAdapted} only when it is written. The file is formatted in the same way
+     * as by {@link #saveJsonFile(Object, Path)}. Overwrites existing file if it exists, creates a new file if it
+     * doesn't.
+     *
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> items,
+            Function<? super T, ?> toJsonAdapted) throws IOException {
+        requireAllNonNull(filePath, arrayFieldName, items, toJsonAdapted);
+        FileUtil.writeToFile(filePath, outputStream ->
+                writeJsonArray(outputStream, arrayFieldName, items, toJsonAdapted));
+    }
+
+    /**
+     * Writes {@code items} to {@code outputStream} as described in {@link #saveJsonArrayFile(Path, String, Iterable,
+     * Function)}.
+     */
+    private static <T> void writeJsonArray(OutputStream outputStream, String arrayFieldName, Iterable<T> items,
+            Function<? super T, ?> toJsonAdapted) throws IOException {
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (T item : items) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(item));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      *
@@ -114,6 +203,30 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a JSON data string representation that fits on a single line.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Consumes the elements of a json array as they are read.
+     */
+    @FunctionalInterface
+    public interface JsonArrayElementConsumer<E> {
+        /**
+         * Consumes {@code element}.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in {@code element}.
+         */
+        void accept(E element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
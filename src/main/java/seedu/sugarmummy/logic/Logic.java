@@ -1,10 +1,12 @@
 package seedu.sugarmummy.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.ObservableList;
@@ -20,6 +22,7 @@ import seedu.sugarmummy.model.aesthetics.Colour;
 import seedu.sugarmummy.model.biography.ReadOnlyUserList;
 import seedu.sugarmummy.model.biography.User;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
 import seedu.sugarmummy.model.recmf.Food;
 import seedu.sugarmummy.model.records.Record;
@@ -41,6 +44,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Blocks until all data modified by the commands executed so far has been saved to the hard disk.
+     *
+     * @throws IOException If an error occurred while saving the data.
+     */
+    void flushPendingSaves() throws IOException;
+
+    /**
+     * Blocks until all data modified by the commands executed so far has been saved to the hard disk, and then stops
+     * saving data in the background. No command that modifies data may be executed afterwards.
+     *
+     * @throws IOException If an error occurred while saving the data.
+     */
+    void stopSaving() throws IOException;
+
+    /**
+     * Sets the handler that is given the message of every error that occurs while saving data in the background, as
+     * soon as it occurs. The handler is called on the background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the {@code DisplayPaneType} for updating the main pane based on different commands.
      */
@@ -129,6 +153,11 @@ public interface Logic {
      */
     ObservableList<CalendarEntry> getPastReminderList();
 
+    /**
+     * Returns the calendar entries grouped by the dates they are on.
+     */
+    CalendarEntryDateIndex getCalendarEntryDateIndex();
+
     /**
      * Reschedule upcoming reminders.
      */
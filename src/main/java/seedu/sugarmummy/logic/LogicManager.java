@@ -1,11 +1,14 @@
 package seedu.sugarmummy.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleStringProperty;
@@ -24,13 +27,19 @@ import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
 import seedu.sugarmummy.model.biography.ReadOnlyUserList;
 import seedu.sugarmummy.model.biography.User;
+import seedu.sugarmummy.model.biography.UserList;
+import seedu.sugarmummy.model.calendar.Calendar;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
 import seedu.sugarmummy.model.recmf.Food;
+import seedu.sugarmummy.model.recmf.UniqueFoodList;
 import seedu.sugarmummy.model.records.Record;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.time.Today;
+import seedu.sugarmummy.storage.BackgroundSaver;
 import seedu.sugarmummy.storage.Storage;
+import seedu.sugarmummy.storage.records.SavedRecordList;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
 /**
@@ -38,11 +47,20 @@ import seedu.sugarmummy.ui.DisplayPaneType;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    private static final String LABEL_USER_LIST = "user list";
+    private static final String LABEL_FOOD_LIST = "food list";
+    private static final String LABEL_RECORD_LIST = "record list";
+    private static final String LABEL_CALENDAR = "calendar";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final SugarMummyParser sugarMummyParser;
+    private final BackgroundSaver backgroundSaver;
+    private final SavedRecordList savedRecordList;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
     private DisplayPaneType displayPaneType;
     private boolean newPaneIsToBeCreated;
 
@@ -50,6 +68,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         sugarMummyParser = new SugarMummyParser();
+        backgroundSaver = new BackgroundSaver(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+        savedRecordList = new SavedRecordList(model.getUniqueRecordListObject());
     }
 
     @Override
@@ -62,18 +82,90 @@ public class LogicManager implements Logic {
         newPaneIsToBeCreated = command.isToCreateNewPane();
         commandResult = command.execute(model);
 
-        try {
-            storage.saveUserList(model.getUserList());
-            storage.saveFoodList(model.getUniqueFoodListObject());
-            storage.saveRecordList(model.getUniqueRecordListObject());
-            storage.saveCalendar(model.getCalendar());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        if (!command.isReadOnly()) {
+            saveModifiedData();
         }
 
         return commandResult;
     }
 
+    /**
+     * Submits snapshots of the data that has been modified since it was last saved to be written in the background.
+     * Only the elements of the user list, food list and calendar are copied, while the data stores themselves are
+     * rebuilt from the copies in the background. Only the changes made to the record list are copied, unless they
+     * cannot be replayed.
+     */
+    private void saveModifiedData() {
+        if (model.isUserListModified()) {
+            List<User> users = List.copyOf(model.getUserList().getUserList());
+            backgroundSaver.submit(LABEL_USER_LIST, users, snapshot -> storage.saveUserList(toUserList(snapshot)));
+        }
+        if (model.isFoodListModified()) {
+            List<Food> foods = List.copyOf(model.getFoodList());
+            backgroundSaver.submit(LABEL_FOOD_LIST, foods, snapshot -> storage.saveFoodList(toFoodList(snapshot)));
+        }
+        if (model.isRecordListModified()) {
+            SavedRecordList.Update update = savedRecordList.createUpdate(model.getUniqueRecordListObject());
+            backgroundSaver.submit(LABEL_RECORD_LIST, update, this::saveRecordListUpdate,
+                    SavedRecordList.Update::followedBy);
+        }
+        if (model.isCalendarModified()) {
+            List<CalendarEntry> entries = List.copyOf(model.getCalendar().getCalendarEntryList());
+            backgroundSaver.submit(LABEL_CALENDAR, entries, snapshot -> storage.saveCalendar(toCalendar(snapshot)));
+        }
+        model.markAllDataAsSaved();
+    }
+
+    /**
+     * Saves the record list after applying {@code update} to the copy of the record list as it is saved.
+     */
+    private void saveRecordListUpdate(SavedRecordList.Update update) throws IOException {
+        savedRecordList.save(update, storage::saveRecordListChanges);
+    }
+
+    /**
+     * Returns a user list of {@code users}, rebuilt from a snapshot in the background.
+     */
+    private static UserList toUserList(List<User> users) {
+        UserList userList = new UserList();
+        userList.setUsers(users);
+        return userList;
+    }
+
+    /**
+     * Returns a food list of {@code foods}, rebuilt from a snapshot in the background.
+     */
+    private static UniqueFoodList toFoodList(List<Food> foods) {
+        UniqueFoodList foodList = new UniqueFoodList();
+        foodList.setFoods(foods);
+        return foodList;
+    }
+
+    /**
+     * Returns a calendar of {@code calendarEntries}, rebuilt from a snapshot in the background.
+     */
+    private static Calendar toCalendar(List<CalendarEntry> calendarEntries) {
+        Calendar calendar = new Calendar();
+        calendar.setCalendarEntries(calendarEntries);
+        return calendar;
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        backgroundSaver.flush();
+    }
+
+    @Override
+    public void stopSaving() throws IOException {
+        backgroundSaver.shutdown();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     //=========== General =============================================================
 
     @Override
@@ -161,6 +253,11 @@ public class LogicManager implements Logic {
         return model.getPastReminderList();
     }
 
+    @Override
+    public CalendarEntryDateIndex getCalendarEntryDateIndex() {
+        return model.getCalendarEntryDateIndex();
+    }
+
     @Override
     public void schedule() {
         model.schedule();
@@ -34,4 +34,12 @@ public abstract class Command {
         return false;
     }
 
+    /**
+     * Returns true if the command does not modify any data that is saved to the hard disk, in which case saving can
+     * be skipped after the command is executed.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
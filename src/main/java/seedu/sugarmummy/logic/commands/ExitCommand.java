@@ -21,4 +21,9 @@ public class ExitCommand extends Command {
     public DisplayPaneType getDisplayPaneType() {
         return DisplayPaneType.NONE;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -61,4 +61,9 @@ public class AchvmCommand extends Command {
     public boolean isToCreateNewPane() {
         return true;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -105,7 +105,7 @@ public class BackgroundCommand extends Command {
         }
 
         background.merge(previousBackground);
-        background.setDominantColour();
+        background.setDominantColour(model.getUserPrefs().getDominantColourCache());
 
         assert background.getDominantColour() != null;
 
@@ -67,6 +67,7 @@ public class FontColourCommand extends Command {
 
         if (backgroundCommand != null) {
             backgroundCommand.getBackground().merge(model.getBackground());
+            backgroundCommand.getBackground().setDominantColour(model.getUserPrefs().getDominantColourCache());
         }
 
         Colour bgColourToCompare = backgroundCommand == null || (backgroundCommand.getBackground().isEmpty())
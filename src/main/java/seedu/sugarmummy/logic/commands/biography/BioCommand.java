@@ -24,4 +24,9 @@ public class BioCommand extends Command {
     public DisplayPaneType getDisplayPaneType() {
         return DisplayPaneType.BIO;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -101,4 +101,9 @@ public class CalendarCommand extends Command {
     public boolean isToCreateNewPane() {
         return true;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -13,7 +13,6 @@ import seedu.sugarmummy.logic.commands.CommandResult;
 import seedu.sugarmummy.logic.commands.exceptions.CommandException;
 import seedu.sugarmummy.model.Model;
 import seedu.sugarmummy.model.recmf.Food;
-import seedu.sugarmummy.model.recmf.FoodComparator;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
 /**
@@ -55,7 +54,6 @@ public class AddFoodCommand extends Command {
         }
 
         model.addFood(toAdd);
-        model.sortFoodList(new FoodComparator(FoodComparator.DEFAULT_SORT_ORDER_STRING));
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
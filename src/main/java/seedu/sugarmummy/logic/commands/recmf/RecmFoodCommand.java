@@ -2,15 +2,13 @@ package seedu.sugarmummy.logic.commands.recmf;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.sugarmummy.logic.commands.Command;
 import seedu.sugarmummy.logic.commands.CommandResult;
 import seedu.sugarmummy.logic.commands.exceptions.CommandException;
 import seedu.sugarmummy.model.Model;
-import seedu.sugarmummy.model.recmf.Food;
 import seedu.sugarmummy.model.recmf.FoodComparator;
 import seedu.sugarmummy.model.recmf.FoodType;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
 import seedu.sugarmummy.model.recmf.predicates.FoodTypeIsWantedPredicate;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
@@ -25,6 +23,8 @@ public class RecmFoodCommand extends Command {
             + "Flags are based on the following food types: "
             + FoodType.getAllTypesInfo() + "\n"
             + "Usage: " + COMMAND_WORD + " [-FLAG]... [fn/FOOD_NAME...] [±sort/SORT_ORDER_TYPE]\n"
+            + "A food name ending with " + FoodNameContainsKeywordsPredicate.PREFIX_WILDCARD
+            + " matches the names with a word starting with it.\n"
             + "Example: recmf -p -nsv +sort/gi";
 
     public static final String MESSAGE_RESPONSE_EMPTY_FOOD_LIST = "Oops! There is no food to recommend :(\n"
@@ -32,10 +32,10 @@ public class RecmFoodCommand extends Command {
     private static final String MESSAGE_RESPONSE_NORMAL_LIST = "Hope you like what I've found for you~";
 
     private final FoodTypeIsWantedPredicate typePredicate;
-    private final Predicate<Food> namePredicate;
+    private final FoodNameContainsKeywordsPredicate namePredicate;
     private final FoodComparator foodComparator;
 
-    public RecmFoodCommand(FoodTypeIsWantedPredicate typePredicate, Predicate<Food> foodNamePredicate,
+    public RecmFoodCommand(FoodTypeIsWantedPredicate typePredicate, FoodNameContainsKeywordsPredicate foodNamePredicate,
                            FoodComparator foodComparator) {
         this.typePredicate = typePredicate;
         this.namePredicate = foodNamePredicate;
@@ -45,8 +45,7 @@ public class RecmFoodCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredFoodList(typePredicate.and(namePredicate));
-        model.sortFoodList(foodComparator);
+        model.updateFilteredFoodList(typePredicate, namePredicate, foodComparator);
         if (model.getFilterFoodList().size() == 0) {
             return new CommandResult(MESSAGE_RESPONSE_EMPTY_FOOD_LIST);
         }
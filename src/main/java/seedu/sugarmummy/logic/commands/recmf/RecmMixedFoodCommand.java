@@ -1,6 +1,7 @@
 package seedu.sugarmummy.logic.commands.recmf;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.sugarmummy.commons.util.AppUtil.checkArgument;
 
 import seedu.sugarmummy.logic.commands.Command;
 import seedu.sugarmummy.logic.commands.CommandResult;
@@ -9,23 +10,52 @@ import seedu.sugarmummy.model.Model;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
 /**
- * Recommends a combination of foods one from each type.
+ * Recommends one or more combinations of foods one from each type.
  */
 public class RecmMixedFoodCommand extends Command {
 
     public static final String COMMAND_WORD = "recmfmix";
+    public static final int MAX_NUMBER_OF_COMBINATIONS = 10;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Recommends combinations of one food from each type, "
+            + "ranked by their total sugar and then their average GI.\n"
+            + "Usage: " + COMMAND_WORD + " [NUMBER_OF_COMBINATIONS]\n"
+            + "NUMBER_OF_COMBINATIONS should be a positive integer no more than " + MAX_NUMBER_OF_COMBINATIONS
+            + ", and is 1 if not given.\n"
+            + "Example: " + COMMAND_WORD + " 3";
     public static final String MESSAGE_SUCCESS = "Hope you like this combination~\n"
             + "If not, try retyping this command again to see other possible combinations =)";
-    private static final String MESSAGE_RESPONSE_EMPTY_FOOD_LIST = "No enough food data to get any combination. =(\n"
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Here are %1$d combinations, starting from the one with the "
+            + "least sugar~";
+    public static final String MESSAGE_RESPONSE_EMPTY_FOOD_LIST = "No enough food data to get any combination. =(\n"
             + "Try typing \"resetf\" to get some sample data!";
 
+    private final int numberOfCombinations;
+
+    public RecmMixedFoodCommand() {
+        this(1);
+    }
+
+    /**
+     * Constructs a command that recommends {@code numberOfCombinations} combinations.
+     *
+     * @throws IllegalArgumentException if {@code numberOfCombinations} is not from 1 to
+     * {@link #MAX_NUMBER_OF_COMBINATIONS}.
+     */
+    public RecmMixedFoodCommand(int numberOfCombinations) {
+        checkArgument(numberOfCombinations > 0 && numberOfCombinations <= MAX_NUMBER_OF_COMBINATIONS, MESSAGE_USAGE);
+        this.numberOfCombinations = numberOfCombinations;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        model.updateMixedFoodList(numberOfCombinations);
         if (model.getMixedFoodList().size() == 0) {
-            return new CommandResult(String.format(MESSAGE_RESPONSE_EMPTY_FOOD_LIST));
+            return new CommandResult(MESSAGE_RESPONSE_EMPTY_FOOD_LIST);
+        } else if (numberOfCombinations == 1) {
+            return new CommandResult(MESSAGE_SUCCESS);
         } else {
-            return new CommandResult(String.format(MESSAGE_SUCCESS));
+            return new CommandResult(String.format(MESSAGE_SUCCESS_MULTIPLE, numberOfCombinations));
         }
     }
 
@@ -38,4 +68,21 @@ public class RecmMixedFoodCommand extends Command {
     public boolean isToCreateNewPane() {
         return true;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecmMixedFoodCommand // instanceof handles nulls
+                && numberOfCombinations == ((RecmMixedFoodCommand) other).numberOfCombinations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(numberOfCombinations);
+    }
 }
@@ -30,4 +30,9 @@ public class ListCommand extends Command {
         return DisplayPaneType.LIST;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
 }
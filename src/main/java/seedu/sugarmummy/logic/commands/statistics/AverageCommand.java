@@ -8,7 +8,6 @@ import seedu.sugarmummy.logic.commands.exceptions.CommandException;
 import seedu.sugarmummy.model.Model;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.statistics.AverageType;
-import seedu.sugarmummy.model.statistics.predicates.RecordContainsRecordTypePredicate;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
 //@@author chen-xi-cx
@@ -39,25 +38,20 @@ public class AverageCommand extends Command {
 
     private final RecordType recordType;
 
-    private final RecordContainsRecordTypePredicate recordContainsRecordTypePredicate;
-
     private final int count;
 
-    public AverageCommand(RecordContainsRecordTypePredicate recordContainsRecordTypePredicate,
-            AverageType averageType, RecordType recordType, int count) {
+    public AverageCommand(AverageType averageType, RecordType recordType, int count) {
         requireNonNull(averageType);
         requireNonNull(recordType);
         this.averageType = averageType;
         this.recordType = recordType;
         this.count = count;
-        this.recordContainsRecordTypePredicate = recordContainsRecordTypePredicate;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredRecordList(recordContainsRecordTypePredicate);
         model.calculateAverageMap(averageType, recordType, count);
 
         if (model.getAverageMap().isEmpty()) {
@@ -72,13 +66,17 @@ public class AverageCommand extends Command {
         return DisplayPaneType.AVERAGE;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AverageCommand // instanceof handles nulls
                 && averageType.equals(((AverageCommand) other).averageType) // state check
                 && recordType.equals(((AverageCommand) other).recordType)
-                && count == ((AverageCommand) other).count)
-                && recordContainsRecordTypePredicate.equals(((AverageCommand) other).recordContainsRecordTypePredicate);
+                && count == ((AverageCommand) other).count);
     }
 }
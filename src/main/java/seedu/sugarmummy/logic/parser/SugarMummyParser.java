@@ -40,6 +40,7 @@ import seedu.sugarmummy.logic.parser.exceptions.ParseException;
 import seedu.sugarmummy.logic.parser.recmf.AddFoodCommandParser;
 import seedu.sugarmummy.logic.parser.recmf.DeleteFoodCommandParser;
 import seedu.sugarmummy.logic.parser.recmf.RecmFoodCommandParser;
+import seedu.sugarmummy.logic.parser.recmf.RecmMixedFoodCommandParser;
 import seedu.sugarmummy.logic.parser.records.AddCommandParser;
 import seedu.sugarmummy.logic.parser.records.DeleteCommandParser;
 import seedu.sugarmummy.logic.parser.statistics.AverageCommandParser;
@@ -103,7 +104,7 @@ public class SugarMummyParser {
             return new RecmFoodCommandParser().parse(arguments);
 
         case RecmMixedFoodCommand.COMMAND_WORD:
-            return new RecmMixedFoodCommand();
+            return new RecmMixedFoodCommandParser().parse(arguments);
 
         case AddFoodCommand.COMMAND_WORD:
             return new AddFoodCommandParser().parse(arguments);
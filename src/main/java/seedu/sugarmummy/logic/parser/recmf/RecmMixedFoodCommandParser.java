@@ -0,0 +1,29 @@
+package seedu.sugarmummy.logic.parser.recmf;
+
+import static seedu.sugarmummy.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.sugarmummy.commons.util.StringUtil;
+import seedu.sugarmummy.logic.commands.recmf.RecmMixedFoodCommand;
+import seedu.sugarmummy.logic.parser.Parser;
+import seedu.sugarmummy.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RecmMixedFoodCommand object.
+ */
+public class RecmMixedFoodCommandParser implements Parser<RecmMixedFoodCommand> {
+
+    @Override
+    public RecmMixedFoodCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new RecmMixedFoodCommand();
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)
+                || Integer.parseInt(trimmedArgs) > RecmMixedFoodCommand.MAX_NUMBER_OF_COMBINATIONS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    RecmMixedFoodCommand.MESSAGE_USAGE));
+        }
+        return new RecmMixedFoodCommand(Integer.parseInt(trimmedArgs));
+    }
+}
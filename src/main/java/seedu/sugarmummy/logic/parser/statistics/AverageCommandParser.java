@@ -20,7 +20,6 @@ import seedu.sugarmummy.logic.parser.Prefix;
 import seedu.sugarmummy.logic.parser.exceptions.ParseException;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.statistics.AverageType;
-import seedu.sugarmummy.model.statistics.predicates.RecordContainsRecordTypePredicate;
 
 //@@author chen-xi-cx
 
@@ -73,7 +72,7 @@ public class AverageCommandParser implements Parser<AverageCommand> {
 
         int count = Integer.parseInt(strCount);
 
-        return new AverageCommand(new RecordContainsRecordTypePredicate(recordType), averageType, recordType, count);
+        return new AverageCommand(averageType, recordType, count);
     }
 
 }
@@ -17,12 +17,15 @@ import seedu.sugarmummy.model.aesthetics.Colour;
 import seedu.sugarmummy.model.biography.ReadOnlyUserList;
 import seedu.sugarmummy.model.biography.User;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
 import seedu.sugarmummy.model.calendar.Reminder;
 import seedu.sugarmummy.model.recmf.Food;
 import seedu.sugarmummy.model.recmf.FoodComparator;
 import seedu.sugarmummy.model.recmf.FoodName;
 import seedu.sugarmummy.model.recmf.UniqueFoodList;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
+import seedu.sugarmummy.model.recmf.predicates.FoodTypeIsWantedPredicate;
 import seedu.sugarmummy.model.records.Record;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.records.UniqueRecordList;
@@ -96,21 +99,25 @@ public interface Model {
     ObservableList<Food> getFilterFoodList();
 
     /**
-     * Updates the filter of the filtered food list to filter by the given {@code predicate}.
+     * Updates the filtered food list to show the foods of the types wanted by {@code typePredicate} that satisfy
+     * {@code namePredicate}, sorted by {@code foodComparator}. The food list itself is not changed.
      *
-     * @throws NullPointerException if {@code predicate} is null.
+     * @throws NullPointerException if any of the arguments is null.
      */
-    void updateFilteredFoodList(Predicate<Food> predicate);
+    void updateFilteredFoodList(FoodTypeIsWantedPredicate typePredicate,
+            FoodNameContainsKeywordsPredicate namePredicate,
+            FoodComparator foodComparator);
 
     /**
-     * Sorts the food list based on the given {@code FoodComparator}.
+     * Returns an unmodifiable view of the mix of foods from each food type.
      */
-    void sortFoodList(FoodComparator foodComparator);
+    ObservableList<Food> getMixedFoodList();
 
     /**
-     * Returns an unmodifiable view of the mix of foods from each food type.
+     * Updates the mixed food list to show {@code numberOfCombinations} random combinations of one food from each food
+     * type, ranked by their total sugar and then their average GI.
      */
-    ObservableList<Food> getMixedFoodList();
+    void updateMixedFoodList(int numberOfCombinations);
 
 
     //==================RECORD====================
@@ -303,6 +310,11 @@ public interface Model {
      */
     ObservableList<CalendarEntry> getPastReminderList();
 
+    /**
+     * Returns the calendar entries grouped by the dates they are on.
+     */
+    CalendarEntryDateIndex getCalendarEntryDateIndex();
+
     /**
      * Reschedule upcoming reminders.
      */
@@ -379,5 +391,32 @@ public interface Model {
      */
     boolean currAchievementsMapIsSameAs(Map<RecordType, List<Achievement>> prevAchievementMap);
 
+    //=========== Persistence =============================================================
+
+    /**
+     * Returns true if the user list has been modified since it was last saved.
+     */
+    boolean isUserListModified();
+
+    /**
+     * Returns true if the food list has been modified since it was last saved.
+     */
+    boolean isFoodListModified();
+
+    /**
+     * Returns true if the record list has been modified since it was last saved.
+     */
+    boolean isRecordListModified();
+
+    /**
+     * Returns true if the calendar has been modified since it was last saved.
+     */
+    boolean isCalendarModified();
+
+    /**
+     * Marks the user list, food list, record list and calendar as saved.
+     */
+    void markAllDataAsSaved();
+
 
 }
@@ -34,12 +34,16 @@ import seedu.sugarmummy.model.biography.User;
 import seedu.sugarmummy.model.biography.UserList;
 import seedu.sugarmummy.model.calendar.Calendar;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
 import seedu.sugarmummy.model.calendar.Reminder;
+import seedu.sugarmummy.model.calendar.Scheduler;
 import seedu.sugarmummy.model.recmf.Food;
 import seedu.sugarmummy.model.recmf.FoodComparator;
 import seedu.sugarmummy.model.recmf.FoodName;
 import seedu.sugarmummy.model.recmf.UniqueFoodList;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
+import seedu.sugarmummy.model.recmf.predicates.FoodTypeIsWantedPredicate;
 import seedu.sugarmummy.model.records.Record;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.records.UniqueRecordList;
@@ -58,7 +62,6 @@ public class ModelManager implements Model {
     private final UserList userList;
 
     private final UniqueFoodList foodList;
-    private final FilteredList<Food> filteredFoodList;
 
     private final UniqueRecordList recordList;
     private final FilteredList<Record> filteredRecordList;
@@ -66,22 +69,26 @@ public class ModelManager implements Model {
     private final Calendar calendar;
     private final FilteredList<CalendarEntry> filteredCalenderEntryList;
     private final FilteredList<CalendarEntry> pastReminderList;
+    private final CalendarEntryDateIndex calendarEntryDateIndex;
+    private final Scheduler scheduler;
 
     private final AverageMap averageMap;
     private final List<String> motivationalQuotesList;
     private final Map<RecordType, List<Achievement>> achievementsMap;
+    private final AchievementStateProcessor achievementStateProcessor;
 
     private boolean achievementsHaveBeenAttained;
     private boolean achievementsHaveBeenLost;
 
     /**
-     * Initializes a ModelManager with the given data and userPrefs.
+     * Initializes a ModelManager with the given data and userPrefs, whose reminders are scheduled by
+     * {@code scheduler}.
      */
     public ModelManager(ReadOnlyUserPrefs userPrefs, ReadOnlyUserList userList,
                         UniqueFoodList foodList, UniqueRecordList recordList,
-                        ReadOnlyCalendar calendar) {
+                        ReadOnlyCalendar calendar, Scheduler scheduler) {
         super();
-        requireAllNonNull(userPrefs, foodList, userList, recordList, calendar);
+        requireAllNonNull(userPrefs, foodList, userList, recordList, calendar, scheduler);
 
         logger.fine("Initializing with and user prefs " + userPrefs
                 + " and food map: " + foodList + " and record list: " + recordList + " and calendar: " + calendar);
@@ -90,18 +97,32 @@ public class ModelManager implements Model {
         this.userList = new UserList(userList);
         this.filteredUserList = new FilteredList<>(this.userList.getUserList());
         this.foodList = foodList;
-        this.filteredFoodList = new FilteredList<>(this.foodList.getUnmodifiableObservableList());
         this.recordList = recordList;
         this.filteredRecordList = new FilteredList<>(this.recordList.asUnmodifiableObservableList());
         this.calendar = new Calendar(calendar);
         this.filteredCalenderEntryList = new FilteredList<>(this.calendar.getCalendarEntryList());
         this.pastReminderList = new FilteredList<>(this.calendar.getPastReminderList());
-        this.averageMap = new AverageMap();
+        this.calendarEntryDateIndex = new CalendarEntryDateIndex(this.calendar.getCalendarEntryList());
+        this.scheduler = scheduler;
+        this.averageMap = new AverageMap(this.recordList.asUnmodifiableObservableList());
         this.motivationalQuotesList = MOTIVATIONAL_QUOTES_LIST;
         this.achievementsMap = ACHIEVEMENTS_MAP;
+        this.achievementStateProcessor = new AchievementStateProcessor(achievementsMap,
+                this.recordList.asUnmodifiableObservableList(), averageMap);
         this.achievementsHaveBeenAttained = false;
         this.achievementsHaveBeenLost = false;
         getNewAchievementStates();
+        markAllDataAsSaved();
+    }
+
+    /**
+     * Initializes a ModelManager with the given data and userPrefs, whose reminders are scheduled by a scheduler of
+     * its own.
+     */
+    public ModelManager(ReadOnlyUserPrefs userPrefs, ReadOnlyUserList userList,
+                        UniqueFoodList foodList, UniqueRecordList recordList,
+                        ReadOnlyCalendar calendar) {
+        this(userPrefs, userList, foodList, recordList, calendar, new Scheduler());
     }
 
     public ModelManager() {
@@ -150,7 +171,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return userPrefs.equals(other.userPrefs)
                 && filteredUserList.equals(other.filteredUserList)
-                && filteredFoodList.equals(other.filteredFoodList)
+                && foodList.getFilteredList().equals(other.foodList.getFilteredList())
                 && filteredRecordList.equals(other.filteredRecordList)
                 && averageMap.equals(other.averageMap);
     }
@@ -282,7 +303,7 @@ public class ModelManager implements Model {
 
     @Override
     public void addPastReminders(List<Reminder> reminders) {
-        calendar.addPastReminders(reminders);
+        calendar.addPastReminders(reminders, scheduler.getTodayDate());
     }
 
     @Override
@@ -301,24 +322,29 @@ public class ModelManager implements Model {
         return pastReminderList;
     }
 
+    @Override
+    public CalendarEntryDateIndex getCalendarEntryDateIndex() {
+        return calendarEntryDateIndex;
+    }
+
     @Override
     public void schedule() {
-        calendar.schedule();
+        scheduler.schedule(calendar);
     }
 
     @Override
     public void stopAllReminders() {
-        calendar.stopAllReminders();
+        scheduler.stopAll();
     }
 
     @Override
     public Today getToday() {
-        return calendar.getToday();
+        return scheduler.getToday();
     }
 
     @Override
     public LocalDateTime getAppStartingDateTime() {
-        return calendar.getAppStartingDateTime();
+        return scheduler.getAppStartingDateTime();
     }
 
     @Override
@@ -386,13 +412,15 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Food> getFilterFoodList() {
-        return filteredFoodList;
+        return foodList.getFilteredList();
     }
 
     @Override
-    public void updateFilteredFoodList(Predicate<Food> predicate) {
-        requireNonNull(predicate);
-        filteredFoodList.setPredicate(predicate);
+    public void updateFilteredFoodList(FoodTypeIsWantedPredicate typePredicate,
+            FoodNameContainsKeywordsPredicate namePredicate,
+            FoodComparator foodComparator) {
+        requireAllNonNull(typePredicate, namePredicate, foodComparator);
+        foodList.updateFilteredList(typePredicate.getWantedFoodTypes(), namePredicate, foodComparator);
     }
 
     @Override
@@ -401,9 +429,8 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortFoodList(FoodComparator foodComparator) {
-        requireNonNull(foodComparator);
-        foodList.sortFoods(foodComparator);
+    public void updateMixedFoodList(int numberOfCombinations) {
+        foodList.updateMixedFoodList(numberOfCombinations);
     }
 
     //=========== Records =============================================================
@@ -466,7 +493,7 @@ public class ModelManager implements Model {
 
     @Override
     public void calculateAverageMap(AverageType averageType, RecordType recordType, int count) {
-        averageMap.calculateAverage(getFilterRecordList(), averageType, recordType, count);
+        averageMap.calculateAverage(averageType, recordType, count);
     }
 
     @Override
@@ -524,7 +551,7 @@ public class ModelManager implements Model {
      * Returns the set of changes made to the list of achievements stored in this program, if any.
      */
     private Set<AchievementState> getNewAchievementStates() {
-        return (new AchievementStateProcessor(this)).getNewAchievementStates();
+        return achievementStateProcessor.getNewAchievementStates();
     }
 
     @Override
@@ -532,5 +559,35 @@ public class ModelManager implements Model {
         return AchievementsMap.currAchievementsMapIsSameAs(prevAchievemenstMap);
     }
 
+    //=========== Persistence =============================================================
+
+    @Override
+    public boolean isUserListModified() {
+        return userList.isModified();
+    }
+
+    @Override
+    public boolean isFoodListModified() {
+        return foodList.isModified();
+    }
+
+    @Override
+    public boolean isRecordListModified() {
+        return recordList.isModified();
+    }
+
+    @Override
+    public boolean isCalendarModified() {
+        return calendar.isModified();
+    }
+
+    @Override
+    public void markAllDataAsSaved() {
+        userList.markAsSaved();
+        foodList.markAsSaved();
+        recordList.markAsSaved();
+        calendar.markAsSaved();
+    }
+
 
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import seedu.sugarmummy.commons.core.GuiSettings;
 import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
+import seedu.sugarmummy.model.aesthetics.DominantColourCache;
 
 /**
  * Unmodifiable view of user prefs.
@@ -35,4 +36,9 @@ public interface ReadOnlyUserPrefs extends ReadOnlyData {
      */
     void setBackground(Background background);
 
+    /**
+     * Returns the cache of the dominant colours of background images, which is saved to the user preferences file.
+     */
+    DominantColourCache getDominantColourCache();
+
 }
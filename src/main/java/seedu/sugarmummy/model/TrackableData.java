@@ -0,0 +1,17 @@
+package seedu.sugarmummy.model;
+
+/**
+ * Represents a data holder that keeps track of whether it has been modified since it was last saved.
+ */
+public interface TrackableData {
+
+    /**
+     * Returns true if the data has been modified since it was last marked as saved.
+     */
+    boolean isModified();
+
+    /**
+     * Marks the current state of the data as saved.
+     */
+    void markAsSaved();
+}
@@ -9,6 +9,7 @@ import java.util.Objects;
 import seedu.sugarmummy.commons.core.GuiSettings;
 import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
+import seedu.sugarmummy.model.aesthetics.DominantColourCache;
 
 /**
  * Represents User's preferences.
@@ -22,6 +23,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path recordListFilePath = Paths.get("data", "recordlist.json");
     private Path eventListFilePath = Paths.get("data", "eventlist.json");
     private Path reminderListFilePath = Paths.get("data", "reminderlist.json");
+    private DominantColourCache dominantColourCache = new DominantColourCache();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -44,6 +46,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDominantColourCache(newUserPrefs.getDominantColourCache());
     }
 
     public GuiSettings getGuiSettings() {
@@ -90,7 +93,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     @Override
     public Background getBackground() {
-        return this.guiSettings.getBackground();
+        return this.guiSettings.getBackground(dominantColourCache);
     }
 
     @Override
@@ -99,6 +102,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings.setBackground(background);
     }
 
+    @Override
+    public DominantColourCache getDominantColourCache() {
+        return dominantColourCache;
+    }
+
+    public void setDominantColourCache(DominantColourCache dominantColourCache) {
+        requireNonNull(dominantColourCache);
+        this.dominantColourCache = dominantColourCache;
+    }
+
     //=========== Food Map =============================================================
 
 
@@ -1,32 +1,33 @@
 package seedu.sugarmummy.model.achievements;
 
-import static seedu.sugarmummy.model.Model.PREDICATE_SHOW_ALL_RECORDS;
+import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.sugarmummy.model.achievements.AchievementState.ACHIEVED;
 import static seedu.sugarmummy.model.achievements.AchievementState.PREVIOUSLY_ACHIEVED;
 import static seedu.sugarmummy.model.achievements.AchievementState.YET_TO_ACHIEVE;
 import static seedu.sugarmummy.model.achievements.DurationUnit.MONTH;
 import static seedu.sugarmummy.model.achievements.DurationUnit.WEEK;
 import static seedu.sugarmummy.model.achievements.DurationUnit.YEAR;
-import static seedu.sugarmummy.model.statistics.AverageType.DAILY;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
-import seedu.sugarmummy.model.Model;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.sugarmummy.model.records.Record;
 import seedu.sugarmummy.model.records.RecordType;
-import seedu.sugarmummy.model.statistics.predicates.RecordContainsRecordTypePredicate;
+import seedu.sugarmummy.model.statistics.AverageMap;
 
 /**
  * Class that processes the changes made to the list of achievements stored in this program, if any.
+ * <p>
+ * The streaks of consecutive days that the requirements of the achievements are based on are kept up to date as
+ * records are added or removed. Only the days whose records have changed since the last time the achievements were
+ * processed are looked at again, so processing does not depend on the number of records stored.
  */
 public class AchievementStateProcessor {
 
@@ -35,46 +36,84 @@ public class AchievementStateProcessor {
     private static final int MONTH_IN_DAYS = 30;
     private static final int YEAR_IN_DAYS = 365;
 
-    private Model model;
-    private Map<RecordType, Map<LocalDate, Double>> averageRecordMap;
+    private final Map<RecordType, List<Achievement>> achievementsMap;
+    private final AverageMap averageMap;
+    private final Map<RecordType, Set<LocalDate>> changedDays = new EnumMap<>(RecordType.class);
+    private final Map<RecordType, Map<String, DailyStreakTracker>> streakTrackers = new EnumMap<>(RecordType.class);
     private Set<AchievementState> newStatesSet;
-    private Set<RecordType> recordTypeSet;
 
-    public AchievementStateProcessor(Model model) {
-        this.model = model;
-        averageRecordMap = new HashMap<>();
-        newStatesSet = new HashSet<>();
-        recordTypeSet = new HashSet<>(model.getAchievementsMap().keySet());
+    /**
+     * Constructs an {@code AchievementStateProcessor} that processes the achievements in {@code achievementsMap}
+     * based on the records in {@code recordList}, whose daily averages are given by {@code averageMap}.
+     */
+    public AchievementStateProcessor(Map<RecordType, List<Achievement>> achievementsMap,
+            ObservableList<Record> recordList, AverageMap averageMap) {
+        requireAllNonNull(achievementsMap, recordList, averageMap);
+        this.achievementsMap = achievementsMap;
+        this.averageMap = averageMap;
+
+        for (List<Achievement> achievementList : achievementsMap.values()) {
+            for (Achievement achievement : achievementList) {
+                streakTrackers.computeIfAbsent(achievement.getRecordType(), recordType -> new HashMap<>())
+                        .computeIfAbsent(getRange(achievement), range ->
+                                new DailyStreakTracker(achievement.getMinimum(), achievement.getMaximum()));
+            }
+        }
+
+        recordList.forEach(this::markDayAsChanged);
+        recordList.addListener(this::trackChangedDays);
     }
 
     /**
-     * Returns the set of changes made to the list of achievements stored in this program, if any.
+     * Returns the set of changes made to the list of achievements stored in this program since this method was last
+     * called, if any.
      */
     public Set<AchievementState> getNewAchievementStates() {
-        initialiseAverageRecordMap();
+        newStatesSet = new HashSet<>();
+        updateStreakTrackers();
 
-        for (RecordType recordType : model.getAchievementsMap().keySet()) {
-            List<Achievement> achievementList = model.getAchievementsMap().get(recordType);
+        for (RecordType recordType : achievementsMap.keySet()) {
+            List<Achievement> achievementList = achievementsMap.get(recordType);
             processAchievements(achievementList, recordType);
         }
-        model.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORDS);
         return newStatesSet;
     }
 
     /**
-     * Initialises a map that contains average daily records listed in descending order of date.
+     * Marks the days of the records added or removed in {@code change} as changed.
      */
-    private void initialiseAverageRecordMap() {
-        for (RecordType recordType : recordTypeSet) {
-            model.updateFilteredRecordList(new RecordContainsRecordTypePredicate(recordType));
-            model.calculateAverageMap(DAILY, recordType, model.getRecordList().size());
+    private void trackChangedDays(ListChangeListener.Change<? extends Record> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::markDayAsChanged);
+            change.getAddedSubList().forEach(this::markDayAsChanged);
+        }
+    }
+
+    private void markDayAsChanged(Record record) {
+        changedDays.computeIfAbsent(record.getRecordType(), recordType -> new HashSet<>())
+                .add(record.getDateTime().getDate());
+    }
 
-            // Sort by descending date
-            Map<LocalDate, Double> averageMap = new TreeMap<>(Collections.reverseOrder());
-            averageMap.putAll(model.getAverageMap());
+    /**
+     * Updates the streak trackers with the daily averages of the days that have changed.
+     */
+    private void updateStreakTrackers() {
+        changedDays.forEach((recordType, days) -> {
+            for (DailyStreakTracker streakTracker : streakTrackers.getOrDefault(recordType, Map.of()).values()) {
+                for (LocalDate day : days) {
+                    streakTracker.setDailyAverage(day, averageMap.getDailyAverage(recordType, day).orElse(null));
+                }
+            }
+        });
+        changedDays.clear();
+    }
 
-            averageRecordMap.put(recordType, averageMap);
-        }
+    /**
+     * Returns the range of daily average values required by {@code achievement}, which identifies the streak tracker
+     * of {@code achievement} among those of the same record type.
+     */
+    private static String getRange(Achievement achievement) {
+        return achievement.getMinimum() + " to " + achievement.getMaximum();
     }
 
     /**
@@ -125,67 +164,6 @@ public class AchievementStateProcessor {
         }
     }
 
-
-    /**
-     * Returns whether or not the requirement for an achievement has previously been met.
-     *
-     * @param achievement                    Achievement which is to be assessed on whether or not its requirement
-     *                                       to achieve it has previously been met.
-     * @param daysToIterate                  Duration in number of days to check on whether or not achievement has
-     *                                       met the requirement previously.
-     * @param averageAchievementKeyValueList List containing map entries of local dates and average daily values for
-     *                                       a particular record type.
-     * @return Whether or not the requirement for an achievement has previously been met.
-     */
-    private boolean fulfillsRequirementsPreviously(Achievement achievement, int daysToIterate,
-                                                   List<Map.Entry<LocalDate, Double>>
-                                                           averageAchievementKeyValueList) {
-        List<Map.Entry<LocalDate, Double>> subList = new ArrayList<>(List.copyOf(averageAchievementKeyValueList));
-        subList.remove(0);
-        for (int i = 1; i < averageAchievementKeyValueList.size() - daysToIterate; i++) {
-            if (requirementIsMet(achievement, daysToIterate, subList)) {
-                return true;
-            }
-            subList.remove(0);
-        }
-        return false;
-    }
-
-    /**
-     * Returns whether or not the requirement for an achievement has already been met.
-     *
-     * @param achievement                    Achievement which is to be assessed on whether or not its requirement
-     *                                       to achieve it has been met.
-     * @param daysToIterate                  Duration in number of days to check on whether or not achievement has
-     *                                       met the requirement.
-     * @param averageAchievementKeyValueList List containing map entries of local dates and average daily values for
-     *                                       a particular record type.
-     * @return Whether or not the requirement for an achievement has already been met.
-     */
-    private boolean requirementIsMet(Achievement achievement, int daysToIterate,
-            List<Map.Entry<LocalDate, Double>> averageAchievementKeyValueList) {
-        boolean fulfillsRequirements = true;
-        LocalDate moreRecentDate = null;
-        for (int i = 0; i < daysToIterate; i++) {
-            Map.Entry<LocalDate, Double> averageAchievementKeyValue = averageAchievementKeyValueList.get(i);
-            LocalDate lessRecentDate = averageAchievementKeyValue.getKey();
-            Double averageDailyValue = averageAchievementKeyValue.getValue();
-            if (moreRecentDate != null) {
-                if (lessRecentDate.until(moreRecentDate, ChronoUnit.DAYS) > 1) {
-                    fulfillsRequirements = false;
-                    break;
-                }
-            }
-            if (averageDailyValue > achievement.getMaximum()
-                    || averageDailyValue < achievement.getMinimum()) {
-                fulfillsRequirements = false;
-                break;
-            }
-            moreRecentDate = lessRecentDate;
-        }
-        return fulfillsRequirements;
-    }
-
     /**
      * Returns duration in number of days required to potentially meet the given achievement.
      *
@@ -221,26 +199,13 @@ public class AchievementStateProcessor {
             }
 
             int daysToIterate = getDaysToIterate(achievement);
-            Set<Map.Entry<LocalDate, Double>> averageRecordMapKeyValues =
-                    averageRecordMap.get(recordType).entrySet();
-
-            if (daysToIterate > averageRecordMapKeyValues.size()) {
-                demote(achievement);
+            DailyStreakTracker streakTracker = streakTrackers.get(recordType).get(getRange(achievement));
+            if (streakTracker.getCurrentStreak() >= daysToIterate) {
+                promote(achievement);
+            } else if (streakTracker.getLongestStreak() >= daysToIterate) {
+                promotePrev(achievement);
             } else {
-                Iterator<Map.Entry<LocalDate, Double>> averageAchievementKeyValueIterator =
-                        averageRecordMapKeyValues.iterator();
-                List<Map.Entry<LocalDate, Double>> averageAchievementKeyValueList = new ArrayList<>();
-                averageAchievementKeyValueIterator.forEachRemaining(averageAchievementKeyValueList::add);
-                boolean fulfillsRequirements = requirementIsMet(achievement, daysToIterate,
-                        averageAchievementKeyValueList);
-                if (fulfillsRequirements) {
-                    promote(achievement);
-                } else if (fulfillsRequirementsPreviously(achievement, daysToIterate,
-                        averageAchievementKeyValueList)) {
-                    promotePrev(achievement);
-                } else {
-                    demote(achievement);
-                }
+                demote(achievement);
             }
             achievementIsAttained = achievement.isAchieved();
         }
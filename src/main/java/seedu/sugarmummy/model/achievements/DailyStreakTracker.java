@@ -0,0 +1,130 @@
+package seedu.sugarmummy.model.achievements;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of streaks of consecutive days whose daily average value of a record type lies within a range. A day
+ * without any record breaks a streak.
+ * <p>
+ * Streaks are stored as ranges of dates, and only the streaks next to a day are touched when the daily average of
+ * that day changes, so the current and the longest streak can be read without going through every day.
+ */
+class DailyStreakTracker {
+
+    private final double minimum;
+    private final double maximum;
+
+    /** Every day with a daily average, mapped to whether that average lies within the range. */
+    private final NavigableMap<LocalDate, Boolean> recordedDays = new TreeMap<>();
+    /** The first day of every streak, mapped to the last day of that streak. */
+    private final NavigableMap<LocalDate, LocalDate> streaks = new TreeMap<>();
+    /** The length of every streak in days, mapped to the number of streaks of that length. */
+    private final NavigableMap<Long, Integer> streakLengthCounts = new TreeMap<>();
+
+    DailyStreakTracker(double minimum, double maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    /**
+     * Updates the daily average of {@code day}. A null {@code dailyAverage} denotes that {@code day} no longer has
+     * any record.
+     */
+    void setDailyAverage(LocalDate day, Double dailyAverage) {
+        requireNonNull(day);
+        boolean isWithinRange = dailyAverage != null && minimum <= dailyAverage && dailyAverage <= maximum;
+        Boolean previousState = dailyAverage == null
+                ? recordedDays.remove(day)
+                : recordedDays.put(day, isWithinRange);
+        boolean wasWithinRange = Boolean.TRUE.equals(previousState);
+
+        if (wasWithinRange && !isWithinRange) {
+            removeFromStreak(day);
+        } else if (!wasWithinRange && isWithinRange) {
+            addToStreak(day);
+        }
+    }
+
+    /**
+     * Returns the length in days of the streak that ends on the most recent day with a record, or 0 if the daily
+     * average of that day is not within the range.
+     */
+    long getCurrentStreak() {
+        if (recordedDays.isEmpty()) {
+            return 0;
+        }
+        Map.Entry<LocalDate, LocalDate> lastStreak = streaks.lastEntry();
+        if (lastStreak == null || !lastStreak.getValue().equals(recordedDays.lastKey())) {
+            return 0;
+        }
+        return getLength(lastStreak.getKey(), lastStreak.getValue());
+    }
+
+    /**
+     * Returns the length in days of the longest streak, or 0 if there is none.
+     */
+    long getLongestStreak() {
+        return streakLengthCounts.isEmpty() ? 0 : streakLengthCounts.lastKey();
+    }
+
+    /**
+     * Adds {@code day} to the streaks, merging it with the streaks that end on the day before and start on the day
+     * after it, if any.
+     */
+    private void addToStreak(LocalDate day) {
+        LocalDate start = day;
+        LocalDate end = day;
+
+        Map.Entry<LocalDate, LocalDate> previousStreak = streaks.lowerEntry(day);
+        if (previousStreak != null && previousStreak.getValue().equals(day.minusDays(1))) {
+            start = previousStreak.getKey();
+            removeStreak(previousStreak.getKey(), previousStreak.getValue());
+        }
+
+        LocalDate nextStreakEnd = streaks.get(day.plusDays(1));
+        if (nextStreakEnd != null) {
+            end = nextStreakEnd;
+            removeStreak(day.plusDays(1), nextStreakEnd);
+        }
+
+        putStreak(start, end);
+    }
+
+    /**
+     * Removes {@code day} from the streak containing it, splitting that streak into the parts before and after it.
+     */
+    private void removeFromStreak(LocalDate day) {
+        Map.Entry<LocalDate, LocalDate> streak = streaks.floorEntry(day);
+        assert streak != null && !streak.getValue().isBefore(day) : "A day within the range should be in a streak.";
+
+        LocalDate start = streak.getKey();
+        LocalDate end = streak.getValue();
+        removeStreak(start, end);
+        if (start.isBefore(day)) {
+            putStreak(start, day.minusDays(1));
+        }
+        if (end.isAfter(day)) {
+            putStreak(day.plusDays(1), end);
+        }
+    }
+
+    private void putStreak(LocalDate start, LocalDate end) {
+        streaks.put(start, end);
+        streakLengthCounts.merge(getLength(start, end), 1, Integer::sum);
+    }
+
+    private void removeStreak(LocalDate start, LocalDate end) {
+        streaks.remove(start);
+        streakLengthCounts.computeIfPresent(getLength(start, end), (length, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static long getLength(LocalDate start, LocalDate end) {
+        return start.until(end, ChronoUnit.DAYS) + 1;
+    }
+}
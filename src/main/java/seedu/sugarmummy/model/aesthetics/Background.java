@@ -128,19 +128,27 @@ public class Background {
     }
 
     /**
-     * Sets the dominant colour of this background.
+     * Sets the dominant colour of this background. The picture of this background is only decoded if its dominant
+     * colour is not in {@code dominantColourCache}, or if it has changed since its dominant colour was cached.
      */
-    public void setDominantColour() {
+    public void setDominantColour(DominantColourCache dominantColourCache) {
+        requireNonNull(dominantColourCache);
         setIsBackgroundColour();
         String colour = isBackgroundColour
                 ? backgroundColour
-                : ImageAnalyser.getDominantColour(backgroundPicPath);
+                : ImageAnalyser.getDominantColour(backgroundPicPath, dominantColourCache);
         dominantColour = new Colour(colour);
     }
 
+    /**
+     * Returns the dominant colour of this background. The dominant colour of a background picture is the one last set
+     * by {@link #setDominantColour(DominantColourCache)}.
+     */
     public Colour getDominantColour() {
-        setDominantColour();
-        return dominantColour;
+        setIsBackgroundColour();
+        return isBackgroundColour
+                ? new Colour(backgroundColour)
+                : dominantColour;
     }
 
     public void setIsBackgroundColour() {
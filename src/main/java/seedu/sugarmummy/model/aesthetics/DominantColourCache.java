@@ -0,0 +1,97 @@
+package seedu.sugarmummy.model.aesthetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+/**
+ * Remembers the dominant colours of the images analysed so far, so that an image is only decoded again once it has
+ * changed.
+ * <p>
+ * The colours are keyed by the absolute paths of the images, and each colour is only used while the size and the last
+ * modified time of its image are the same as when it was analysed. The cache is saved together with the user prefs, so
+ * that the colours are remembered across runs of the application. Only the {@link #MAX_ENTRIES} most recently analysed
+ * images are kept.
+ */
+public class DominantColourCache {
+
+    public static final int MAX_ENTRIES = 32;
+
+    private LinkedHashMap<String, CachedColour> cachedColours = new LinkedHashMap<>();
+
+    /**
+     * Returns the cached dominant colour of the image at {@code imagePath}, or {@code Optional.empty()} if the image
+     * has not been analysed, or has changed since it was analysed.
+     */
+    public synchronized Optional<String> get(String imagePath) {
+        requireNonNull(imagePath);
+        File file = new File(imagePath);
+        CachedColour cachedColour = cachedColours.get(file.getAbsolutePath());
+        if (cachedColour == null || !cachedColour.isOf(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedColour.colour);
+    }
+
+    /**
+     * Caches {@code colour} as the dominant colour of the image at {@code imagePath} in its current state.
+     */
+    public synchronized void put(String imagePath, String colour) {
+        requireNonNull(imagePath);
+        requireNonNull(colour);
+        File file = new File(imagePath);
+        cachedColours.remove(file.getAbsolutePath());
+        cachedColours.put(file.getAbsolutePath(), new CachedColour(file, colour));
+
+        Iterator<String> oldestImagePaths = cachedColours.keySet().iterator();
+        while (cachedColours.size() > MAX_ENTRIES) {
+            oldestImagePaths.next();
+            oldestImagePaths.remove();
+        }
+    }
+
+    /**
+     * Returns the number of images whose dominant colours are cached.
+     */
+    public synchronized int size() {
+        return cachedColours.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return cachedColours.size() + " cached dominant colours";
+    }
+
+    /**
+     * The dominant colour of an image, together with the size and last modified time of the image when it was
+     * analysed.
+     */
+    private static class CachedColour {
+        private long fileSize;
+        private long lastModified;
+        private String colour;
+
+        /**
+         * Constructs an empty {@code CachedColour}, to be filled in when the cache is read from the user prefs file.
+         */
+        private CachedColour() {
+        }
+
+        private CachedColour(File file, String colour) {
+            this.fileSize = file.length();
+            this.lastModified = file.lastModified();
+            this.colour = colour;
+        }
+
+        /**
+         * Returns true if {@code file} has the same size and last modified time as the image of this colour.
+         */
+        private boolean isOf(File file) {
+            return colour != null && file.isFile() && file.length() == fileSize
+                    && file.lastModified() == lastModified;
+        }
+    }
+}
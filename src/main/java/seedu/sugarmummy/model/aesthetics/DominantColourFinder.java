@@ -0,0 +1,313 @@
+package seedu.sugarmummy.model.aesthetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds the most common colour among the pixels of an image, without copying the pixels of the image.
+ * <p>
+ * The pixels are first counted in a histogram of 15-bit colour groups, made up of the top 5 bits of each of red, green
+ * and blue, in bands of rows that are counted in parallel. The exact colours, alpha included, are then counted only
+ * for the most common groups, in a primitive hash table of fixed size, over as many passes over the pixels as it takes
+ * to count them all, from the most common group down. As no colour in a group can be more common than the group
+ * itself, the groups less common than the most common colour found so far are never counted. The pixels are read
+ * straight from the data buffer of the image when its layout is a common one, and one row at a time otherwise.
+ * <p>
+ * Of colours that are equally common, the one with the lowest argb value, taken as an unsigned int, is returned.
+ */
+class DominantColourFinder {
+
+    private static final int NUMBER_OF_GROUPS = 1 << 15;
+    /** The number of colours in a group, which differ in the bottom 3 bits of red, green and blue, and in alpha. */
+    private static final int NUMBER_OF_COLOURS_PER_GROUP = 1 << 17;
+    /** The number of slots in the hash table of exact colours, which is never filled beyond half of them. */
+    private static final int MAX_HASH_TABLE_CAPACITY = 1 << 20;
+    private static final int MIN_PIXELS_PER_BAND = 1 << 16;
+
+    private final BufferedImage image;
+    private final int width;
+    private final int height;
+    /** The pixels as packed (a)rgb ints, or null if they are not stored that way. */
+    private final int[] intPixels;
+    /** The alpha added to every pixel in {@code intPixels}, for pixels without alpha. */
+    private final int intAlpha;
+    /** The pixels as (alpha), blue, green and red bytes, or null if they are not stored that way. */
+    private final byte[] bytePixels;
+    private final int bytesPerPixel;
+
+    DominantColourFinder(BufferedImage image) {
+        requireNonNull(image);
+        this.image = image;
+        width = image.getWidth();
+        height = image.getHeight();
+
+        switch (getUnpaddedType(image)) {
+        case BufferedImage.TYPE_INT_RGB:
+        case BufferedImage.TYPE_INT_ARGB:
+            intPixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            intAlpha = image.getType() == BufferedImage.TYPE_INT_RGB ? 0xFF000000 : 0;
+            bytePixels = null;
+            bytesPerPixel = 0;
+            break;
+        case BufferedImage.TYPE_3BYTE_BGR:
+        case BufferedImage.TYPE_4BYTE_ABGR:
+            intPixels = null;
+            intAlpha = 0;
+            bytePixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+            bytesPerPixel = image.getType() == BufferedImage.TYPE_3BYTE_BGR ? 3 : 4;
+            break;
+        default:
+            intPixels = null;
+            intAlpha = 0;
+            bytePixels = null;
+            bytesPerPixel = 0;
+            break;
+        }
+    }
+
+    /**
+     * Returns the type of {@code image} if its pixels are stored row after row from the start of a single bank, with
+     * no padding, or {@link BufferedImage#TYPE_CUSTOM} otherwise.
+     */
+    private static int getUnpaddedType(BufferedImage image) {
+        WritableRaster raster = image.getRaster();
+        DataBuffer dataBuffer = raster.getDataBuffer();
+        if (raster.getParent() != null || dataBuffer.getNumBanks() != 1 || dataBuffer.getOffset() != 0) {
+            return BufferedImage.TYPE_CUSTOM;
+        }
+
+        SampleModel sampleModel = raster.getSampleModel();
+        int scanlineStride;
+        int pixelStride;
+        if (sampleModel instanceof SinglePixelPackedSampleModel) {
+            scanlineStride = ((SinglePixelPackedSampleModel) sampleModel).getScanlineStride();
+            pixelStride = 1;
+        } else if (sampleModel instanceof ComponentSampleModel) {
+            scanlineStride = ((ComponentSampleModel) sampleModel).getScanlineStride();
+            pixelStride = ((ComponentSampleModel) sampleModel).getPixelStride();
+        } else {
+            return BufferedImage.TYPE_CUSTOM;
+        }
+        return scanlineStride == image.getWidth() * pixelStride ? image.getType() : BufferedImage.TYPE_CUSTOM;
+    }
+
+    /**
+     * Returns the 15-bit colour group of {@code argb}.
+     */
+    private static int getGroup(int argb) {
+        return ((argb >> 9) & 0x7C00) | ((argb >> 6) & 0x3E0) | ((argb >> 3) & 0x1F);
+    }
+
+    /**
+     * Returns the most common colour in the image as a packed argb int.
+     */
+    int findDominantArgb() {
+        int[] groupCounts = ForkJoinPool.commonPool().invoke(new CountingTask(0, height));
+        long[] groupsByCount = new long[NUMBER_OF_GROUPS];
+        for (int group = 0; group < NUMBER_OF_GROUPS; group++) {
+            groupsByCount[group] = (long) groupCounts[group] << 15 | group;
+        }
+        Arrays.sort(groupsByCount);
+
+        // the number of different colours in a pass is at most the number of pixels in the image
+        long pixelCapacity = Long.highestOneBit(Math.max(1L, (long) width * height) * 2 - 1) * 2;
+        ColourCounts colourCounts = new ColourCounts((int) Math.min(MAX_HASH_TABLE_CAPACITY, pixelCapacity));
+        int[] groupPasses = new int[NUMBER_OF_GROUPS];
+        MostCommonColour mostCommonColour = new MostCommonColour();
+        int nextGroupIndex = NUMBER_OF_GROUPS - 1;
+        int pass = 0;
+        while (true) {
+            pass++;
+            int maxNumberOfColours = colourCounts.getMaxSize();
+            boolean hasGroups = false;
+            while (nextGroupIndex >= 0) {
+                int groupCount = groupCounts[(int) (groupsByCount[nextGroupIndex] & (NUMBER_OF_GROUPS - 1))];
+                int maxNumberOfColoursInGroup = Math.min(groupCount, NUMBER_OF_COLOURS_PER_GROUP);
+                if (groupCount == 0 || groupCount < mostCommonColour.count) {
+                    nextGroupIndex = -1;
+                } else if (maxNumberOfColoursInGroup <= maxNumberOfColours) {
+                    groupPasses[(int) (groupsByCount[nextGroupIndex--] & (NUMBER_OF_GROUPS - 1))] = pass;
+                    maxNumberOfColours -= maxNumberOfColoursInGroup;
+                    hasGroups = true;
+                    continue;
+                }
+                break;
+            }
+            if (!hasGroups) {
+                return mostCommonColour.argb;
+            }
+
+            countColours(groupPasses, pass, colourCounts);
+            colourCounts.addToAndClear(mostCommonColour);
+        }
+    }
+
+    /**
+     * Counts the colours of the pixels in the groups counted in {@code pass}, as given by {@code groupPasses}, into
+     * {@code colourCounts}.
+     */
+    private void countColours(int[] groupPasses, int pass, ColourCounts colourCounts) {
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            readRow(y, row);
+            for (int argb : row) {
+                if (groupPasses[getGroup(argb)] == pass) {
+                    colourCounts.increment(argb);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the colours of the pixels in row {@code y} into {@code row} as packed argb ints.
+     */
+    private void readRow(int y, int[] row) {
+        if (intPixels != null) {
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                row[x] = intPixels[offset + x] | intAlpha;
+            }
+        } else if (bytePixels != null) {
+            int offset = y * width * bytesPerPixel;
+            for (int x = 0; x < width; x++) {
+                int alpha = bytesPerPixel == 4 ? bytePixels[offset++] & 0xFF : 0xFF;
+                row[x] = alpha << 24 | (bytePixels[offset + 2] & 0xFF) << 16 | (bytePixels[offset + 1] & 0xFF) << 8
+                        | (bytePixels[offset] & 0xFF);
+                offset += 3;
+            }
+        } else {
+            image.getRGB(0, y, width, 1, row, 0, width);
+        }
+    }
+
+    /**
+     * Counts of exact colours in an open addressing hash table of a fixed capacity.
+     */
+    private static class ColourCounts {
+        private final int[] colours;
+        private final int[] counts;
+        private final int mask;
+
+        /**
+         * Constructs an empty table with {@code capacity} slots, which is a power of two.
+         */
+        private ColourCounts(int capacity) {
+            colours = new int[capacity];
+            counts = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        /**
+         * Returns the number of different colours that can be counted before the table is cleared again.
+         */
+        private int getMaxSize() {
+            return colours.length / 2;
+        }
+
+        /**
+         * Counts one more pixel of colour {@code argb}.
+         */
+        private void increment(int argb) {
+            int slot = (argb * 0x9E3779B9) >>> 12 & mask;
+            while (counts[slot] != 0 && colours[slot] != argb) {
+                slot = (slot + 1) & mask;
+            }
+            colours[slot] = argb;
+            counts[slot]++;
+        }
+
+        /**
+         * Adds every colour counted to {@code mostCommonColour}, and empties the table.
+         */
+        private void addToAndClear(MostCommonColour mostCommonColour) {
+            for (int slot = 0; slot < counts.length; slot++) {
+                if (counts[slot] != 0) {
+                    mostCommonColour.add(colours[slot], counts[slot]);
+                    counts[slot] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * The most common colour found so far, with the lowest argb value of those that are equally common.
+     */
+    private static class MostCommonColour {
+        private int argb;
+        private int count;
+
+        /**
+         * Keeps {@code argb}, which is found {@code colourCount} times, if it is more common than the most common
+         * colour so far, or as common with a lower argb value.
+         */
+        private void add(int argb, int colourCount) {
+            if (colourCount > count || (colourCount == count && Integer.compareUnsigned(argb, this.argb) < 0)) {
+                this.argb = argb;
+                count = colourCount;
+            }
+        }
+    }
+
+    /**
+     * Counts the pixels in a band of rows by colour group.
+     */
+    private class CountingTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int firstRow;
+        private final int endRow;
+
+        /**
+         * Constructs a task that counts the pixels in the rows from {@code firstRow} inclusive to {@code endRow}
+         * exclusive.
+         */
+        CountingTask(int firstRow, int endRow) {
+            this.firstRow = firstRow;
+            this.endRow = endRow;
+        }
+
+        @Override
+        protected int[] compute() {
+            int numberOfRows = endRow - firstRow;
+            if (numberOfRows < 2 || (long) numberOfRows * width <= MIN_PIXELS_PER_BAND) {
+                return countRows();
+            }
+
+            int middleRow = firstRow + numberOfRows / 2;
+            CountingTask upperBand = new CountingTask(firstRow, middleRow);
+            upperBand.fork();
+            int[] counts = new CountingTask(middleRow, endRow).compute();
+            int[] upperCounts = upperBand.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += upperCounts[i];
+            }
+            return counts;
+        }
+
+        /**
+         * Counts the pixels in the band without splitting it.
+         */
+        private int[] countRows() {
+            int[] counts = new int[NUMBER_OF_GROUPS];
+            int[] row = new int[width];
+            for (int y = firstRow; y < endRow; y++) {
+                readRow(y, row);
+                for (int argb : row) {
+                    counts[getGroup(argb)]++;
+                }
+            }
+            return counts;
+        }
+    }
+}
@@ -1,17 +1,15 @@
 package seedu.sugarmummy.model.aesthetics;
 
+import static java.util.Objects.requireNonNull;
+
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
@@ -27,39 +25,34 @@ import javax.imageio.stream.ImageInputStream;
 public class ImageAnalyser {
 
     /**
-     * Returns a hexadecimal colour representing the dominant colour in a given image.
+     * Returns true if the dominant colour of the image at {@code imagePath} is cached in {@code dominantColourCache},
+     * in which case the image has been decoded successfully before and has not changed since.
+     */
+    public static boolean hasCachedDominantColour(String imagePath, DominantColourCache dominantColourCache) {
+        requireNonNull(dominantColourCache);
+        return dominantColourCache.get(imagePath).isPresent();
+    }
+
+    /**
+     * Returns a hexadecimal colour representing the dominant colour in a given image. The image is only decoded if
+     * its dominant colour is not cached in {@code dominantColourCache} yet, in which case the colour found is cached
+     * there.
      *
      * @param imagePath File path of an image of which dominant colour is to be obtained
+     * @param dominantColourCache Cache in which the dominant colours of the images analysed are remembered.
      * @return Hexadecimal colour representing the dominant colour in given image.
      */
-    public static String getDominantColour(String imagePath) {
-        File file = new File(imagePath);
+    public static String getDominantColour(String imagePath, DominantColourCache dominantColourCache) {
+        requireNonNull(dominantColourCache);
+        Optional<String> cachedColour = dominantColourCache.get(imagePath);
+        if (cachedColour.isPresent()) {
+            return cachedColour.get();
+        }
 
         try {
-            ImageInputStream is = ImageIO.createImageInputStream(file);
-            Iterator<ImageReader> iter = ImageIO.getImageReaders(is);
-
-            ImageReader imageReader = iter.next();
-            imageReader.setInput(is);
-
-            BufferedImage image = imageReader.read(0);
-
-            int height = image.getHeight();
-            int width = image.getWidth();
-
-            Map<Integer, Integer> colourMap = new HashMap<>();
-            for (int i = 0; i < width; i++) {
-                for (int j = 0; j < height; j++) {
-                    int rgb = image.getRGB(i, j);
-                    Integer counter = colourMap.get(rgb);
-                    if (counter == null) {
-                        counter = 0;
-                    }
-                    counter++;
-                    colourMap.put(rgb, counter);
-                }
-            }
-            return getMostCommonColour(colourMap);
+            String dominantColour = analyseDominantColour(new File(imagePath));
+            dominantColourCache.put(imagePath, dominantColour);
+            return dominantColour;
         } catch (IOException e) {
             StringWriter sw = new StringWriter();
             PrintWriter pw = new PrintWriter(sw);
@@ -69,18 +62,29 @@ public class ImageAnalyser {
     }
 
     /**
-     * Returns the most common colour given a map that maps an integer pixel to its count.
+     * Decodes the image in {@code file} and returns a hexadecimal colour representing its dominant colour.
      *
-     * @param colourMap Colour map that maps an integer pixel to its count.
-     * @return Hexadecimal representation of most common integer pixel counted.
+     * @throws IOException if the image cannot be read.
      */
-    private static String getMostCommonColour(Map<Integer, Integer> colourMap) {
-        List<Entry<Integer, Integer>> list = new LinkedList<>(colourMap.entrySet());
-        list.sort(Comparator.comparing(Entry::getValue));
-        // Returns the rgb with the rgb array of the rgb colour with the highest count.
-        Entry<Integer, Integer> me = list.get(list.size() - 1);
-        int[] rgb = getRgbArr(me.getKey());
-        return String.format("#%02X%02X%02X", rgb[0], rgb[1], rgb[2]);
+    private static String analyseDominantColour(File file) throws IOException {
+        try (ImageInputStream is = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> iter = is == null
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(is);
+            if (!iter.hasNext()) {
+                throw new IOException("No image reader found for " + file);
+            }
+
+            ImageReader imageReader = iter.next();
+            try {
+                imageReader.setInput(is);
+                BufferedImage image = imageReader.read(0);
+                int[] rgb = getRgbArr(new DominantColourFinder(image).findDominantArgb());
+                return String.format("#%02X%02X%02X", rgb[0], rgb[1], rgb[2]);
+            } finally {
+                imageReader.dispose();
+            }
+        }
     }
 
     /**
@@ -4,17 +4,22 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.sugarmummy.model.TrackableData;
 
 /**
  * Wraps all data at the user-list level Duplicates are not allowed (by .isSameUser comparison)
  */
-public class UserList implements ReadOnlyUserList {
+public class UserList implements ReadOnlyUserList, TrackableData {
 
     private final UniqueUserList users;
+    private boolean isModified;
 
     {
         users = new UniqueUserList();
+        isModified = false;
+        users.asUnmodifiableObservableList().addListener((ListChangeListener<User>) change -> isModified = true);
     }
 
     public UserList() {
@@ -87,6 +92,16 @@ public class UserList implements ReadOnlyUserList {
         users.remove(key);
     }
 
+    @Override
+    public boolean isModified() {
+        return isModified;
+    }
+
+    @Override
+    public void markAsSaved() {
+        isModified = false;
+    }
+
     //// util methods
 
     @Override
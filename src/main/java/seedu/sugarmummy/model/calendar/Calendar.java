@@ -2,25 +2,29 @@ package seedu.sugarmummy.model.calendar;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import seedu.sugarmummy.model.time.Today;
+import seedu.sugarmummy.model.TrackableData;
 
 /**
- * Wraps all data at the calendar level Duplicates are not allowed
+ * Wraps all data at the calendar level Duplicates are not allowed. Reminders are scheduled separately by a
+ * {@code Scheduler}, so creating or copying a calendar does not start any thread.
  */
-public class Calendar implements ReadOnlyCalendar {
+public class Calendar implements ReadOnlyCalendar, TrackableData {
     private final UniqueCalendarEntryList calendarEntries;
     private final UniqueCalendarEntryList pastReminders;
-    private final Scheduler scheduler;
+    private boolean isModified;
 
     {
         calendarEntries = new UniqueCalendarEntryList();
         pastReminders = new UniqueCalendarEntryList();
-        scheduler = new Scheduler();
+        isModified = false;
+        calendarEntries.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<CalendarEntry>) change -> isModified = true);
     }
 
     public Calendar() {
@@ -133,42 +137,15 @@ public class Calendar implements ReadOnlyCalendar {
     }
 
     /**
-     * Adds a reminder to the past reminder list. The reminder must not already exist in the past reminder list.
+     * Adds the occurrences of {@code reminders} on {@code date} to the past reminder list. The reminders must not
+     * already exist in the past reminder list.
      */
-    public void addPastReminders(List<Reminder> reminders) {
+    public void addPastReminders(List<Reminder> reminders, LocalDate date) {
         pastReminders.addAll(reminders.stream()
-                .map(reminder -> reminder.getOneTimeReminderOn(scheduler.getTodayDate()))
+                .map(reminder -> reminder.getOneTimeReminderOn(date))
                 .collect(Collectors.toList()));
     }
 
-    /**
-     * Schedules upcoming reminders.
-     */
-    public void schedule() {
-        scheduler.schedule(this);
-    }
-
-    /**
-     * Stops all upcoming reminders.
-     */
-    public void stopAllReminders() {
-        scheduler.stopAll();
-    }
-
-    /**
-     * Returns a Today object represents the date of today.
-     */
-    public Today getToday() {
-        return scheduler.getToday();
-    }
-
-    /**
-     * Returns the date time when the app starts.
-     */
-    public LocalDateTime getAppStartingDateTime() {
-        return scheduler.getAppStartingDateTime();
-    }
-
     /**
      * Replaces the given calendar entry {@code target} in the list with {@code editedCalendarEntry}. {@code target}
      * must exist in the calendar. The calendar entry identity of {@code editedCalendar} must not be the same as another
@@ -194,6 +171,20 @@ public class Calendar implements ReadOnlyCalendar {
         calendarEntries.removeAll(keys);
     }
 
+    /**
+     * Returns true if the calendar entries have been modified since they were last saved. Past reminders are not
+     * persisted and hence are not tracked.
+     */
+    @Override
+    public boolean isModified() {
+        return isModified;
+    }
+
+    @Override
+    public void markAsSaved() {
+        isModified = false;
+    }
+
     public ObservableList<CalendarEntry> getPastReminderList() {
         return pastReminders.asUnmodifiableObservableList();
     }
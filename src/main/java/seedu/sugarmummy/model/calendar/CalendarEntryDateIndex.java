@@ -0,0 +1,126 @@
+package seedu.sugarmummy.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Groups the entries of a calendar by the dates they are on, for the dates shown in the calendar view.
+ * <p>
+ * The entries on a date are only grouped once a date in its month is first asked for, at which point the whole month
+ * is grouped in a single pass over the calendar entries. Afterwards, the groups are updated as entries are added to or
+ * removed from the calendar, by adding or removing each changed entry on only the dates it is on.
+ */
+public class CalendarEntryDateIndex {
+
+    private final ObservableList<CalendarEntry> calendarEntries;
+    /** Every date in the months grouped so far, mapped to the calendar entries on that date. */
+    private final NavigableMap<LocalDate, ObservableList<CalendarEntry>> entriesByDate = new TreeMap<>();
+    /** The first day of every month grouped so far. */
+    private final Set<LocalDate> groupedMonths = new HashSet<>();
+
+    /**
+     * Constructs a {@code CalendarEntryDateIndex} that groups the entries in {@code calendarEntries}.
+     */
+    public CalendarEntryDateIndex(ObservableList<CalendarEntry> calendarEntries) {
+        requireNonNull(calendarEntries);
+        this.calendarEntries = calendarEntries;
+        calendarEntries.addListener(this::updateEntriesByDate);
+    }
+
+    /**
+     * Returns an unmodifiable view of the calendar entries on {@code date}, which is kept up to date as the calendar
+     * changes. The order of the entries in the view is unspecified.
+     */
+    public ObservableList<CalendarEntry> getCalendarEntriesOn(LocalDate date) {
+        requireNonNull(date);
+        groupMonthOf(date);
+        return FXCollections.unmodifiableObservableList(entriesByDate.get(date));
+    }
+
+    /**
+     * Groups the calendar entries on every date in the month of {@code date}, if not grouped yet.
+     */
+    private void groupMonthOf(LocalDate date) {
+        LocalDate firstDayOfMonth = date.withDayOfMonth(1);
+        if (!groupedMonths.add(firstDayOfMonth)) {
+            return;
+        }
+        LocalDate lastDayOfMonth = date.withDayOfMonth(date.lengthOfMonth());
+        for (LocalDate day = firstDayOfMonth; !day.isAfter(lastDayOfMonth); day = day.plusDays(1)) {
+            entriesByDate.put(day, FXCollections.observableArrayList());
+        }
+        NavigableMap<LocalDate, ObservableList<CalendarEntry>> month =
+                entriesByDate.subMap(firstDayOfMonth, true, lastDayOfMonth, true);
+        calendarEntries.forEach(calendarEntry -> addToDates(calendarEntry, month));
+    }
+
+    /**
+     * Adds the calendar entries added in {@code change} to, and removes those removed from, the dates they are on.
+     */
+    private void updateEntriesByDate(ListChangeListener.Change<? extends CalendarEntry> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::removeFromDates);
+            change.getAddedSubList().forEach(calendarEntry -> addToDates(calendarEntry, entriesByDate));
+        }
+    }
+
+    /**
+     * Adds {@code calendarEntry} to the entries of every date in {@code dates} that it is on.
+     */
+    private void addToDates(CalendarEntry calendarEntry,
+            NavigableMap<LocalDate, ObservableList<CalendarEntry>> dates) {
+        for (List<CalendarEntry> entriesOnDate : getEntriesOnDatesOf(calendarEntry, dates)) {
+            entriesOnDate.add(calendarEntry);
+        }
+    }
+
+    /**
+     * Removes {@code calendarEntry} from the entries of every grouped date that it is on.
+     */
+    private void removeFromDates(CalendarEntry calendarEntry) {
+        for (List<CalendarEntry> entriesOnDate : getEntriesOnDatesOf(calendarEntry, entriesByDate)) {
+            entriesOnDate.remove(calendarEntry);
+        }
+    }
+
+    /**
+     * Returns the entries of every date in {@code dates} that {@code calendarEntry} is on. An entry that does not
+     * repeat can only be on its own date, so the other dates are not checked.
+     */
+    private List<ObservableList<CalendarEntry>> getEntriesOnDatesOf(CalendarEntry calendarEntry,
+            NavigableMap<LocalDate, ObservableList<CalendarEntry>> dates) {
+        boolean isRepeated = calendarEntry instanceof Reminder
+                && ((Reminder) calendarEntry).getRepetition() != Repetition.Once;
+        if (!isRepeated) {
+            ObservableList<CalendarEntry> entriesOnDate = dates.get(calendarEntry.getDate());
+            return entriesOnDate == null ? List.of() : List.of(entriesOnDate);
+        }
+
+        List<ObservableList<CalendarEntry>> entriesOnDates = new ArrayList<>();
+        if (dates.isEmpty() || calendarEntry.getDate().isAfter(dates.lastKey())) {
+            return entriesOnDates;
+        }
+        LocalDate firstDate = calendarEntry.getDate().isBefore(dates.firstKey())
+                ? dates.firstKey()
+                : calendarEntry.getDate();
+        for (Map.Entry<LocalDate, ObservableList<CalendarEntry>> entriesOnDate
+                : dates.tailMap(firstDate, true).entrySet()) {
+            if (calendarEntry.isOnDate(entriesOnDate.getKey())) {
+                entriesOnDates.add(entriesOnDate.getValue());
+            }
+        }
+        return entriesOnDates;
+    }
+}
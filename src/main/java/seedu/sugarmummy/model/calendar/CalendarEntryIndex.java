@@ -0,0 +1,149 @@
+package seedu.sugarmummy.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import seedu.sugarmummy.model.time.DateTime;
+
+/**
+ * Indexes the entries of a calendar so that the entries that may be the same as, cover, be covered by, overlap or
+ * conflict with a given entry can be found without going through every entry.
+ * <p>
+ * Events are indexed by their starting date time, together with the longest duration among them. An event can only
+ * overlap another event that starts within the longest duration before it, so only those events are looked at.
+ * Reminders are indexed by their time and description, since reminders are only related when both are the same.
+ * <p>
+ * The index only narrows down the entries to check. Whether two entries are actually related is still decided by the
+ * entries themselves.
+ */
+class CalendarEntryIndex {
+
+    /** Every starting date time of an event, mapped to the events that start then. */
+    private final NavigableMap<LocalDateTime, List<Event>> eventsByStart = new TreeMap<>();
+    /** The duration of every event, mapped to the number of events with that duration. */
+    private final NavigableMap<Duration, Integer> eventDurationCounts = new TreeMap<>();
+    /** Every time of a reminder, mapped to the reminders at that time grouped by their description. */
+    private final Map<LocalTime, Map<Description, List<Reminder>>> remindersByTime = new HashMap<>();
+
+    /**
+     * Updates the index with the additions and removals in {@code change}.
+     */
+    void update(ListChangeListener.Change<? extends CalendarEntry> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the indexed entries that may be the same as, cover, be covered by, overlap or conflict with
+     * {@code calendarEntry}. Entries that are not returned are not related to {@code calendarEntry} in any of these
+     * ways.
+     */
+    List<CalendarEntry> getCandidates(CalendarEntry calendarEntry) {
+        requireNonNull(calendarEntry);
+        if (calendarEntry instanceof Event) {
+            return getEventCandidates((Event) calendarEntry);
+        } else if (calendarEntry instanceof Reminder) {
+            return new ArrayList<>(getReminderBucket((Reminder) calendarEntry));
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the events that start no earlier than the longest duration before {@code event} starts, and no later
+     * than {@code event} starts or ends.
+     */
+    private List<CalendarEntry> getEventCandidates(Event event) {
+        if (eventsByStart.isEmpty()) {
+            return Collections.emptyList();
+        }
+        LocalDateTime start = event.getDateTime().toLocalDateTime();
+        LocalDateTime end = event.getEndingDateTime().map(DateTime::toLocalDateTime)
+                .filter(endingDateTime -> endingDateTime.isAfter(start))
+                .orElse(start);
+        LocalDateTime earliestStart = start.minus(eventDurationCounts.lastKey());
+
+        List<CalendarEntry> candidates = new ArrayList<>();
+        eventsByStart.subMap(earliestStart, true, end, true).values().forEach(candidates::addAll);
+        return candidates;
+    }
+
+    /**
+     * Adds {@code calendarEntry} to the index.
+     */
+    private void add(CalendarEntry calendarEntry) {
+        if (calendarEntry instanceof Event) {
+            Event event = (Event) calendarEntry;
+            eventsByStart.computeIfAbsent(event.getDateTime().toLocalDateTime(), start -> new ArrayList<>()).add(event);
+            eventDurationCounts.merge(getDuration(event), 1, Integer::sum);
+        } else if (calendarEntry instanceof Reminder) {
+            Reminder reminder = (Reminder) calendarEntry;
+            remindersByTime.computeIfAbsent(reminder.getTime(), time -> new HashMap<>())
+                    .computeIfAbsent(reminder.getDescription(), description -> new ArrayList<>())
+                    .add(reminder);
+        }
+    }
+
+    /**
+     * Removes {@code calendarEntry} from the index.
+     */
+    private void remove(CalendarEntry calendarEntry) {
+        if (calendarEntry instanceof Event) {
+            Event event = (Event) calendarEntry;
+            LocalDateTime start = event.getDateTime().toLocalDateTime();
+            List<Event> events = eventsByStart.get(start);
+            if (events != null && events.remove(event)) {
+                if (events.isEmpty()) {
+                    eventsByStart.remove(start);
+                }
+                eventDurationCounts.computeIfPresent(getDuration(event), (duration, count) ->
+                        count == 1 ? null : count - 1);
+            }
+        } else if (calendarEntry instanceof Reminder) {
+            Reminder reminder = (Reminder) calendarEntry;
+            Map<Description, List<Reminder>> remindersAtTime = remindersByTime.get(reminder.getTime());
+            if (remindersAtTime == null) {
+                return;
+            }
+            List<Reminder> reminders = remindersAtTime.get(reminder.getDescription());
+            if (reminders != null && reminders.remove(reminder) && reminders.isEmpty()) {
+                remindersAtTime.remove(reminder.getDescription());
+                if (remindersAtTime.isEmpty()) {
+                    remindersByTime.remove(reminder.getTime());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed reminders with the same time and description as {@code reminder}.
+     */
+    private Collection<Reminder> getReminderBucket(Reminder reminder) {
+        return remindersByTime.getOrDefault(reminder.getTime(), Collections.emptyMap())
+                .getOrDefault(reminder.getDescription(), Collections.emptyList());
+    }
+
+    /**
+     * Returns the duration of {@code event}, or zero if it has no ending date time or ends before it starts.
+     */
+    private static Duration getDuration(Event event) {
+        return event.getEndingDateTime()
+                .map(end -> Duration.between(event.getDateTime().toLocalDateTime(), end.toLocalDateTime()))
+                .filter(duration -> !duration.isNegative())
+                .orElse(Duration.ZERO);
+    }
+}
@@ -4,41 +4,50 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.TreeMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javafx.collections.ObservableList;
+import javafx.collections.ListChangeListener;
 import seedu.sugarmummy.model.time.DateTime;
 import seedu.sugarmummy.model.time.Today;
 
 /**
- * A class representing a scheduler.
+ * A class representing a scheduler. A single scheduler is shared by the whole application and runs all reminders on
+ * one background thread, which is only started when reminders are first scheduled.
+ * <p>
+ * The reminders that are yet to occur today are kept sorted by time, and only the earliest of them is scheduled at
+ * any time. Once a calendar is scheduled, reminders added to or removed from it are added to or removed from the
+ * upcoming reminders directly, so that changing the calendar does not reschedule every reminder.
  */
 public class Scheduler {
-    private static int threads = 5;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(threads);
+    private static final String THREAD_NAME = "SugarMummy-Scheduler";
+    private ScheduledExecutorService scheduler;
+    private final AtomicInteger numberOfThreadsStarted = new AtomicInteger();
     private LocalDateTime currentDeadline;
-    private LocalDateTime currentStartingDateTime;
-    private Queue<ScheduledFuture> scheduledFutures;
+    private final NavigableMap<LocalTime, List<Reminder>> upcomingReminders;
+    private ScheduledFuture<?> nextReminderFuture;
+    private LocalTime nextReminderTime;
+    private ScheduledFuture<?> initializerFuture;
+    private Calendar calendar;
+    private final ListChangeListener<CalendarEntry> calendarEntryListener;
     private Today today;
     private final LocalDateTime appStartingDateTime;
-    private boolean isFirstScheduling;
 
     public Scheduler() {
         appStartingDateTime = LocalDateTime.now().withSecond(0).withNano(0).minusMinutes(1);
         currentDeadline = LocalDateTime.of(LocalDate.now(), LocalTime.of(23, 59));
-        currentStartingDateTime = appStartingDateTime.plusMinutes(1);
-        scheduledFutures = new LinkedList<>();
+        upcomingReminders = new TreeMap<>();
+        calendarEntryListener = this::updateUpcomingReminders;
         today = new Today();
-        isFirstScheduling = true;
     }
 
     public LocalDateTime getAppStartingDateTime() {
@@ -48,20 +57,54 @@ public class Scheduler {
     /**
      * Stops all upcoming reminders and the scheduler.
      */
-    public void stopAll() {
+    public synchronized void stopAll() {
         cancelAll();
-        scheduler.shutdownNow();
+        if (calendar != null) {
+            calendar.getCalendarEntryList().removeListener(calendarEntryListener);
+            calendar = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
     }
 
     /**
      * Cancels all upcoming reminders.
      */
     private void cancelAll() {
-        for (ScheduledFuture scheduledFuture : scheduledFutures) {
-            if (!scheduledFuture.isDone()) {
-                scheduledFuture.cancel(true);
-            }
+        cancelNextReminder();
+        if (initializerFuture != null) {
+            initializerFuture.cancel(true);
+            initializerFuture = null;
+        }
+        upcomingReminders.clear();
+    }
+
+    /**
+     * Returns the executor that runs the reminders, starting its thread if it has not been started.
+     */
+    private synchronized ScheduledExecutorService getExecutor() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(this::newThread);
         }
+        return scheduler;
+    }
+
+    /**
+     * Returns a new daemon thread for the executor that runs the reminders, which runs {@code runnable}.
+     */
+    private Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        numberOfThreadsStarted.incrementAndGet();
+        return thread;
+    }
+
+    /**
+     * Returns the number of threads this scheduler has created to run the reminders.
+     */
+    int getNumberOfThreadsStarted() {
+        return numberOfThreadsStarted.get();
     }
 
     /**
@@ -79,89 +122,140 @@ public class Scheduler {
     }
 
     /**
-     * Schedules reminders according to the current model.
+     * Schedules reminders according to the current model. Once {@code calendar} is scheduled, later changes to it
+     * are followed automatically, so scheduling the same calendar again does nothing.
      */
-    public void schedule(Calendar calendar) {
-        Map<LocalTime, List<Reminder>> dateTimeMap = getDateTimeMapToReminders(calendar.getCalendarEntryList());
-        if (isFirstScheduling) {
-            isFirstScheduling = false;
-        } else {
-            cancelAll();
+    public synchronized void schedule(Calendar calendar) {
+        if (this.calendar == calendar) {
+            return;
         }
-        currentStartingDateTime = LocalDateTime.now();
-        for (Map.Entry<LocalTime, List<Reminder>> entry : dateTimeMap.entrySet()) {
-            scheduledFutures.add(scheduler.schedule(new ReminderAdder(entry.getValue(), calendar),
-                    getDuration(entry.getKey()), TimeUnit.MILLISECONDS));
+        if (this.calendar != null) {
+            this.calendar.getCalendarEntryList().removeListener(calendarEntryListener);
+            cancelAll();
         }
-        scheduler.schedule(new Initializer(calendar),
-                getDuration(currentDeadline.plusMinutes(1)), TimeUnit.MILLISECONDS);
+        this.calendar = calendar;
+        calendar.getCalendarEntryList().addListener(calendarEntryListener);
+        scheduleInitializer();
+        rescheduleAll();
     }
 
     /**
-     * Returns a Map mapping from DateTime to a list of reminders at the certain date time;
+     * Replaces the upcoming reminders with those of all calendar entries that occur between now and the current
+     * deadline.
      */
-    private TreeMap<LocalTime, List<Reminder>> getDateTimeMapToReminders(
-            ObservableList<CalendarEntry> calendarEntries) {
-        if (!isFirstScheduling) {
-            currentStartingDateTime = LocalDateTime.now().withSecond(0).withNano(0);
+    private void rescheduleAll() {
+        upcomingReminders.clear();
+        for (CalendarEntry calendarEntry : calendar.getCalendarEntryList()) {
+            addUpcomingReminder(calendarEntry);
         }
+        scheduleNextReminder();
+    }
 
-        return calendarEntries
-                .stream()
-                .filter(calendarEntry -> calendarEntry instanceof Reminder)
-                .map(calendarEntry -> (Reminder) calendarEntry)
-                .filter(reminder -> reminder
-                        .isBetween(new DateTime(currentStartingDateTime), new DateTime(currentDeadline)))
-                .collect(Collectors.groupingBy(Reminder::getTime, TreeMap::new, Collectors.toList()));
+    /**
+     * Adds the reminders added to the calendar in {@code change} to, and removes those removed from the calendar from,
+     * the upcoming reminders, rescheduling the next reminder only if it has changed.
+     */
+    private synchronized void updateUpcomingReminders(ListChangeListener.Change<? extends CalendarEntry> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::removeUpcomingReminder);
+            change.getAddedSubList().forEach(this::addUpcomingReminder);
+        }
+        LocalTime earliestReminderTime = upcomingReminders.isEmpty() ? null : upcomingReminders.firstKey();
+        if (!Objects.equals(earliestReminderTime, nextReminderTime)) {
+            scheduleNextReminder();
+        }
     }
 
     /**
-     * Returns the duration between the current starting time and the target time.
+     * Adds {@code calendarEntry} to the upcoming reminders if it is a reminder that occurs between now and the current
+     * deadline.
      */
-    private long getDuration(LocalTime targetTime) {
-        return Duration.between(currentStartingDateTime.toLocalTime(), targetTime).toMillis();
+    private void addUpcomingReminder(CalendarEntry calendarEntry) {
+        LocalDateTime currentStartingDateTime = LocalDateTime.now().withSecond(0).withNano(0);
+        if (!(calendarEntry instanceof Reminder) || currentStartingDateTime.isAfter(currentDeadline)) {
+            return;
+        }
+        Reminder reminder = (Reminder) calendarEntry;
+        if (reminder.isBetween(new DateTime(currentStartingDateTime), new DateTime(currentDeadline))) {
+            upcomingReminders.computeIfAbsent(reminder.getTime(), time -> new ArrayList<>()).add(reminder);
+        }
     }
 
     /**
-     * Returns the duration between the current starting time and the target time.
+     * Removes {@code calendarEntry} from the upcoming reminders, if it is there.
      */
-    private long getDuration(LocalDateTime targetDateTime) {
-        return Duration.between(currentStartingDateTime, targetDateTime).toMillis();
+    private void removeUpcomingReminder(CalendarEntry calendarEntry) {
+        if (!(calendarEntry instanceof Reminder)) {
+            return;
+        }
+        LocalTime time = ((Reminder) calendarEntry).getTime();
+        List<Reminder> reminders = upcomingReminders.get(time);
+        if (reminders != null && reminders.remove(calendarEntry) && reminders.isEmpty()) {
+            upcomingReminders.remove(time);
+        }
     }
 
     /**
-     * A class implementing Runnable interface for adding reminders.
+     * Schedules the earliest upcoming reminders in place of those scheduled previously.
      */
-    private class ReminderAdder implements Runnable {
-        private List<Reminder> reminders;
-        private Calendar calendar;
+    private void scheduleNextReminder() {
+        cancelNextReminder();
+        if (upcomingReminders.isEmpty()) {
+            return;
+        }
+        nextReminderTime = upcomingReminders.firstKey();
+        nextReminderFuture = getExecutor().schedule(this::addNextReminders,
+                getDuration(LocalDateTime.of(currentDeadline.toLocalDate(), nextReminderTime)), TimeUnit.MILLISECONDS);
+    }
 
-        public ReminderAdder(List<Reminder> reminders, Calendar calendar) {
-            this.reminders = reminders;
-            this.calendar = calendar;
+    /**
+     * Cancels the earliest upcoming reminders that have been scheduled, if any.
+     */
+    private void cancelNextReminder() {
+        if (nextReminderFuture != null) {
+            nextReminderFuture.cancel(false);
         }
+        nextReminderFuture = null;
+        nextReminderTime = null;
+    }
 
-        @Override
-        public void run() {
-            calendar.addPastReminders(reminders);
+    /**
+     * Adds the earliest upcoming reminders to the past reminders of the calendar if they are due, then schedules the
+     * next ones.
+     */
+    private synchronized void addNextReminders() {
+        nextReminderFuture = null;
+        Map.Entry<LocalTime, List<Reminder>> nextReminders = upcomingReminders.firstEntry();
+        if (nextReminders != null && getDuration(LocalDateTime.of(currentDeadline.toLocalDate(),
+                nextReminders.getKey())) <= 0) {
+            upcomingReminders.pollFirstEntry();
+            calendar.addPastReminders(nextReminders.getValue(), getTodayDate());
         }
+        scheduleNextReminder();
     }
 
     /**
-     * A class implementing Runnable interface for initializing the scheduler.
+     * Schedules the start of the next day, when the reminders of that day are scheduled.
      */
-    private class Initializer implements Runnable {
-        private Calendar calendar;
+    private void scheduleInitializer() {
+        initializerFuture = getExecutor().schedule(this::startNextDay,
+                getDuration(currentDeadline.plusMinutes(1)), TimeUnit.MILLISECONDS);
+    }
 
-        public Initializer(Calendar calendar) {
-            this.calendar = calendar;
-        }
+    /**
+     * Moves the deadline to the end of the next day and schedules the reminders of that day.
+     */
+    private synchronized void startNextDay() {
+        currentDeadline = currentDeadline.plusDays(1);
+        scheduleInitializer();
+        rescheduleAll();
+        today.refresh();
+    }
 
-        @Override
-        public void run() {
-            currentDeadline = currentDeadline.plusDays(1);
-            schedule(calendar);
-            today.refresh();
-        }
+    /**
+     * Returns the duration between now and the target time.
+     */
+    private long getDuration(LocalDateTime targetDateTime) {
+        return Duration.between(LocalDateTime.now(), targetDateTime).toMillis();
     }
 }
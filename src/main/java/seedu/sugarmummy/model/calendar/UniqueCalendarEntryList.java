@@ -3,11 +3,16 @@ package seedu.sugarmummy.model.calendar;
 import static java.util.Objects.requireNonNull;
 import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.sugarmummy.model.calendar.exceptions.CalendarEntryNotFoundException;
 import seedu.sugarmummy.model.calendar.exceptions.DuplicateCalendarEntryException;
@@ -18,6 +23,9 @@ import seedu.sugarmummy.model.calendar.exceptions.DuplicateCalendarEntryExceptio
  * updating of calendar entries uses CalendarEntry#isSameCalendar(CalendarEntry) for equality so as to ensure that the
  * calendar entries being added or updated is unique in terms of identity in the UniqueCalendarEntryList.
  * <p>
+ * Besides the list itself, calendar entries are indexed, so that finding the entries that are the same as, cover, are
+ * covered by, overlap or conflict with a calendar entry does not require checking every entry in the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see CalendarEntry#isSameCalendarEntry(CalendarEntry)
@@ -27,12 +35,22 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
     private final ObservableList<CalendarEntry> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final CalendarEntryIndex calendarEntryIndex = new CalendarEntryIndex();
+    /** The sequence number of every calendar entry, which increases along the list. */
+    private final Map<CalendarEntry, Long> sequenceNumbers = new IdentityHashMap<>();
+    private long nextSequenceNumber = 0;
+
+    {
+        internalList.addListener(calendarEntryIndex::update);
+        internalList.addListener(this::updateSequenceNumbers);
+    }
+
     /**
      * Returns true if the list contains an equivalent calendar entry as the given argument.
      */
     public boolean contains(CalendarEntry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCalendarEntry);
+        return anyMatch(toCheck, toCheck::isSameCalendarEntry);
     }
 
     /**
@@ -40,7 +58,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public boolean covers(CalendarEntry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSubsetCalendarEntryOf);
+        return anyMatch(toCheck, toCheck::isSubsetCalendarEntryOf);
     }
 
     /**
@@ -49,7 +67,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
     public CalendarEntry getCalendarEntryCovers(CalendarEntry calendarEntry) {
         requireNonNull(calendarEntry);
         assert covers(calendarEntry);
-        return internalList.filtered(calendarEntry::isSubsetCalendarEntryOf).get(0);
+        return filter(calendarEntry, calendarEntry::isSubsetCalendarEntryOf).get(0);
     }
 
     /**
@@ -57,7 +75,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public boolean isAnyCoveredBy(CalendarEntry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(calendarEntry -> calendarEntry.isSubsetCalendarEntryOf(toCheck));
+        return anyMatch(toCheck, calendarEntry -> calendarEntry.isSubsetCalendarEntryOf(toCheck));
     }
 
     /**
@@ -65,7 +83,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public ObservableList<CalendarEntry> getCalendarEntriesCoveredBy(CalendarEntry calendarEntry) {
         requireNonNull(calendarEntry);
-        return internalList.filtered(calendarEntry1 -> calendarEntry1.isSubsetCalendarEntryOf(calendarEntry));
+        return filter(calendarEntry, calendarEntry1 -> calendarEntry1.isSubsetCalendarEntryOf(calendarEntry));
     }
 
     /**
@@ -73,7 +91,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public boolean overlaps(CalendarEntry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::overlaps);
+        return anyMatch(toCheck, toCheck::overlaps);
     }
 
     /**
@@ -81,7 +99,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public ObservableList<CalendarEntry> getCalendarEntryOverlaps(CalendarEntry calendarEntry) {
         requireNonNull(calendarEntry);
-        return internalList.filtered(calendarEntry::overlaps);
+        return filter(calendarEntry, calendarEntry::overlaps);
     }
 
     /**
@@ -89,7 +107,7 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public boolean conflicts(CalendarEntry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::conflicts);
+        return anyMatch(toCheck, toCheck::conflicts);
     }
 
     /**
@@ -97,7 +115,66 @@ public class UniqueCalendarEntryList implements Iterable<CalendarEntry> {
      */
     public ObservableList<CalendarEntry> getCalendarEntryConflicts(CalendarEntry calendarEntry) {
         requireNonNull(calendarEntry);
-        return internalList.filtered(calendarEntry::conflicts);
+        return filter(calendarEntry, calendarEntry::conflicts);
+    }
+
+    /**
+     * Returns true if any calendar entry in the list that may be related to {@code calendarEntry} satisfies
+     * {@code predicate}.
+     */
+    private boolean anyMatch(CalendarEntry calendarEntry, Predicate<CalendarEntry> predicate) {
+        return calendarEntryIndex.getCandidates(calendarEntry).stream().anyMatch(predicate);
+    }
+
+    /**
+     * Returns the calendar entries in the list that may be related to {@code calendarEntry} and satisfy
+     * {@code predicate}, in the order they appear in the list.
+     */
+    private ObservableList<CalendarEntry> filter(CalendarEntry calendarEntry, Predicate<CalendarEntry> predicate) {
+        List<CalendarEntry> matches = calendarEntryIndex.getCandidates(calendarEntry).stream().filter(predicate)
+                .collect(Collectors.toList());
+        if (matches.size() > 1) {
+            matches.sort(Comparator.comparingLong(sequenceNumbers::get));
+        }
+        return FXCollections.observableArrayList(matches);
+    }
+
+    /**
+     * Gives the calendar entries added in {@code change} sequence numbers that keep increasing along the list.
+     * Removed entries only give up their numbers, as removing entries keeps the order of the others. Appended entries
+     * are numbered after every other entry, and an entry that replaces another takes over its number, while the whole
+     * list is numbered again after any other change.
+     */
+    private void updateSequenceNumbers(ListChangeListener.Change<? extends CalendarEntry> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                renumberAll();
+                return;
+            }
+            List<Long> removedNumbers = change.getRemoved().stream().map(sequenceNumbers::remove)
+                    .collect(Collectors.toList());
+            List<? extends CalendarEntry> added = change.getAddedSubList();
+            if (!change.wasAdded()) {
+                continue;
+            } else if (change.getTo() == internalList.size()) {
+                added.forEach(addedEntry -> sequenceNumbers.put(addedEntry, nextSequenceNumber++));
+            } else if (added.size() == removedNumbers.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    sequenceNumbers.put(added.get(i), removedNumbers.get(i));
+                }
+            } else {
+                renumberAll();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Numbers every calendar entry again in the order of the list.
+     */
+    private void renumberAll() {
+        sequenceNumbers.clear();
+        internalList.forEach(calendarEntry -> sequenceNumbers.put(calendarEntry, nextSequenceNumber++));
     }
 
     /**
@@ -27,45 +27,75 @@ public class FoodComparator implements Comparator<Food> {
     private static final Map<String, SortOrderType> sortOrderTypes = Arrays.stream(SortOrderType.values())
             .collect(Collectors.toMap(type -> type.getSortOrderString(), type -> type));
 
-    private Comparator<Food> foodComparator;
-
-    private FoodComparator(Comparator<Food> foodComparator) {
-        this.foodComparator = foodComparator;
+    private final SortOrderType sortOrderType;
+    private final boolean isDescending;
+    private final Comparator<Food> foodComparator;
+
+    private FoodComparator(SortOrderType sortOrderType, boolean isDescending) {
+        this.sortOrderType = sortOrderType;
+        this.isDescending = isDescending;
+        this.foodComparator = isDescending
+                ? getAscendingComparator(sortOrderType).reversed()
+                : getAscendingComparator(sortOrderType);
     }
 
     /**
      * This is the only public constructor specifying the sort order represented by a {@code String}.
      */
     public FoodComparator(String sortOrderString) {
+        this(parseSortOrderType(sortOrderString), false);
+    }
+
+    /**
+     * Returns the sort order type represented by {@code sortOrderString}.
+     */
+    private static SortOrderType parseSortOrderType(String sortOrderString) {
         requireNonNull(sortOrderString);
         checkArgument(isValidSortOrderType(sortOrderString), MESSAGE_INVALID_COMMAND_FORMAT + MESSAGE_CONSTRAINTS);
 
         assert sortOrderTypes.containsKey(sortOrderString);
+        return sortOrderTypes.get(sortOrderString);
+    }
 
-        SortOrderType sortOrderType = sortOrderTypes.get(sortOrderString);
+    /**
+     * Returns a comparator that sorts foods in ascending order of the given sort order type. Foods that are equal in
+     * that order are sorted by their food names, so that the order of foods does not depend on the order they are
+     * sorted from.
+     */
+    static Comparator<Food> getAscendingComparator(SortOrderType sortOrderType) {
+        Comparator<Food> comparator = null;
         switch (sortOrderType) {
         case SORT_ORDER_FOOD_NAME:
-            this.foodComparator = (food1, food2) -> food1.getFoodName().compareTo(food2.getFoodName());
+            comparator = (food1, food2) -> food1.getFoodName().compareTo(food2.getFoodName());
             break;
         case SORT_ORDER_FOOD_TYPE:
-            this.foodComparator = (food1, food2) -> food1.getFoodType().compareTo(food2.getFoodType());
+            comparator = (food1, food2) -> food1.getFoodType().compareTo(food2.getFoodType());
             break;
         case SORT_ORDER_CALORIE:
-            this.foodComparator = (food1, food2) -> food1.getCalorie().compareTo(food2.getCalorie());
+            comparator = (food1, food2) -> food1.getCalorie().compareTo(food2.getCalorie());
             break;
         case SORT_ORDER_GI:
-            this.foodComparator = (food1, food2) -> food1.getGi().compareTo(food2.getGi());
+            comparator = (food1, food2) -> food1.getGi().compareTo(food2.getGi());
             break;
         case SORT_ORDER_SUGAR:
-            this.foodComparator = (food1, food2) -> food1.getSugar().compareTo(food2.getSugar());
+            comparator = (food1, food2) -> food1.getSugar().compareTo(food2.getSugar());
             break;
         case SORT_ORDER_FAT:
-            this.foodComparator = (food1, food2) -> food1.getFat().compareTo(food2.getFat());
+            comparator = (food1, food2) -> food1.getFat().compareTo(food2.getFat());
             break;
         default:
-            assert false : sortOrderTypes.toString() + "does not fit in any sort order case";
+            assert false : sortOrderType + "does not fit in any sort order case";
             break;
         }
+        return comparator.thenComparing(Food::getFoodName);
+    }
+
+    SortOrderType getSortOrderType() {
+        return sortOrderType;
+    }
+
+    boolean isDescending() {
+        return isDescending;
     }
 
     /**
@@ -78,7 +108,7 @@ public class FoodComparator implements Comparator<Food> {
 
     @Override
     public FoodComparator reversed() {
-        return new FoodComparator(this.foodComparator.reversed());
+        return new FoodComparator(sortOrderType, !isDescending);
     }
 
     @Override
@@ -93,7 +123,7 @@ public class FoodComparator implements Comparator<Food> {
         }
         if (obj instanceof FoodComparator) {
             FoodComparator another = (FoodComparator) obj;
-            return this.foodComparator.equals(another.foodComparator);
+            return sortOrderType == another.sortOrderType && isDescending == another.isDescending;
         } else {
             return false;
         }
@@ -102,7 +132,7 @@ public class FoodComparator implements Comparator<Food> {
     /**
      * Enumerates all possible sort order types for sorting foods.
      */
-    private enum SortOrderType {
+    enum SortOrderType {
         SORT_ORDER_FOOD_NAME("fn"),
         SORT_ORDER_FOOD_TYPE("ft"),
         SORT_ORDER_CALORIE("ca"),
@@ -0,0 +1,182 @@
+package seedu.sugarmummy.model.recmf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.sugarmummy.model.recmf.FoodComparator.SortOrderType;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
+
+/**
+ * Indexes foods by their food type into buckets, each of which is kept sorted in every sort order.
+ * <p>
+ * Since a food belongs to exactly one bucket, the foods of some types in some sort order are obtained by merging the
+ * already sorted buckets of those types, without sorting any food.
+ * <p>
+ * Foods are also indexed by the words in their names, so that the foods matching some keywords are looked up from the
+ * postings of those keywords alone, instead of testing the name of every food.
+ */
+class FoodIndex {
+
+    private final Map<FoodType, Map<SortOrderType, NavigableSet<Food>>> sortedBuckets = new EnumMap<>(FoodType.class);
+    /** Every normalized word in the food names, mapped to the foods whose names contain it. */
+    private final NavigableMap<String, Set<Food>> foodsByNameToken = new TreeMap<>();
+
+    FoodIndex() {
+        for (FoodType foodType : FoodType.values()) {
+            Map<SortOrderType, NavigableSet<Food>> buckets = new EnumMap<>(SortOrderType.class);
+            for (SortOrderType sortOrderType : SortOrderType.values()) {
+                buckets.put(sortOrderType, new TreeSet<>(FoodComparator.getAscendingComparator(sortOrderType)));
+            }
+            sortedBuckets.put(foodType, buckets);
+        }
+    }
+
+    /**
+     * Returns {@code word} in the form it is indexed in, in which words equal ignoring case are the same.
+     */
+    private static String normalize(String word) {
+        StringBuilder normalized = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            normalized.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the distinct normalized words in the name of {@code food}.
+     */
+    private static Set<String> getNameTokens(Food food) {
+        return Arrays.stream(food.getFoodName().toString().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(FoodIndex::normalize)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Updates the buckets and name postings with the additions and removals in {@code change}. Reordering the food
+     * list does not change the index.
+     */
+    void update(ListChangeListener.Change<? extends Food> change) {
+        while (change.next()) {
+            for (Food removed : change.getRemoved()) {
+                sortedBuckets.get(removed.getFoodType()).values().forEach(bucket -> bucket.remove(removed));
+                for (String token : getNameTokens(removed)) {
+                    Set<Food> postings = foodsByNameToken.get(token);
+                    postings.remove(removed);
+                    if (postings.isEmpty()) {
+                        foodsByNameToken.remove(token);
+                    }
+                }
+            }
+            for (Food added : change.getAddedSubList()) {
+                sortedBuckets.get(added.getFoodType()).values().forEach(bucket -> bucket.add(added));
+                for (String token : getNameTokens(added)) {
+                    foodsByNameToken.computeIfAbsent(token, unused -> new HashSet<>()).add(added);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the foods of {@code foodTypes} that satisfy {@code namePredicate}, sorted by {@code foodComparator}.
+     * Without any keyword, the buckets of {@code foodTypes} are merged. Otherwise, only the foods in the postings of
+     * the keywords are sorted.
+     */
+    List<Food> getSortedFoods(Set<FoodType> foodTypes, FoodNameContainsKeywordsPredicate namePredicate,
+            FoodComparator foodComparator) {
+        if (namePredicate.getKeywords().isEmpty()) {
+            return mergeBuckets(foodTypes, foodComparator);
+        }
+        return getFoodsMatching(namePredicate.getKeywords()).stream()
+                .filter(food -> foodTypes.contains(food.getFoodType()))
+                .sorted(foodComparator)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the foods whose names match any of {@code keywords}, as described in {@link
+     * FoodNameContainsKeywordsPredicate}.
+     */
+    private Set<Food> getFoodsMatching(List<String> keywords) {
+        Set<Food> matchingFoods = new HashSet<>();
+        for (String keyword : keywords) {
+            String token = normalize(FoodNameContainsKeywordsPredicate.getKeywordText(keyword));
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (FoodNameContainsKeywordsPredicate.isPrefixKeyword(keyword)) {
+                foodsByNameToken.subMap(token, token + Character.MAX_VALUE).values().forEach(matchingFoods::addAll);
+            } else {
+                matchingFoods.addAll(foodsByNameToken.getOrDefault(token, Set.of()));
+            }
+        }
+        return matchingFoods;
+    }
+
+    /**
+     * Returns all foods of {@code foodTypes}, sorted by {@code foodComparator}, by merging their sorted buckets.
+     */
+    private List<Food> mergeBuckets(Set<FoodType> foodTypes, FoodComparator foodComparator) {
+        PriorityQueue<BucketIterator> bucketIterators = new PriorityQueue<>(
+                Comparator.comparing(BucketIterator::peek, foodComparator));
+        for (FoodType foodType : foodTypes) {
+            NavigableSet<Food> bucket = sortedBuckets.get(foodType).get(foodComparator.getSortOrderType());
+            Iterator<Food> iterator = foodComparator.isDescending() ? bucket.descendingIterator() : bucket.iterator();
+            if (iterator.hasNext()) {
+                bucketIterators.add(new BucketIterator(iterator));
+            }
+        }
+
+        List<Food> sortedFoods = new ArrayList<>();
+        while (!bucketIterators.isEmpty()) {
+            BucketIterator bucketIterator = bucketIterators.poll();
+            sortedFoods.add(bucketIterator.next());
+            if (bucketIterator.hasNext()) {
+                bucketIterators.add(bucketIterator);
+            }
+        }
+        return sortedFoods;
+    }
+
+    /**
+     * Iterates through a sorted bucket while keeping the next food to be returned visible to the merge.
+     */
+    private static class BucketIterator {
+        private final Iterator<Food> iterator;
+        private Food next;
+
+        BucketIterator(Iterator<Food> iterator) {
+            assert iterator.hasNext();
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        Food peek() {
+            return next;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        Food next() {
+            Food current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+    }
+}
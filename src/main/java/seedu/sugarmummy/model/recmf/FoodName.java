@@ -61,7 +61,13 @@ public class FoodName implements Comparable<FoodName> {
 
     @Override
     public int hashCode() {
-        return foodName.hashCode();
+        // Each character is folded the same way as String#equalsIgnoreCase folds it, independent of the locale,
+        // so that food names equal ignoring case have the same hash code.
+        int hashCode = 0;
+        for (int i = 0; i < foodName.length(); i++) {
+            hashCode = 31 * hashCode + Character.toLowerCase(Character.toUpperCase(foodName.charAt(i)));
+        }
+        return hashCode;
     }
 
     @Override
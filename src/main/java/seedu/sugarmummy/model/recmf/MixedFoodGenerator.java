@@ -0,0 +1,116 @@
+package seedu.sugarmummy.model.recmf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Generates combinations of foods, one of each food type, from the foods kept in an array for each food type.
+ * <p>
+ * The arrays are updated as foods are added or deleted, so a combination is picked in time proportional to the number
+ * of food types, using the same random number generator every time. The position of every food in its array is kept,
+ * so that a deleted food is replaced by the last food of its array instead of being searched for.
+ */
+class MixedFoodGenerator {
+
+    static final String SUMMARY_FOOD_NAME = "Summary";
+
+    private static final Comparator<List<Food>> SUMMARY_COMPARATOR = Comparator
+            .comparingDouble((List<Food> mixedFoods) -> getSummaryFood(mixedFoods).getSugar().getNumericalValue())
+            .thenComparingDouble(mixedFoods -> getSummaryFood(mixedFoods).getGi().getNumericalValue());
+
+    private final Map<FoodType, List<Food>> foodsByType = new EnumMap<>(FoodType.class);
+    private final Map<Food, Integer> positions = new HashMap<>();
+    private final Random random;
+
+    MixedFoodGenerator(Random random) {
+        this.random = random;
+        for (FoodType foodType : FoodType.values()) {
+            foodsByType.put(foodType, new ArrayList<>());
+        }
+    }
+
+    private static Food getSummaryFood(List<Food> mixedFoods) {
+        return mixedFoods.get(mixedFoods.size() - 1);
+    }
+
+    /**
+     * Updates the arrays of foods with the additions and removals in {@code change}.
+     */
+    void update(ListChangeListener.Change<? extends Food> change) {
+        while (change.next()) {
+            for (Food removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Food added : change.getAddedSubList()) {
+                List<Food> foodsOfType = foodsByType.get(added.getFoodType());
+                positions.put(added, foodsOfType.size());
+                foodsOfType.add(added);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code food} from the array of its food type by moving the last food of the array into its position.
+     */
+    private void remove(Food food) {
+        Integer position = positions.remove(food);
+        if (position == null) {
+            return;
+        }
+        List<Food> foodsOfType = foodsByType.get(food.getFoodType());
+        Food lastFood = foodsOfType.remove(foodsOfType.size() - 1);
+        if (position < foodsOfType.size()) {
+            foodsOfType.set(position, lastFood);
+            positions.put(lastFood, position);
+        }
+    }
+
+    /**
+     * Returns a random combination of one food of each food type that has foods, followed by a {@code Food} named
+     * {@value #SUMMARY_FOOD_NAME} with the total nutrition values of the combination. Returns an empty list if there
+     * is no food.
+     */
+    List<Food> getMixedFoods() {
+        List<Food> mixedFoods = new ArrayList<>();
+        for (List<Food> foodsOfType : foodsByType.values()) {
+            if (!foodsOfType.isEmpty()) {
+                mixedFoods.add(foodsOfType.get(random.nextInt(foodsOfType.size())));
+            }
+        }
+        if (mixedFoods.isEmpty()) {
+            return mixedFoods;
+        }
+
+        FoodCalculator foodCalculator = new FoodCalculator(mixedFoods);
+        mixedFoods.add(new Food(new FoodName(SUMMARY_FOOD_NAME), foodCalculator.getCalorieSum(),
+                foodCalculator.getGiAverage(), foodCalculator.getSugarSum(), foodCalculator.getFatSum(),
+                FoodType.MEAL));
+        return mixedFoods;
+    }
+
+    /**
+     * Returns {@code numberOfCombinations} random combinations as given by {@link #getMixedFoods()}, ranked by the
+     * total sugar and then the average GI of their summaries, from the lowest. Returns an empty list if there is no
+     * food.
+     */
+    List<List<Food>> getRankedMixedFoods(int numberOfCombinations) {
+        assert numberOfCombinations > 0;
+        List<List<Food>> combinations = new ArrayList<>();
+        for (int i = 0; i < numberOfCombinations; i++) {
+            List<Food> mixedFoods = getMixedFoods();
+            if (mixedFoods.isEmpty()) {
+                return combinations;
+            }
+            combinations.add(mixedFoods);
+        }
+        combinations.sort(SUMMARY_COMPARATOR);
+        return combinations;
+    }
+}
@@ -3,20 +3,27 @@ package seedu.sugarmummy.model.recmf;
 import static java.util.Objects.requireNonNull;
 import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.sugarmummy.commons.core.LogsCenter;
 import seedu.sugarmummy.model.ReadOnlyData;
+import seedu.sugarmummy.model.TrackableData;
 import seedu.sugarmummy.model.recmf.exceptions.DuplicateFoodException;
 import seedu.sugarmummy.model.recmf.exceptions.FoodNotFoundException;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
 
 /**
  * This class represents a list of foods that enforces uniqueness between its elements and does not allow nulls. A food
@@ -24,7 +31,7 @@ import seedu.sugarmummy.model.recmf.exceptions.FoodNotFoundException;
  *
  * @see Food#isSameFood(Food)
  */
-public class UniqueFoodList implements Iterable<Food>, ReadOnlyData {
+public class UniqueFoodList implements Iterable<Food>, ReadOnlyData, TrackableData {
 
     protected final ObservableList<Food> internalList = FXCollections.observableArrayList();
     protected final ObservableList<Food> internalUnmodifiableList =
@@ -32,12 +39,37 @@ public class UniqueFoodList implements Iterable<Food>, ReadOnlyData {
 
     private final Logger logger = LogsCenter.getLogger(UniqueFoodList.class);
 
+    /** The position of every food in the list, keyed by its food name, which is unique among the foods. */
+    private final Map<FoodName, Integer> positionsByName = new HashMap<>();
+    private final FoodIndex foodIndex = new FoodIndex();
+    private final ObservableList<Food> filteredList = FXCollections.observableArrayList();
+    private final ObservableList<Food> filteredUnmodifiableList =
+            FXCollections.unmodifiableObservableList(filteredList);
+    private Set<FoodType> wantedFoodTypes = EnumSet.allOf(FoodType.class);
+    private FoodNameContainsKeywordsPredicate filteredListPredicate = new FoodNameContainsKeywordsPredicate(List.of());
+    private FoodComparator filteredListComparator = new FoodComparator(FoodComparator.DEFAULT_SORT_ORDER_STRING);
+
+    private final MixedFoodGenerator mixedFoodGenerator = new MixedFoodGenerator(new Random());
+    private final ObservableList<Food> mixedFoodList = FXCollections.observableArrayList();
+    private final ObservableList<Food> mixedFoodUnmodifiableList =
+            FXCollections.unmodifiableObservableList(mixedFoodList);
+
+    private boolean isModified = false;
+
+    {
+        internalList.addListener((ListChangeListener<Food>) change -> isModified = true);
+        internalList.addListener(this::updatePositionsByName);
+        internalList.addListener(foodIndex::update);
+        internalList.addListener(mixedFoodGenerator::update);
+        internalList.addListener(this::applyToFilteredList);
+    }
+
     /**
      * Returns true if the list contains an equivalent food as the given argument.
      */
     public boolean contains(Food toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFood);
+        return positionsByName.containsKey(toCheck.getFoodName());
     }
 
     /**
@@ -56,12 +88,12 @@ public class UniqueFoodList implements Iterable<Food>, ReadOnlyData {
      */
     public void delete(FoodName foodName) {
         requireNonNull(foodName);
-        Optional<Food> targetFood = internalList.stream().filter(food -> food.getFoodName().equals(foodName)).findAny();
-        if (targetFood.isEmpty()) {
+        Integer position = positionsByName.get(foodName);
+        if (position == null) {
             throw new FoodNotFoundException();
         } else {
-            assert internalList.contains(targetFood.get());
-            internalList.remove(targetFood.get());
+            assert internalList.get(position).getFoodName().equals(foodName);
+            internalList.remove((int) position);
         }
     }
 
@@ -82,10 +114,6 @@ public class UniqueFoodList implements Iterable<Food>, ReadOnlyData {
         internalList.setAll(foods);
     }
 
-    public void sortFoods(FoodComparator foodComparator) {
-        internalList.sort(foodComparator);
-    }
-
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -93,40 +121,109 @@ public class UniqueFoodList implements Iterable<Food>, ReadOnlyData {
         return internalUnmodifiableList;
     }
 
-    private Food getRandomFood(Food[] foodList) {
-        Random random = new Random();
-        return foodList[(random.nextInt(foodList.length))];
+    /**
+     * Returns an unmodifiable view of the foods of the wanted food types that satisfy the predicate given in {@link
+     * #updateFilteredList(Set, FoodNameContainsKeywordsPredicate, FoodComparator)}, sorted in the order given there.
+     * The view is kept up to date as foods are added or deleted, and shows all foods sorted by food type by default.
+     */
+    public ObservableList<Food> getFilteredList() {
+        return filteredUnmodifiableList;
     }
 
     /**
-     * Returns a random mix of one food from each type. A {@code Food} with {@code FoodName} "Summary" that calculates
-     * the total nutrition values of foods in this random combination will be appended to the end.
-     *
-     * @return a {@code ObservableList} that contains a mixed combination of foods from each type
+     * Shows the foods of {@code foodTypes} that satisfy {@code namePredicate}, sorted by {@code foodComparator}, in
+     * the filtered list. The foods are taken from their food type buckets, which are already sorted, or from the
+     * postings of the keywords in {@code namePredicate}, so the food list itself is neither sorted nor changed.
      */
-    public ObservableList<Food> getMixedFoodList() {
+    public void updateFilteredList(Set<FoodType> foodTypes, FoodNameContainsKeywordsPredicate namePredicate,
+            FoodComparator foodComparator) {
+        requireAllNonNull(foodTypes, namePredicate, foodComparator);
+        wantedFoodTypes = foodTypes;
+        filteredListPredicate = namePredicate;
+        filteredListComparator = foodComparator;
+        refreshFilteredList();
+    }
 
-        List<Food> mixedFoods = Stream.of(FoodType.values())
-                .map(type -> internalUnmodifiableList.stream().filter(f -> f.getFoodType().equals(type))
-                        .toArray(Food[]::new))
-                .filter(arr -> arr.length > 0)
-                .map(foodArr -> getRandomFood(foodArr))
-                .collect(Collectors.toList());
+    /**
+     * Updates the positions keyed by food name with the changes in {@code change}. Only the foods from the first
+     * changed position onwards are renumbered, so adding a food to the end of the list renumbers that food alone.
+     */
+    private void updatePositionsByName(ListChangeListener.Change<? extends Food> change) {
+        int firstChangedPosition = internalList.size();
+        while (change.next()) {
+            change.getRemoved().forEach(removed -> positionsByName.remove(removed.getFoodName()));
+            firstChangedPosition = Math.min(firstChangedPosition, change.getFrom());
+        }
+        for (int i = firstChangedPosition; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getFoodName(), i);
+        }
+    }
 
-        if (mixedFoods.size() == 0) {
-            return FXCollections.observableArrayList();
+    /**
+     * Updates the filtered list with the additions and removals in {@code change}. A single food added or removed is
+     * inserted into or removed from the filtered list directly, while larger changes, such as replacing all foods,
+     * rebuild the filtered list from the food type buckets.
+     */
+    private void applyToFilteredList(ListChangeListener.Change<? extends Food> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getRemovedSize() + change.getAddedSize() > 1) {
+                refreshFilteredList();
+                return;
+            }
+            change.getRemoved().forEach(filteredList::remove);
+            change.getAddedSubList().stream().filter(this::isInFilteredList).forEach(this::insertIntoFilteredList);
         }
-        FoodCalculator foodCalculator = new FoodCalculator(mixedFoods);
-        Food summaryFood = new Food(new FoodName("Summary"), foodCalculator.getCalorieSum(),
-                foodCalculator.getGiAverage(), foodCalculator.getSugarSum(), foodCalculator.getFatSum(), FoodType.MEAL);
-        mixedFoods.add(summaryFood);
+    }
 
-        ObservableList<Food> mixedFoodList = FXCollections.observableArrayList();
+    private boolean isInFilteredList(Food food) {
+        return wantedFoodTypes.contains(food.getFoodType()) && filteredListPredicate.test(food);
+    }
+
+    /**
+     * Inserts {@code food} into the filtered list at the position given by its sort order.
+     */
+    private void insertIntoFilteredList(Food food) {
+        int index = Collections.binarySearch(filteredList, food, filteredListComparator);
+        filteredList.add(index < 0 ? -index - 1 : index, food);
+    }
+
+    private void refreshFilteredList() {
+        filteredList.setAll(foodIndex.getSortedFoods(wantedFoodTypes, filteredListPredicate, filteredListComparator));
+    }
+
+    /**
+     * Returns an unmodifiable view of the food combinations given by the last call to {@link
+     * #updateMixedFoodList(int)}.
+     */
+    public ObservableList<Food> getMixedFoodList() {
+        return mixedFoodUnmodifiableList;
+    }
+
+    /**
+     * Shows {@code numberOfCombinations} random combinations of one food from each type in the mixed food list, each
+     * followed by a {@code Food} with {@code FoodName} "Summary" that calculates the total nutrition values of the
+     * foods in the combination. The combinations are ranked by their total sugar and then their average GI, from the
+     * lowest. The mixed food list is empty if there is no food.
+     */
+    public void updateMixedFoodList(int numberOfCombinations) {
+        List<Food> mixedFoods = new ArrayList<>();
+        mixedFoodGenerator.getRankedMixedFoods(numberOfCombinations).forEach(mixedFoods::addAll);
         mixedFoodList.setAll(mixedFoods);
 
         logger.info("----------------[Mixed Food][" + mixedFoodList + "]");
+    }
 
-        return mixedFoodList;
+    @Override
+    public boolean isModified() {
+        return isModified;
+    }
+
+    @Override
+    public void markAsSaved() {
+        isModified = false;
     }
 
     @Override
@@ -150,11 +247,10 @@ public class UniqueFoodList implements Iterable<Food>, ReadOnlyData {
      * Returns true if {@code foods} contains only unique foods.
      */
     private boolean foodsAreUnique(List<Food> foods) {
-        for (int i = 0; i < foods.size() - 1; i++) {
-            for (int j = i + 1; j < foods.size(); j++) {
-                if (foods.get(i).isSameFood(foods.get(j))) {
-                    return false;
-                }
+        Set<FoodName> foodNames = new HashSet<>();
+        for (Food food : foods) {
+            if (!foodNames.add(food.getFoodName())) {
+                return false;
             }
         }
         return true;
@@ -2,6 +2,8 @@ package seedu.sugarmummy.model.recmf.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -9,9 +11,14 @@ import seedu.sugarmummy.commons.util.StringUtil;
 import seedu.sugarmummy.model.recmf.Food;
 
 /**
- * Tests that a {@code Food}'s {@code FoodName} matches any of the keywords given.
+ * Tests that a {@code Food}'s {@code FoodName} matches any of the keywords given. A keyword matches a food name that
+ * contains it as a full word, or, if the keyword ends with {@value #PREFIX_WILDCARD}, a word starting with the rest
+ * of the keyword. Both are case insensitive.
  */
 public class FoodNameContainsKeywordsPredicate implements Predicate<Food> {
+
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
 
     public FoodNameContainsKeywordsPredicate(List<String> keywords) {
@@ -19,6 +26,29 @@ public class FoodNameContainsKeywordsPredicate implements Predicate<Food> {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns true if {@code keyword} matches the words starting with it, rather than a full word.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        String preppedKeyword = keyword.trim();
+        return preppedKeyword.length() > PREFIX_WILDCARD.length() && preppedKeyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    /**
+     * Returns the part of {@code keyword} that a word must start with, or the full word that it must be if {@code
+     * keyword} is not a prefix keyword.
+     */
+    public static String getKeywordText(String keyword) {
+        String preppedKeyword = keyword.trim();
+        return isPrefixKeyword(preppedKeyword)
+                ? preppedKeyword.substring(0, preppedKeyword.length() - PREFIX_WILDCARD.length())
+                : preppedKeyword;
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Food food) {
         requireNonNull(food);
@@ -27,8 +57,18 @@ public class FoodNameContainsKeywordsPredicate implements Predicate<Food> {
         if (keywords.size() == 0) {
             return true;
         }
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(food.getFoodName().toString(), keyword));
+        String foodName = food.getFoodName().toString();
+        return keywords.stream().anyMatch(keyword -> isPrefixKeyword(keyword)
+                ? containsWordStartingWithIgnoreCase(foodName, getKeywordText(keyword))
+                : StringUtil.containsWordIgnoreCase(foodName, keyword));
+    }
+
+    /**
+     * Returns true if any word in {@code sentence} starts with {@code prefix}, ignoring case.
+     */
+    private boolean containsWordStartingWithIgnoreCase(String sentence, String prefix) {
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(word -> word.regionMatches(true, 0, prefix, 0, prefix.length()));
     }
 
     @Override
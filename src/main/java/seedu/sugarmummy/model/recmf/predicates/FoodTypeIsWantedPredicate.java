@@ -2,6 +2,7 @@ package seedu.sugarmummy.model.recmf.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -27,8 +28,14 @@ public class FoodTypeIsWantedPredicate implements Predicate<Food> {
         if (foodTypes.size() == 0) {
             return true;
         }
-        return foodTypes.stream()
-                .anyMatch(foodType -> food.getFoodType().equals(foodType));
+        return foodTypes.contains(food.getFoodType());
+    }
+
+    /**
+     * Returns the food types that are wanted, which are all food types if none is specified.
+     */
+    public Set<FoodType> getWantedFoodTypes() {
+        return foodTypes.isEmpty() ? EnumSet.allOf(FoodType.class) : EnumSet.copyOf(foodTypes);
     }
 
     @Override
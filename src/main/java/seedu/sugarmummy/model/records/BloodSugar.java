@@ -25,6 +25,11 @@ public class BloodSugar extends Record {
         return concentration;
     }
 
+    @Override
+    public RecordType getRecordType() {
+        return RecordType.BLOODSUGAR;
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
@@ -37,6 +37,11 @@ public class Bmi extends Record {
         return bmi;
     }
 
+    @Override
+    public RecordType getRecordType() {
+        return RecordType.BMI;
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
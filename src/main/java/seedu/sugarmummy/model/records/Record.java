@@ -36,6 +36,11 @@ public abstract class Record {
         return dateTime;
     }
 
+    /**
+     * Returns the type of this record.
+     */
+    public abstract RecordType getRecordType();
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,76 @@
+package seedu.sugarmummy.model.records;
+
+import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a single addition or removal of a {@code Record} made to a {@code UniqueRecordList}. Guarantees:
+ * immutable.
+ */
+public class RecordChange {
+
+    /**
+     * Represents the kind of modification made to the record list.
+     */
+    public enum ChangeType {
+        ADD, REMOVE
+    }
+
+    private final ChangeType changeType;
+    private final Record record;
+
+    public RecordChange(ChangeType changeType, Record record) {
+        requireAllNonNull(changeType, record);
+        this.changeType = changeType;
+        this.record = record;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Record getRecord() {
+        return record;
+    }
+
+    /**
+     * Applies this change to the given record list. Adding a record when an equivalent record is already present, or
+     * removing a record when no equal record is present, leaves the list unchanged, so that a change can safely be
+     * applied more than once, even after the changes that followed it.
+     */
+    public void applyTo(UniqueRecordList recordList) {
+        switch (changeType) {
+        case ADD:
+            if (!recordList.contains(record)) {
+                recordList.add(record);
+            }
+            break;
+        case REMOVE:
+            if (recordList.containsEqual(record)) {
+                recordList.remove(record);
+            }
+            break;
+        default:
+            assert false : "Unknown record change type";
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecordChange // instanceof handles nulls
+                && changeType == ((RecordChange) other).changeType
+                && record.equals(((RecordChange) other).record));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changeType, record);
+    }
+
+    @Override
+    public String toString() {
+        return changeType + " " + record;
+    }
+}
@@ -3,14 +3,24 @@ package seedu.sugarmummy.model.records;
 import static java.util.Objects.requireNonNull;
 import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.sugarmummy.model.ReadOnlyData;
+import seedu.sugarmummy.model.TrackableData;
+import seedu.sugarmummy.model.records.RecordChange.ChangeType;
 import seedu.sugarmummy.model.records.exceptions.DuplicateRecordException;
 import seedu.sugarmummy.model.records.exceptions.RecordNotFoundException;
+import seedu.sugarmummy.model.time.DateTime;
 
 /**
  * A list of records that enforces uniqueness between its elements and does not allow nulls. A record is considered
@@ -19,22 +29,56 @@ import seedu.sugarmummy.model.records.exceptions.RecordNotFoundException;
  * identity in the UniqueRecordList. However, the removal of a record uses Record#equals(Object) so as to ensure that
  * the record with exactly the same fields will be removed.
  * <p>
+ * Besides the list itself, records are indexed by their type and date time, so that checking for duplicates and
+ * looking up the records of a type within a period do not require scanning the whole list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Record#isSameRecord(Record)
  */
-public class UniqueRecordList implements Iterable<Record>, ReadOnlyData {
+public class UniqueRecordList implements Iterable<Record>, ReadOnlyData, TrackableData {
 
     private final ObservableList<Record> internalList = FXCollections.observableArrayList();
     private final ObservableList<Record> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<RecordType, NavigableMap<DateTime, Record>> recordIndex = createEmptyIndex();
+
+    private final List<RecordChange> unsavedChanges = new ArrayList<>();
+    private boolean isModified = false;
+    private boolean areUnsavedChangesReplayable = true;
+
+    {
+        internalList.addListener(this::updateIndex);
+        internalList.addListener(this::trackChange);
+    }
 
     /**
      * Returns true if the list contains an equivalent record as the given argument.
      */
     public boolean contains(Record toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecord);
+        Record indexedRecord = recordIndex.get(toCheck.getRecordType()).get(toCheck.getDateTime());
+        return indexedRecord != null && toCheck.isSameRecord(indexedRecord);
+    }
+
+    /**
+     * Returns true if the list contains a record that is equal to the given argument, and not only equivalent to it.
+     */
+    public boolean containsEqual(Record toCheck) {
+        requireNonNull(toCheck);
+        return toCheck.equals(recordIndex.get(toCheck.getRecordType()).get(toCheck.getDateTime()));
+    }
+
+    /**
+     * Returns the records of type {@code recordType} whose date time lies between {@code start} and {@code end}
+     * inclusive, sorted by date time.
+     */
+    public List<Record> getRecordsBetween(RecordType recordType, DateTime start, DateTime end) {
+        requireAllNonNull(recordType, start, end);
+        if (start.compareTo(end) > 0) {
+            return Collections.emptyList();
+        }
+        return List.copyOf(recordIndex.get(recordType).subMap(start, true, end, true).values());
     }
 
     /**
@@ -72,7 +116,7 @@ public class UniqueRecordList implements Iterable<Record>, ReadOnlyData {
      */
     public void remove(Record toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!contains(toRemove) || !internalList.remove(toRemove)) {
             throw new RecordNotFoundException();
         }
     }
@@ -101,6 +145,87 @@ public class UniqueRecordList implements Iterable<Record>, ReadOnlyData {
         return internalUnmodifiableList;
     }
 
+    @Override
+    public boolean isModified() {
+        return isModified;
+    }
+
+    @Override
+    public void markAsSaved() {
+        isModified = false;
+        unsavedChanges.clear();
+        areUnsavedChangesReplayable = true;
+    }
+
+    /**
+     * Returns the additions and removals made to this list since it was last saved, in the order they were made.
+     */
+    public List<RecordChange> getUnsavedChanges() {
+        return Collections.unmodifiableList(unsavedChanges);
+    }
+
+    /**
+     * Returns true if applying {@link #getUnsavedChanges()} in order to the last saved state of this list reproduces
+     * the current list exactly, including the order of its records.
+     */
+    public boolean areUnsavedChangesReplayable() {
+        return areUnsavedChangesReplayable;
+    }
+
+    /**
+     * Returns an independent copy of this list that also carries over the changes made to this list since it was last
+     * saved, such that the copy can be saved in place of this list.
+     */
+    public UniqueRecordList copy() {
+        UniqueRecordList copy = new UniqueRecordList();
+        copy.internalList.setAll(internalList);
+        copy.unsavedChanges.clear();
+        copy.unsavedChanges.addAll(unsavedChanges);
+        copy.isModified = isModified;
+        copy.areUnsavedChangesReplayable = areUnsavedChangesReplayable;
+        return copy;
+    }
+
+    /**
+     * Keeps the index of records by type and date time consistent with the additions and removals in {@code change}.
+     */
+    private void updateIndex(ListChangeListener.Change<? extends Record> change) {
+        while (change.next()) {
+            for (Record removed : change.getRemoved()) {
+                recordIndex.get(removed.getRecordType()).remove(removed.getDateTime());
+            }
+            for (Record added : change.getAddedSubList()) {
+                recordIndex.get(added.getRecordType()).put(added.getDateTime(), added);
+            }
+        }
+    }
+
+    /**
+     * Records the additions and removals in {@code change} as unsaved changes. Records added anywhere other than the
+     * end of the list, as well as reorderings, cannot be reproduced by appending and removing records, and hence mark
+     * the unsaved changes as not replayable.
+     */
+    private void trackChange(ListChangeListener.Change<? extends Record> change) {
+        isModified = true;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                areUnsavedChangesReplayable = false;
+                continue;
+            }
+            for (Record removed : change.getRemoved()) {
+                unsavedChanges.add(new RecordChange(ChangeType.REMOVE, removed));
+            }
+            if (change.wasAdded()) {
+                if (change.getTo() != internalList.size()) {
+                    areUnsavedChangesReplayable = false;
+                }
+                for (Record added : change.getAddedSubList()) {
+                    unsavedChanges.add(new RecordChange(ChangeType.ADD, added));
+                }
+            }
+        }
+    }
+
     @Override
     public Iterator<Record> iterator() {
         return internalList.iterator();
@@ -118,15 +243,25 @@ public class UniqueRecordList implements Iterable<Record>, ReadOnlyData {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns an index with an empty map of records for every record type.
+     */
+    private static Map<RecordType, NavigableMap<DateTime, Record>> createEmptyIndex() {
+        Map<RecordType, NavigableMap<DateTime, Record>> index = new EnumMap<>(RecordType.class);
+        for (RecordType recordType : RecordType.values()) {
+            index.put(recordType, new TreeMap<>());
+        }
+        return index;
+    }
+
     /**
      * Returns true if {@code records} contains only unique records.
      */
     private boolean recordsAreUnique(List<Record> records) {
-        for (int i = 0; i < records.size() - 1; i++) {
-            for (int j = i + 1; j < records.size(); j++) {
-                if (records.get(i).isSameRecord(records.get(j))) {
-                    return false;
-                }
+        Map<RecordType, NavigableMap<DateTime, Record>> index = createEmptyIndex();
+        for (Record record : records) {
+            if (index.get(record.getRecordType()).putIfAbsent(record.getDateTime(), record) != null) {
+                return false;
             }
         }
         return true;
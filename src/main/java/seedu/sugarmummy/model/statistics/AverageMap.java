@@ -1,26 +1,31 @@
 package seedu.sugarmummy.model.statistics;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.sugarmummy.commons.core.Messages.MESSAGE_INVALID_RECORD_TYPE;
+import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAdjusters;
-import java.util.Collections;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.sugarmummy.model.records.BloodSugar;
 import seedu.sugarmummy.model.records.Bmi;
 import seedu.sugarmummy.model.records.Record;
 import seedu.sugarmummy.model.records.RecordType;
+import seedu.sugarmummy.model.time.DateTime;
 
 //@@author chen-xi-cx
 
@@ -28,6 +33,10 @@ import seedu.sugarmummy.model.records.RecordType;
  * Calculates the average values required by {@code AverageCommand}. The averages are stored as a map
  * with key as {@code LocalDate} and value as {@code Double}. Key represents the time period.
  * Value represents the average values.
+ * <p>
+ * The records of the observed record list are kept grouped by record type, average type and time period, and these
+ * groups are updated as records are added or removed. Calculating averages therefore only reads the most recent groups
+ * instead of regrouping every record.
  */
 public class AverageMap {
 
@@ -43,6 +52,20 @@ public class AverageMap {
     private final SimpleStringProperty internalAverageType = new SimpleStringProperty();
     private final SimpleStringProperty internalRecordType = new SimpleStringProperty();
 
+    private final ObservableList<Record> recordList;
+    private final Map<RecordType, Map<AverageType, NavigableMap<LocalDate, PeriodGroup>>> periodGroups =
+            new EnumMap<>(RecordType.class);
+
+    /**
+     * Constructs an {@code AverageMap} that calculates averages of the records in {@code recordList}.
+     */
+    public AverageMap(ObservableList<Record> recordList) {
+        requireNonNull(recordList);
+        this.recordList = recordList;
+        regroupAllRecords();
+        recordList.addListener(this::updatePeriodGroups);
+    }
+
     public SimpleStringProperty getInternalAverageType() {
         return internalAverageType;
     }
@@ -53,28 +76,21 @@ public class AverageMap {
 
     /**
      * Calculates average values of a given record type based on the average type given.
-     * Pre-requisite: filteredRecordList must contain only the record type specified by {@code AverageCommand}.
      *
-     * @param filteredRecordList list of records containing only the record type specified by @param recordType.
-     * @param averageType        the average type.
-     * @param recordType         the record type.
-     * @param count              the number of most recent averages to calculate.
+     * @param averageType the average type.
+     * @param recordType  the record type.
+     * @param count       the number of most recent averages to calculate.
      */
-    public void calculateAverage(ObservableList<Record> filteredRecordList,
-            AverageType averageType, RecordType recordType, int count) {
-        // Group records according to average type
-        Map<LocalDate, List<Record>> groupByTimeRecords = groupByAverageType(averageType, filteredRecordList);
-
-        // Calculate averages for each grouping in groupByTimeRecords
-        Map<LocalDate, Double> averages = calculateAverageMap(recordType, groupByTimeRecords);
-
-        // Sort by descending date
-        Map<LocalDate, Double> averageMap = new TreeMap<>(Collections.reverseOrder());
-        averageMap.putAll(averages);
-
-        // get latest "count" records
-        Map<LocalDate, Double> countAverageMap = averageMap.entrySet().stream().limit(count)
-                .collect(TreeMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), Map::putAll);
+    public void calculateAverage(AverageType averageType, RecordType recordType, int count) {
+        // get latest "count" averages in descending order of date
+        Map<LocalDate, Double> countAverageMap = new TreeMap<>();
+        for (Map.Entry<LocalDate, PeriodGroup> entry
+                : getPeriodGroups(recordType, averageType).descendingMap().entrySet()) {
+            if (countAverageMap.size() >= count) {
+                break;
+            }
+            countAverageMap.put(entry.getKey(), entry.getValue().getAverage());
+        }
 
         internalMap.clear();
         internalMap.putAll(countAverageMap);
@@ -84,44 +100,93 @@ public class AverageMap {
     }
 
     /**
-     * Groups records by average type. For example, if average type is weekly, records from the same week are grouped
-     * together.
-     *
-     * @param averageType the average type.
-     * @param recordList  list of records containing only one type of record.
-     * @return returns a {@code Map} object that maps a time period to the respective records found in that time
-     * period.
+     * Returns the average value of the records of {@code recordType} on {@code date}, or an empty {@code Optional} if
+     * there is no such record.
      */
-    private Map<LocalDate, List<Record>> groupByAverageType(AverageType averageType,
-            ObservableList<Record> recordList) {
-        return recordList.stream()
-                .collect(Collectors.groupingBy(record -> record.getDateTime()
-                .getDate().with(TIMEADJUSTERS.get(averageType))));
+    public Optional<Double> getDailyAverage(RecordType recordType, LocalDate date) {
+        requireAllNonNull(recordType, date);
+        return Optional.ofNullable(getPeriodGroups(recordType, AverageType.DAILY).get(date))
+                .map(PeriodGroup::getAverage);
     }
 
     /**
-     * Calculates average for each group of records.
-     *
-     * @param recordType the record type.
-     * @param recordMap  a {@code Map} object that maps a time period to the respective records found in that time
-     * period.
-     * @return returns a {@code Map} object that maps a time period to the respective average values of records
-     * found in that time period.
+     * Updates the groups of records with the additions and removals in {@code change}. Records appended to the end of
+     * the record list are simply added to their groups. Any other addition changes the order of records within their
+     * groups, which may change the last digits of the calculated averages, so all records are regrouped instead.
+     */
+    private void updatePeriodGroups(ListChangeListener.Change<? extends Record> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()
+                    || (change.wasAdded() && change.getTo() != recordList.size())) {
+                regroupAllRecords();
+                return;
+            }
+            change.getRemoved().forEach(this::removeFromPeriodGroups);
+            change.getAddedSubList().forEach(this::addToPeriodGroups);
+        }
+    }
+
+    /**
+     * Groups every record in the record list from scratch.
+     */
+    private void regroupAllRecords() {
+        periodGroups.clear();
+        recordList.forEach(this::addToPeriodGroups);
+    }
+
+    /**
+     * Adds {@code record} to the group of every average type that its date falls in.
+     */
+    private void addToPeriodGroups(Record record) {
+        double value = getValue(record);
+        for (AverageType averageType : AverageType.values()) {
+            getPeriodGroups(record.getRecordType(), averageType)
+                    .computeIfAbsent(getPeriod(record, averageType), period -> new PeriodGroup())
+                    .add(record, value);
+        }
+    }
+
+    /**
+     * Removes {@code record} from the group of every average type that its date falls in.
+     */
+    private void removeFromPeriodGroups(Record record) {
+        for (AverageType averageType : AverageType.values()) {
+            NavigableMap<LocalDate, PeriodGroup> groups = getPeriodGroups(record.getRecordType(), averageType);
+            LocalDate period = getPeriod(record, averageType);
+            PeriodGroup group = groups.get(period);
+            assert group != null : "A removed record should have been grouped.";
+            group.remove(record);
+            if (group.isEmpty()) {
+                groups.remove(period);
+            }
+        }
+    }
+
+    /**
+     * Returns the groups of records of {@code recordType} for {@code averageType}, sorted by time period.
+     */
+    private NavigableMap<LocalDate, PeriodGroup> getPeriodGroups(RecordType recordType, AverageType averageType) {
+        return periodGroups.computeIfAbsent(recordType, type -> new EnumMap<>(AverageType.class))
+                .computeIfAbsent(averageType, type -> new TreeMap<>());
+    }
+
+    /**
+     * Returns the time period that {@code record} falls in for {@code averageType}. For example, if average type is
+     * weekly, the period is the Monday of the week of the record.
+     */
+    private LocalDate getPeriod(Record record, AverageType averageType) {
+        return record.getDateTime().getDate().with(TIMEADJUSTERS.get(averageType));
+    }
+
+    /**
+     * Returns the value of {@code record} that is averaged.
      */
-    private Map<LocalDate, Double> calculateAverageMap(RecordType recordType, Map<LocalDate, List<Record>> recordMap) {
-        switch (recordType) {
+    private double getValue(Record record) {
+        switch (record.getRecordType()) {
         case BLOODSUGAR:
-            return recordMap.entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, ele -> ele.getValue()
-                    .stream().map(record -> (BloodSugar) record)
-                    .map(record -> record.getConcentration().getConcentration())
-                    .mapToDouble(Double::doubleValue).average().getAsDouble()));
+            return ((BloodSugar) record).getConcentration().getConcentration();
         case BMI:
-            return recordMap.entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, ele -> ele.getValue()
-                    .stream().map(record -> (Bmi) record)
-                    .map(record -> record.getBmi())
-                    .mapToDouble(Double::doubleValue).average().getAsDouble()));
+            return ((Bmi) record).getBmi();
         default:
             assert false : "Record type is not found and should not happen.";
             throw new IllegalArgumentException(MESSAGE_INVALID_RECORD_TYPE);
@@ -145,4 +210,34 @@ public class AverageMap {
                 && Objects.equals(internalAverageType.get(), ((AverageMap) other).internalAverageType.get())
                 && Objects.equals(internalRecordType.get(), ((AverageMap) other).internalRecordType.get()));
     }
+
+    /**
+     * Represents the records of one type that fall in the same time period. The values of the records are kept in the
+     * order of the record list, and their average is only recalculated after the group has changed.
+     */
+    private static class PeriodGroup {
+        private final Map<DateTime, Double> values = new LinkedHashMap<>();
+        private Double average;
+
+        void add(Record record, double value) {
+            values.put(record.getDateTime(), value);
+            average = null;
+        }
+
+        void remove(Record record) {
+            values.remove(record.getDateTime());
+            average = null;
+        }
+
+        boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        double getAverage() {
+            if (average == null) {
+                average = values.values().stream().mapToDouble(Double::doubleValue).average().getAsDouble();
+            }
+            return average;
+        }
+    }
 }
@@ -0,0 +1,202 @@
+package seedu.sugarmummy.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.commons.util.StringUtil;
+
+/**
+ * Writes snapshots of data to the hard disk on a dedicated background thread, so that the caller does not have to wait
+ * for the disk.
+ * <p>
+ * Each snapshot is submitted under the name of the data store it belongs to. Snapshots of the same data store that are
+ * submitted before the previous one has started to be written are coalesced, so that a burst of changes to a data
+ * store results in a single write. Snapshots that fail to be written are kept and coalesced with the next snapshot of
+ * the same data store, so that they are retried. Every failure is also passed to the failure handler as soon as it
+ * occurs, on the background thread.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SugarMummy-BackgroundSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, PendingSave<?>> queuedSaves = new HashMap<>();
+    private final Map<String, PendingSave<?>> failedSaves = new HashMap<>();
+    private final Consumer<IOException> failureHandler;
+    private IOException lastFailure;
+
+    public BackgroundSaver() {
+        this(failure -> { });
+    }
+
+    /**
+     * Constructs a {@code BackgroundSaver} that passes every failure to write a snapshot to {@code failureHandler}.
+     */
+    public BackgroundSaver(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written by {@code saver}. A snapshot of the same data store that has yet to be
+     * written is simply replaced by {@code snapshot}.
+     *
+     * @param dataStoreName name of the data store that {@code snapshot} belongs to.
+     * @param snapshot      an immutable copy of the data to be written.
+     * @param saver         writes the snapshot to the hard disk.
+     */
+    public <T> void submit(String dataStoreName, T snapshot, Saver<T> saver) {
+        submit(dataStoreName, snapshot, saver, (earlierSnapshot, laterSnapshot) -> laterSnapshot);
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written by {@code saver}. A snapshot of the same data store that has yet to be
+     * written is replaced by the result of {@code merger}, which is given the earlier and the later snapshot in that
+     * order.
+     *
+     * @param dataStoreName name of the data store that {@code snapshot} belongs to.
+     * @param snapshot      an immutable copy of the data to be written.
+     * @param saver         writes the snapshot to the hard disk.
+     * @param merger        combines an earlier snapshot that has yet to be written with a later one.
+     */
+    public synchronized <T> void submit(String dataStoreName, T snapshot, Saver<T> saver, BinaryOperator<T> merger) {
+        requireAllNonNull(dataStoreName, snapshot, saver, merger);
+        PendingSave<T> pendingSave = new PendingSave<>(snapshot, saver, merger);
+
+        PendingSave<?> failedSave = failedSaves.remove(dataStoreName);
+        if (failedSave != null) {
+            pendingSave = pendingSave.supersede(failedSave);
+        }
+
+        PendingSave<?> queuedSave = queuedSaves.get(dataStoreName);
+        if (queuedSave != null) {
+            queuedSaves.put(dataStoreName, pendingSave.supersede(queuedSave));
+            return;
+        }
+
+        queuedSaves.put(dataStoreName, pendingSave);
+        executor.execute(() -> write(dataStoreName));
+    }
+
+    /**
+     * Blocks until all snapshots submitted so far have been written.
+     *
+     * @throws IOException if any snapshot failed to be written since the last call to this method.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            assert false : "An empty task should not fail";
+        }
+
+        IOException failure = takeLastFailure();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until all snapshots submitted so far have been written, and then stops the background thread. No more
+     * snapshots can be submitted afterwards.
+     *
+     * @throws IOException if any snapshot failed to be written since the last call to {@link #flush()}.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the failure that occurred most recently while writing a snapshot and clears it, or null if every
+     * snapshot has been written successfully since this method was last called.
+     */
+    public synchronized IOException takeLastFailure() {
+        IOException failure = lastFailure;
+        lastFailure = null;
+        return failure;
+    }
+
+    /**
+     * Writes the queued snapshot of the data store named {@code dataStoreName}.
+     */
+    private void write(String dataStoreName) {
+        PendingSave<?> pendingSave;
+        synchronized (this) {
+            pendingSave = queuedSaves.remove(dataStoreName);
+        }
+        assert pendingSave != null;
+
+        try {
+            pendingSave.write();
+        } catch (IOException e) {
+            logger.severe("Failed to save " + dataStoreName + " data: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                lastFailure = e;
+                PendingSave<?> queuedSave = queuedSaves.get(dataStoreName);
+                if (queuedSave == null) {
+                    failedSaves.put(dataStoreName, pendingSave);
+                } else {
+                    queuedSaves.put(dataStoreName, queuedSave.supersede(pendingSave));
+                }
+            }
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Represents a function that writes a snapshot of data to the hard disk.
+     */
+    @FunctionalInterface
+    public interface Saver<T> {
+        void save(T snapshot) throws IOException;
+    }
+
+    /**
+     * A snapshot that has yet to be written, together with the means to write it.
+     */
+    private static class PendingSave<T> {
+        private final T snapshot;
+        private final Saver<T> saver;
+        private final BinaryOperator<T> merger;
+
+        PendingSave(T snapshot, Saver<T> saver, BinaryOperator<T> merger) {
+            this.snapshot = snapshot;
+            this.saver = saver;
+            this.merger = merger;
+        }
+
+        /**
+         * Returns a pending save that replaces both {@code earlierSave} and this save.
+         */
+        @SuppressWarnings("unchecked")
+        PendingSave<T> supersede(PendingSave<?> earlierSave) {
+            return new PendingSave<>(merger.apply(((PendingSave<T>) earlierSave).snapshot, snapshot), saver, merger);
+        }
+
+        void write() throws IOException {
+            saver.save(snapshot);
+        }
+    }
+}
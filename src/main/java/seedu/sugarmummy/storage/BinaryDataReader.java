@@ -0,0 +1,115 @@
+package seedu.sugarmummy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.sugarmummy.model.time.DateTime;
+import seedu.sugarmummy.storage.BinaryDataWriter.ContentType;
+
+/**
+ * Reads data written by a {@link BinaryDataWriter}.
+ */
+public class BinaryDataReader implements Closeable {
+
+    private final DataInputStream input;
+    private final List<String> stringTable = new ArrayList<>();
+
+    /**
+     * Constructs a {@code BinaryDataReader} that reads {@code contentType} content from {@code inputStream}, and
+     * checks the header.
+     *
+     * @throws IOException if the header is not that of {@code contentType} content in a supported format version.
+     */
+    public BinaryDataReader(InputStream inputStream, ContentType contentType) throws IOException {
+        requireNonNull(inputStream);
+        requireNonNull(contentType);
+        input = new DataInputStream(inputStream);
+        if (input.readInt() != BinaryDataWriter.MAGIC_NUMBER) {
+            throw new IOException("Not a binary data file");
+        }
+        short formatVersion = input.readShort();
+        if (formatVersion < 1 || formatVersion > BinaryDataWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary data format version " + formatVersion);
+        }
+        if (input.readByte() != contentType.ordinal()) {
+            throw new IOException("Binary data file does not contain " + contentType);
+        }
+    }
+
+    public int readInt() throws IOException {
+        return input.readInt();
+    }
+
+    public byte readByte() throws IOException {
+        return input.readByte();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return input.readBoolean();
+    }
+
+    public double readDouble() throws IOException {
+        return input.readDouble();
+    }
+
+    /**
+     * Reads a double and returns it as a string of plain decimal digits, in the form accepted by the constructors of
+     * numerical values in the model.
+     */
+    public String readDoubleAsString() throws IOException {
+        return BigDecimal.valueOf(input.readDouble()).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Reads a date time written as the number of minutes since the epoch.
+     */
+    public DateTime readDateTime() throws IOException {
+        long epochMinute = input.readLong();
+        try {
+            return new DateTime(LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60), 0, ZoneOffset.UTC));
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IOException("Invalid date time " + epochMinute, e);
+        }
+    }
+
+    /**
+     * Reads a string, either in full if it is read for the first time, or from the string table otherwise.
+     */
+    public String readString() throws IOException {
+        int index = input.readInt();
+        if (index >= 0 && index < stringTable.size()) {
+            return stringTable.get(index);
+        }
+        if (index != stringTable.size()) {
+            throw new IOException("Invalid string index " + index);
+        }
+
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("Unexpected end of binary data file");
+        }
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        stringTable.add(string);
+        return string;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.sugarmummy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.sugarmummy.model.time.DateTime;
+
+/**
+ * Writes data in the compact binary format of the binary storages.
+ * <p>
+ * The data starts with a header made up of {@link #MAGIC_NUMBER}, the {@link #FORMAT_VERSION} and the {@link
+ * ContentType}. Date times are written as the number of minutes since the epoch, and numbers as doubles. Strings are
+ * interned: the first time a string is written, it is given the next index in the string table and written in full
+ * after its index, while only its index is written afterwards.
+ */
+public class BinaryDataWriter implements Closeable {
+
+    public static final int MAGIC_NUMBER = 0x534D4442;
+    public static final short FORMAT_VERSION = 1;
+
+    private final DataOutputStream output;
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    /**
+     * Constructs a {@code BinaryDataWriter} that writes {@code contentType} content to {@code outputStream}, and
+     * writes the header.
+     */
+    public BinaryDataWriter(OutputStream outputStream, ContentType contentType) throws IOException {
+        requireNonNull(outputStream);
+        requireNonNull(contentType);
+        output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC_NUMBER);
+        output.writeShort(FORMAT_VERSION);
+        output.writeByte(contentType.ordinal());
+    }
+
+    public void writeInt(int value) throws IOException {
+        output.writeInt(value);
+    }
+
+    public void writeByte(int value) throws IOException {
+        output.writeByte(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        output.writeBoolean(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        output.writeDouble(value);
+    }
+
+    /**
+     * Writes {@code dateTime} as the number of minutes since the epoch. Seconds are not kept, as in the json files.
+     */
+    public void writeDateTime(DateTime dateTime) throws IOException {
+        requireNonNull(dateTime);
+        long epochSecond = LocalDateTime.of(dateTime.getDate(), dateTime.getTime()).toEpochSecond(ZoneOffset.UTC);
+        output.writeLong(Math.floorDiv(epochSecond, 60));
+    }
+
+    /**
+     * Writes the index of {@code string} in the string table, followed by {@code string} itself if it has not been
+     * written before.
+     */
+    public void writeString(String string) throws IOException {
+        requireNonNull(string);
+        Integer index = stringTable.get(string);
+        if (index != null) {
+            output.writeInt(index);
+            return;
+        }
+
+        output.writeInt(stringTable.size());
+        stringTable.put(string, stringTable.size());
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    /**
+     * Represents the kinds of content stored in binary data files. New kinds must only be added at the end, since the
+     * position of a kind identifies it in the files.
+     */
+    public enum ContentType {
+        FOOD_LIST, RECORD_LIST, EVENT_LIST, REMINDER_LIST
+    }
+}
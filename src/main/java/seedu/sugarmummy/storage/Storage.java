@@ -47,6 +47,23 @@ public interface Storage extends UserListStorage, UserPrefsStorage, CalendarStor
 
     void saveRecordList(UniqueRecordList recordList, Path filePath) throws IOException;
 
+    /**
+     * Saves the changes made to the given record list since it was last saved, appending them to the record list
+     * journal where possible instead of rewriting the whole record list.
+     *
+     * @param recordList cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveRecordListChanges(UniqueRecordList recordList) throws IOException;
+
+    /**
+     * Compacts the record list journal, if any, into a snapshot of the given record list.
+     *
+     * @param recordList cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactRecordList(UniqueRecordList recordList) throws IOException;
+
     Path getEventFilePath();
 
     Path getReminderFilePath();
@@ -16,8 +16,8 @@ import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
 import seedu.sugarmummy.model.recmf.UniqueFoodList;
 import seedu.sugarmummy.model.records.UniqueRecordList;
 import seedu.sugarmummy.storage.biography.UserListStorage;
-import seedu.sugarmummy.storage.calendar.JsonCalendarStorage;
-import seedu.sugarmummy.storage.recmf.JsonFoodListStorage;
+import seedu.sugarmummy.storage.calendar.CalendarStorage;
+import seedu.sugarmummy.storage.recmf.JsonSerializableFoodList;
 import seedu.sugarmummy.storage.records.JsonRecordListStorage;
 
 /**
@@ -28,19 +28,20 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private UserListStorage userListStorage;
     private UserPrefsStorage userPrefsStorage;
-    private JsonFoodListStorage jsonFoodListStorage;
-    private JsonRecordListStorage jsonRecordListStorage;
-    private JsonCalendarStorage calendarStorage;
+    private GeneralStorage<UniqueFoodList, JsonSerializableFoodList> foodListStorage;
+    private JsonRecordListStorage recordListStorage;
+    private CalendarStorage calendarStorage;
 
 
     public StorageManager(UserPrefsStorage userPrefsStorage,
-                          UserListStorage userListStorage, JsonFoodListStorage jsonFoodListStorage,
-                          JsonRecordListStorage jsonRecordListStorage, JsonCalendarStorage calendarStorage) {
+                          UserListStorage userListStorage,
+                          GeneralStorage<UniqueFoodList, JsonSerializableFoodList> foodListStorage,
+                          JsonRecordListStorage recordListStorage, CalendarStorage calendarStorage) {
         super();
         this.userListStorage = userListStorage;
         this.userPrefsStorage = userPrefsStorage;
-        this.jsonFoodListStorage = jsonFoodListStorage;
-        this.jsonRecordListStorage = jsonRecordListStorage;
+        this.foodListStorage = foodListStorage;
+        this.recordListStorage = recordListStorage;
         this.calendarStorage = calendarStorage;
     }
 
@@ -64,57 +65,71 @@ public class StorageManager implements Storage {
     // ================ FoodList methods ==============================
     @Override
     public Path getFoodListFilePath() {
-        return jsonFoodListStorage.getFilePath();
+        return foodListStorage.getFilePath();
     }
 
     @Override
     public Optional<UniqueFoodList> readFoodList() throws DataConversionException, IOException {
-        return readFoodList(jsonFoodListStorage.getFilePath());
+        logger.fine("Attempting to read data from file: " + foodListStorage.getFilePath());
+        return foodListStorage.read();
     }
 
     @Override
     public Optional<UniqueFoodList> readFoodList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return jsonFoodListStorage.read(filePath);
+        return foodListStorage.read(filePath);
     }
 
     @Override
     public void saveFoodList(UniqueFoodList foodList) throws IOException {
-        saveFoodList(foodList, jsonFoodListStorage.getFilePath());
+        saveFoodList(foodList, foodListStorage.getFilePath());
     }
 
     @Override
     public void saveFoodList(UniqueFoodList foodList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        jsonFoodListStorage.save(foodList, filePath);
+        foodListStorage.save(foodList, filePath);
     }
 
     // ================ RecordList methods ==============================
     @Override
     public Path getRecordListFilePath() {
-        return jsonRecordListStorage.getFilePath();
+        return recordListStorage.getFilePath();
     }
 
     @Override
     public Optional<UniqueRecordList> readRecordList() throws DataConversionException, IOException {
-        return readRecordList(jsonRecordListStorage.getFilePath());
+        logger.fine("Attempting to read data from file: " + recordListStorage.getFilePath());
+        return recordListStorage.read();
     }
 
     @Override
     public Optional<UniqueRecordList> readRecordList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return jsonRecordListStorage.read(filePath);
+        return recordListStorage.read(filePath);
     }
 
     @Override
     public void saveRecordList(UniqueRecordList recordList) throws IOException {
-        saveRecordList(recordList, jsonRecordListStorage.getFilePath());
+        saveRecordList(recordList, recordListStorage.getFilePath());
     }
 
     @Override
     public void saveRecordList(UniqueRecordList recordList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        jsonRecordListStorage.save(recordList, filePath);
+        recordListStorage.save(recordList, filePath);
+    }
+
+    @Override
+    public void saveRecordListChanges(UniqueRecordList recordList) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + recordListStorage.getFilePath());
+        recordListStorage.saveChanges(recordList);
+    }
+
+    @Override
+    public void compactRecordList(UniqueRecordList recordList) throws IOException {
+        logger.fine("Attempting to compact data file: " + recordListStorage.getFilePath());
+        recordListStorage.compact(recordList);
     }
 
     // ================ UserList methods ==============================
@@ -163,7 +178,9 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyCalendar> readCalendar() throws DataConversionException, IOException {
-        return readCalendar(calendarStorage.getEventFilePath(), calendarStorage.getReminderFilePath());
+        logger.fine("Attempting to read data from file: " + calendarStorage.getEventFilePath() + " and "
+                + calendarStorage.getReminderFilePath());
+        return calendarStorage.readCalendar();
     }
 
     @Override
@@ -0,0 +1,224 @@
+package seedu.sugarmummy.storage.calendar;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.model.calendar.Calendar;
+import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.Description;
+import seedu.sugarmummy.model.calendar.Event;
+import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
+import seedu.sugarmummy.model.calendar.Reminder;
+import seedu.sugarmummy.model.calendar.Repetition;
+import seedu.sugarmummy.model.time.DateTime;
+import seedu.sugarmummy.storage.BinaryDataReader;
+import seedu.sugarmummy.storage.BinaryDataWriter;
+import seedu.sugarmummy.storage.BinaryDataWriter.ContentType;
+
+/**
+ * A class to access Calendar data stored as compact binary files on the hard disk.
+ * <p>
+ * Each calendar entry is stored as its description, which is an interned string, and its date time, followed by the
+ * repetition of a reminder, or the optional ending date time and auto reminder of an event. If there are no binary
+ * files yet, the calendar is read from {@code fallbackStorage} instead, so that switching from json files keeps the
+ * existing data.
+ */
+public class BinaryCalendarStorage implements CalendarStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCalendarStorage.class);
+
+    private final Path eventFilePath;
+    private final Path reminderFilePath;
+    private final CalendarStorage fallbackStorage;
+
+    public BinaryCalendarStorage(Path eventFilePath, Path reminderFilePath, CalendarStorage fallbackStorage) {
+        requireAllNonNull(eventFilePath, reminderFilePath, fallbackStorage);
+        this.eventFilePath = eventFilePath;
+        this.reminderFilePath = reminderFilePath;
+        this.fallbackStorage = fallbackStorage;
+    }
+
+    @Override
+    public Path getEventFilePath() {
+        return eventFilePath;
+    }
+
+    @Override
+    public Path getReminderFilePath() {
+        return reminderFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(eventFilePath) && !FileUtil.isFileExists(reminderFilePath)) {
+            logger.info("Binary files " + eventFilePath + " and " + reminderFilePath + " not found, reading from "
+                    + fallbackStorage.getEventFilePath() + " and " + fallbackStorage.getReminderFilePath());
+            return fallbackStorage.readCalendar();
+        }
+        return readCalendar(eventFilePath, reminderFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar(Path eventFilePath, Path reminderFilePath)
+            throws DataConversionException {
+        requireAllNonNull(eventFilePath, reminderFilePath);
+
+        Calendar calendar = new Calendar();
+        boolean isEventFileFound = readCalendarEntries(calendar, eventFilePath, ContentType.EVENT_LIST);
+        boolean isReminderFileFound = readCalendarEntries(calendar, reminderFilePath, ContentType.REMINDER_LIST);
+
+        if (!isEventFileFound && !isReminderFileFound) {
+            return Optional.empty();
+        }
+        return Optional.of(calendar);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
+        saveCalendar(calendar, eventFilePath, reminderFilePath);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar, Path eventFilePath, Path reminderFilePath) throws IOException {
+        requireAllNonNull(calendar, eventFilePath, reminderFilePath);
+
+        FileUtil.createIfMissing(eventFilePath);
+        FileUtil.createIfMissing(reminderFilePath);
+
+        ObservableList<CalendarEntry> calendarEntries = calendar.getCalendarEntryList();
+        List<CalendarEntry> events = calendarEntries.filtered(entry -> entry instanceof Event);
+        List<CalendarEntry> reminders = calendarEntries.filtered(entry -> !(entry instanceof Event));
+
+        FileUtil.writeToFile(eventFilePath, outputStream -> writeCalendarEntries(outputStream, events,
+                ContentType.EVENT_LIST));
+        FileUtil.writeToFile(reminderFilePath, outputStream -> writeCalendarEntries(outputStream, reminders,
+                ContentType.REMINDER_LIST));
+    }
+
+    /**
+     * Reads the calendar entries in the binary file at {@code filePath} into {@code calendar}. Since events are never
+     * the same calendar entries as reminders, checking {@code calendar} for duplicates only finds duplicates in the
+     * same file.
+     *
+     * @return false if there is no file at {@code filePath}.
+     * @throws DataConversionException if the file is not a valid {@code contentType} file.
+     */
+    private boolean readCalendarEntries(Calendar calendar, Path filePath, ContentType contentType)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+
+        String duplicateMessage = contentType == ContentType.EVENT_LIST
+                ? JsonSerializableEventList.MESSAGE_DUPLICATE_EVENT
+                : JsonSerializableReminderList.LIST_CONTAINS_DUPLICATE_REMINDER;
+        try (BinaryDataReader reader = new BinaryDataReader(new BufferedInputStream(Files.newInputStream(filePath)),
+                contentType)) {
+            int numberOfEntries = reader.readInt();
+            for (int i = 0; i < numberOfEntries; i++) {
+                CalendarEntry calendarEntry = contentType == ContentType.EVENT_LIST
+                        ? readEvent(reader)
+                        : readReminder(reader);
+                if (calendar.hasCalendarEntry(calendarEntry)) {
+                    throw new IllegalValueException(duplicateMessage);
+                }
+                calendar.addCalendarEntry(calendarEntry);
+            }
+            return true;
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code calendarEntries}, which are all events or all reminders, to {@code outputStream} in the binary
+     * format.
+     */
+    private void writeCalendarEntries(OutputStream outputStream, List<CalendarEntry> calendarEntries,
+            ContentType contentType) throws IOException {
+        try (BinaryDataWriter writer = new BinaryDataWriter(outputStream, contentType)) {
+            writer.writeInt(calendarEntries.size());
+            for (CalendarEntry calendarEntry : calendarEntries) {
+                if (calendarEntry instanceof Event) {
+                    writeEvent(writer, (Event) calendarEntry);
+                } else {
+                    writeReminder(writer, (Reminder) calendarEntry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code event} with its optional ending date time and auto reminder.
+     */
+    private void writeEvent(BinaryDataWriter writer, Event event) throws IOException {
+        writer.writeString(event.getDescription().toString());
+        writer.writeDateTime(event.getDateTime());
+        writer.writeBoolean(event.getEndingDateTime().isPresent());
+        if (event.getEndingDateTime().isPresent()) {
+            writer.writeDateTime(event.getEndingDateTime().get());
+        }
+        writer.writeBoolean(event.getAutoReminder().isPresent());
+        if (event.getAutoReminder().isPresent()) {
+            writeReminder(writer, event.getAutoReminder().get());
+        }
+    }
+
+    /**
+     * Writes {@code reminder} with its repetition.
+     */
+    private void writeReminder(BinaryDataWriter writer, Reminder reminder) throws IOException {
+        writer.writeString(reminder.getDescription().toString());
+        writer.writeDateTime(reminder.getDateTime());
+        writer.writeString(reminder.getRepetition().toString());
+    }
+
+    /**
+     * Reads an event written by {@link #writeEvent(BinaryDataWriter, Event)}. An {@code IllegalArgumentException} is
+     * thrown if the description of the event or its auto reminder is invalid.
+     *
+     * @throws IllegalValueException if the repetition of its auto reminder is invalid.
+     */
+    private Event readEvent(BinaryDataReader reader) throws IOException, IllegalValueException {
+        Event event = new Event(new Description(reader.readString()), reader.readDateTime());
+        if (reader.readBoolean()) {
+            event.setEndingDateTime(reader.readDateTime());
+        }
+        if (reader.readBoolean()) {
+            event.setAutoReminder(readReminder(reader));
+        }
+        return event;
+    }
+
+    /**
+     * Reads a reminder written by {@link #writeReminder(BinaryDataWriter, Reminder)}. An
+     * {@code IllegalArgumentException} is thrown if the description of the reminder is invalid.
+     *
+     * @throws IllegalValueException if the repetition of the reminder is invalid.
+     */
+    private Reminder readReminder(BinaryDataReader reader) throws IOException, IllegalValueException {
+        Description description = new Description(reader.readString());
+        DateTime dateTime = reader.readDateTime();
+        String repetition = reader.readString();
+        if (!Repetition.isValidRepetition(repetition)) {
+            throw new IllegalValueException(Repetition.MESSAGE_CONSTRAINTS);
+        }
+        return new Reminder(description, dateTime, Repetition.of(repetition));
+    }
+}
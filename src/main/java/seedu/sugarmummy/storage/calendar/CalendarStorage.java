@@ -11,6 +11,17 @@ import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
  * Represents a storage for {@link seedu.sugarmummy.model.Calendar}.
  */
 public interface CalendarStorage {
+
+    /**
+     * Returns the file path of the events.
+     */
+    Path getEventFilePath();
+
+    /**
+     * Returns the file path of the reminders.
+     */
+    Path getReminderFilePath();
+
     /**
      * Returns Calendar data as a {@link ReadOnlyCalendar}. Returns {@code Optional.empty()} if
      * storage file is not found.
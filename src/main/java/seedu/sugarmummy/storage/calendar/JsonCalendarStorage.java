@@ -5,9 +5,8 @@ import static seedu.sugarmummy.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.sugarmummy.commons.core.LogsCenter;
+import javafx.collections.ObservableList;
 import seedu.sugarmummy.commons.exceptions.DataConversionException;
 import seedu.sugarmummy.commons.exceptions.IllegalValueException;
 import seedu.sugarmummy.commons.util.FileUtil;
@@ -16,12 +15,17 @@ import seedu.sugarmummy.model.calendar.Calendar;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
 import seedu.sugarmummy.model.calendar.Event;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
+import seedu.sugarmummy.model.calendar.Reminder;
 
 /**
  * A class to access Calendar data stored as a json file on the hard disk.
+ * <p>
+ * The events and reminders are read from and written to their files one calendar entry at a time, so the whole files
+ * are never held in memory.
  */
 public class JsonCalendarStorage implements CalendarStorage {
-    private static final Logger logger = LogsCenter.getLogger(JsonCalendarStorage.class);
+    private static final String EVENT_LIST_FIELD = "eventList";
+    private static final String REMINDER_LIST_FIELD = "reminderList";
     private Path eventFilePath;
     private Path reminderFilePath;
 
@@ -30,10 +34,12 @@ public class JsonCalendarStorage implements CalendarStorage {
         this.reminderFilePath = reminderFilePath;
     }
 
+    @Override
     public Path getEventFilePath() {
         return eventFilePath;
     }
 
+    @Override
     public Path getReminderFilePath() {
         return reminderFilePath;
     }
@@ -49,41 +55,35 @@ public class JsonCalendarStorage implements CalendarStorage {
             throws DataConversionException, IOException {
         requireAllNonNull(eventFilePath, reminderFilePath);
 
-        Optional<JsonSerializableEventList> jsonEventList =
-                JsonUtil.readJsonFile(eventFilePath, JsonSerializableEventList.class);
-
-        Optional<JsonSerializableReminderList> jsonReminderList =
-                JsonUtil.readJsonFile(reminderFilePath, JsonSerializableReminderList.class);
-
-        if (jsonEventList.isEmpty() && jsonReminderList.isEmpty()) {
-            return Optional.empty();
-        }
-
         Calendar calendar = new Calendar();
-        if (jsonEventList.isPresent()) {
-            try {
-                ReadOnlyCalendar events = jsonEventList.get().toModelType();
-                for (CalendarEntry calendarEntry : events.getCalendarEntryList()) {
-                    calendar.addCalendarEntry(calendarEntry);
-                }
-            } catch (IllegalValueException e) {
-                logger.info("Illegal values found in " + eventFilePath + ": " + e.getMessage());
-                throw new DataConversionException(e);
-            }
+        boolean isEventFileFound = JsonUtil.readJsonArrayFile(eventFilePath, EVENT_LIST_FIELD,
+                JsonAdaptedEvent.class, jsonAdaptedEvent -> addCalendarEntry(calendar, jsonAdaptedEvent,
+                        JsonSerializableEventList.MESSAGE_DUPLICATE_EVENT));
+        boolean isReminderFileFound = JsonUtil.readJsonArrayFile(reminderFilePath, REMINDER_LIST_FIELD,
+                JsonAdaptedReminder.class, jsonAdaptedReminder -> addCalendarEntry(calendar, jsonAdaptedReminder,
+                        JsonSerializableReminderList.LIST_CONTAINS_DUPLICATE_REMINDER));
+
+        if (!isEventFileFound && !isReminderFileFound) {
+            return Optional.empty();
         }
+        return Optional.of(calendar);
+    }
 
-        if (jsonReminderList.isPresent()) {
-            try {
-                ReadOnlyCalendar reminders = jsonReminderList.get().toModelType();
-                for (CalendarEntry calendarEntry : reminders.getCalendarEntryList()) {
-                    calendar.addCalendarEntry(calendarEntry);
-                }
-            } catch (IllegalValueException e) {
-                logger.info("Illegal values found in " + reminderFilePath + ": " + e.getMessage());
-                throw new DataConversionException(e);
-            }
+    /**
+     * Adds the calendar entry converted from {@code jsonAdaptedCalendarEntry} to {@code calendar}. Since events are
+     * never the same calendar entries as reminders, checking {@code calendar} for duplicates only finds duplicates in
+     * the same file.
+     *
+     * @throws IllegalValueException if the calendar entry is invalid, or is already in {@code calendar}, in which case
+     *                               the message is {@code duplicateMessage}.
+     */
+    private void addCalendarEntry(Calendar calendar, JsonAdaptedCalendarEntry jsonAdaptedCalendarEntry,
+            String duplicateMessage) throws IllegalValueException {
+        CalendarEntry calendarEntry = jsonAdaptedCalendarEntry.toModelType();
+        if (calendar.hasCalendarEntry(calendarEntry)) {
+            throw new IllegalValueException(duplicateMessage);
         }
-        return Optional.of(calendar);
+        calendar.addCalendarEntry(calendarEntry);
     }
 
     @Override
@@ -98,18 +98,13 @@ public class JsonCalendarStorage implements CalendarStorage {
         FileUtil.createIfMissing(eventFilePath);
         FileUtil.createIfMissing(reminderFilePath);
 
-        Calendar events = new Calendar();
-        Calendar reminders = new Calendar();
-
-        for (CalendarEntry calendarEntry : calendar.getCalendarEntryList()) {
-            if (calendarEntry instanceof Event) {
-                events.addCalendarEntry(calendarEntry);
-            } else {
-                reminders.addCalendarEntry(calendarEntry);
-            }
-        }
+        ObservableList<CalendarEntry> calendarEntries = calendar.getCalendarEntryList();
+        ObservableList<CalendarEntry> events = calendarEntries.filtered(entry -> entry instanceof Event);
+        ObservableList<CalendarEntry> reminders = calendarEntries.filtered(entry -> !(entry instanceof Event));
 
-        JsonUtil.saveJsonFile(new JsonSerializableEventList(events), eventFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableReminderList(reminders), reminderFilePath);
+        JsonUtil.saveJsonArrayFile(eventFilePath, EVENT_LIST_FIELD, events, event ->
+                new JsonAdaptedEvent((Event) event));
+        JsonUtil.saveJsonArrayFile(reminderFilePath, REMINDER_LIST_FIELD, reminders, reminder ->
+                new JsonAdaptedReminder((Reminder) reminder));
     }
 }
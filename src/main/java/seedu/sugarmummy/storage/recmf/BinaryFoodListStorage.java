@@ -0,0 +1,139 @@
+package seedu.sugarmummy.storage.recmf;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.logic.parser.exceptions.ParseException;
+import seedu.sugarmummy.model.recmf.Calorie;
+import seedu.sugarmummy.model.recmf.Fat;
+import seedu.sugarmummy.model.recmf.Food;
+import seedu.sugarmummy.model.recmf.FoodName;
+import seedu.sugarmummy.model.recmf.FoodType;
+import seedu.sugarmummy.model.recmf.Gi;
+import seedu.sugarmummy.model.recmf.Sugar;
+import seedu.sugarmummy.model.recmf.UniqueFoodList;
+import seedu.sugarmummy.storage.BinaryDataReader;
+import seedu.sugarmummy.storage.BinaryDataWriter;
+import seedu.sugarmummy.storage.BinaryDataWriter.ContentType;
+import seedu.sugarmummy.storage.GeneralStorage;
+
+/**
+ * A class to access the food list stored as a compact binary file on the hard disk.
+ * <p>
+ * Each food is stored as its name and type, which are interned strings, followed by its nutrition values as doubles.
+ * If there is no binary file yet, the food list is read from {@code fallbackStorage} instead, so that switching from
+ * json files keeps the existing data.
+ */
+public class BinaryFoodListStorage implements GeneralStorage<UniqueFoodList, JsonSerializableFoodList> {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFoodListStorage.class);
+
+    private final Path filePath;
+    private final GeneralStorage<UniqueFoodList, JsonSerializableFoodList> fallbackStorage;
+
+    public BinaryFoodListStorage(Path filePath,
+            GeneralStorage<UniqueFoodList, JsonSerializableFoodList> fallbackStorage) {
+        requireNonNull(filePath);
+        requireNonNull(fallbackStorage);
+        this.filePath = filePath;
+        this.fallbackStorage = fallbackStorage;
+    }
+
+    @Override
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<UniqueFoodList> read() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found, reading from " + fallbackStorage.getFilePath());
+            return fallbackStorage.read();
+        }
+        return read(filePath);
+    }
+
+    @Override
+    public Optional<UniqueFoodList> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (BinaryDataReader reader = new BinaryDataReader(new BufferedInputStream(Files.newInputStream(filePath)),
+                ContentType.FOOD_LIST)) {
+            UniqueFoodList foodList = new UniqueFoodList();
+            int numberOfFoods = reader.readInt();
+            for (int i = 0; i < numberOfFoods; i++) {
+                Food food = readFood(reader);
+                if (foodList.contains(food)) {
+                    throw new IllegalValueException(JsonSerializableFoodList.MESSAGE_DUPLICATE_FOOD);
+                }
+                foodList.add(food);
+            }
+            return Optional.of(foodList);
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void save(UniqueFoodList content) throws IOException {
+        save(content, filePath);
+    }
+
+    @Override
+    public void save(UniqueFoodList content, Path filePath) throws IOException {
+        requireNonNull(content);
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, outputStream -> writeFoods(outputStream,
+                content.getUnmodifiableObservableList()));
+    }
+
+    /**
+     * Writes {@code foods} to {@code outputStream} in the binary format.
+     */
+    private void writeFoods(OutputStream outputStream, List<Food> foods) throws IOException {
+        try (BinaryDataWriter writer = new BinaryDataWriter(outputStream, ContentType.FOOD_LIST)) {
+            writer.writeInt(foods.size());
+            for (Food food : foods) {
+                writer.writeString(food.getFoodName().toString());
+                writer.writeString(food.getFoodType().getAbbr());
+                writer.writeDouble(food.getCalorie().getNumericalValue());
+                writer.writeDouble(food.getGi().getNumericalValue());
+                writer.writeDouble(food.getSugar().getNumericalValue());
+                writer.writeDouble(food.getFat().getNumericalValue());
+            }
+        }
+    }
+
+    /**
+     * Reads a food written by {@link #writeFoods(OutputStream, List)}. An {@code IllegalArgumentException} is thrown
+     * if any value of the food is invalid.
+     *
+     * @throws ParseException if the food type is invalid.
+     */
+    private Food readFood(BinaryDataReader reader) throws IOException, ParseException {
+        FoodName foodName = new FoodName(reader.readString());
+        FoodType foodType = FoodType.getFrom(reader.readString());
+        Calorie calorie = new Calorie(reader.readDoubleAsString());
+        Gi gi = new Gi(reader.readDoubleAsString());
+        Sugar sugar = new Sugar(reader.readDoubleAsString());
+        Fat fat = new Fat(reader.readDoubleAsString());
+        return new Food(foodName, calorie, gi, sugar, fat, foodType);
+    }
+}
@@ -1,16 +1,63 @@
 package seedu.sugarmummy.storage.recmf;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.commons.util.JsonUtil;
+import seedu.sugarmummy.commons.util.JsonUtil.JsonArrayElementConsumer;
+import seedu.sugarmummy.model.recmf.Food;
 import seedu.sugarmummy.model.recmf.UniqueFoodList;
 import seedu.sugarmummy.storage.JsonGeneralStorage;
 
 /**
  * Represents the specific version {@code JsonGeneralStorage} about food list.
+ * <p>
+ * The foods are read from and written to the json file one food at a time, in the format of {@link
+ * JsonSerializableFoodList}, so the whole file is never held in memory.
  */
 public class JsonFoodListStorage extends JsonGeneralStorage<UniqueFoodList, JsonSerializableFoodList> {
 
+    private static final String FOODS_FIELD = "foods";
+
     public JsonFoodListStorage(Path filePath) {
         super(filePath, UniqueFoodList.class, JsonSerializableFoodList.class);
     }
+
+    @Override
+    public Optional<UniqueFoodList> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        UniqueFoodList foodList = new UniqueFoodList();
+        JsonArrayElementConsumer<JsonAdaptedFood> foodAdder = jsonAdaptedFood -> addFood(foodList, jsonAdaptedFood);
+        if (!JsonUtil.readJsonArrayFile(filePath, FOODS_FIELD, JsonAdaptedFood.class, foodAdder)) {
+            return Optional.empty();
+        }
+        return Optional.of(foodList);
+    }
+
+    @Override
+    public void save(UniqueFoodList content, Path filePath) throws IOException {
+        requireNonNull(content);
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, FOODS_FIELD, content, JsonAdaptedFood::new);
+    }
+
+    /**
+     * Adds the food converted from {@code jsonAdaptedFood} to {@code foodList}.
+     *
+     * @throws IllegalValueException if the food is invalid or already in {@code foodList}.
+     */
+    private void addFood(UniqueFoodList foodList, JsonAdaptedFood jsonAdaptedFood) throws IllegalValueException {
+        Food food = jsonAdaptedFood.toModelType();
+        if (foodList.contains(food)) {
+            throw new IllegalValueException(JsonSerializableFoodList.MESSAGE_DUPLICATE_FOOD);
+        }
+        foodList.add(food);
+    }
 }
@@ -0,0 +1,134 @@
+package seedu.sugarmummy.storage.records;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.model.records.BloodSugar;
+import seedu.sugarmummy.model.records.Bmi;
+import seedu.sugarmummy.model.records.Concentration;
+import seedu.sugarmummy.model.records.Height;
+import seedu.sugarmummy.model.records.Record;
+import seedu.sugarmummy.model.records.RecordType;
+import seedu.sugarmummy.model.records.UniqueRecordList;
+import seedu.sugarmummy.model.records.Weight;
+import seedu.sugarmummy.model.time.DateTime;
+import seedu.sugarmummy.storage.BinaryDataReader;
+import seedu.sugarmummy.storage.BinaryDataWriter;
+import seedu.sugarmummy.storage.BinaryDataWriter.ContentType;
+
+/**
+ * A {@code JsonRecordListStorage} whose snapshot is a compact binary file instead of a json file.
+ * <p>
+ * Each record is stored as a type tag, its date time and its values as doubles. The journal of changes is kept in the
+ * same format as that of {@code JsonRecordListStorage}. If there is neither a binary snapshot nor a journal yet, the
+ * record list is read from {@code fallbackStorage} instead, so that switching from json files keeps the existing data.
+ */
+public class BinaryRecordListStorage extends JsonRecordListStorage {
+
+    private static final byte BLOOD_SUGAR_TAG = 0;
+    private static final byte BMI_TAG = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRecordListStorage.class);
+
+    private final JsonRecordListStorage fallbackStorage;
+
+    public BinaryRecordListStorage(Path filePath,
+            JsonRecordListStorage fallbackStorage) {
+        super(filePath);
+        requireNonNull(fallbackStorage);
+        this.fallbackStorage = fallbackStorage;
+    }
+
+    @Override
+    public Optional<UniqueRecordList> read() throws DataConversionException {
+        if (!FileUtil.isFileExists(getFilePath()) && !FileUtil.isFileExists(getJournalFilePath(getFilePath()))) {
+            logger.info("Binary file " + getFilePath() + " not found, reading from " + fallbackStorage.getFilePath());
+            return fallbackStorage.read();
+        }
+        return read(getFilePath());
+    }
+
+    @Override
+    protected Optional<UniqueRecordList> readSnapshot(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (BinaryDataReader reader = new BinaryDataReader(new BufferedInputStream(Files.newInputStream(filePath)),
+                ContentType.RECORD_LIST)) {
+            UniqueRecordList recordList = new UniqueRecordList();
+            int numberOfRecords = reader.readInt();
+            for (int i = 0; i < numberOfRecords; i++) {
+                Record record = readRecord(reader);
+                if (recordList.contains(record)) {
+                    throw new IllegalValueException(JsonSerializableRecordList.MESSAGE_DUPLICATE_RECORD);
+                }
+                recordList.add(record);
+            }
+            return Optional.of(recordList);
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    protected void saveSnapshot(UniqueRecordList recordList, Path filePath) throws IOException {
+        FileUtil.writeToFile(filePath, outputStream -> writeRecords(outputStream, recordList));
+    }
+
+    /**
+     * Writes the records in {@code recordList} to {@code outputStream} in the binary format.
+     */
+    private void writeRecords(OutputStream outputStream, UniqueRecordList recordList) throws IOException {
+        try (BinaryDataWriter writer = new BinaryDataWriter(outputStream, ContentType.RECORD_LIST)) {
+            writer.writeInt(recordList.asUnmodifiableObservableList().size());
+            for (Record record : recordList) {
+                if (record instanceof BloodSugar) {
+                    writer.writeByte(BLOOD_SUGAR_TAG);
+                    writer.writeDateTime(record.getDateTime());
+                    writer.writeDouble(((BloodSugar) record).getConcentration().getConcentration());
+                } else {
+                    assert record instanceof Bmi;
+                    writer.writeByte(BMI_TAG);
+                    writer.writeDateTime(record.getDateTime());
+                    writer.writeDouble(((Bmi) record).getHeight().getHeight());
+                    writer.writeDouble(((Bmi) record).getWeight().getWeight());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a record written by {@link #writeRecords(OutputStream, UniqueRecordList)}. An
+     * {@code IllegalArgumentException} is thrown if any value of the record is invalid.
+     *
+     * @throws IllegalValueException if the type tag of the record is unknown.
+     */
+    private Record readRecord(BinaryDataReader reader) throws IOException, IllegalValueException {
+        byte tag = reader.readByte();
+        DateTime dateTime = reader.readDateTime();
+        switch (tag) {
+        case BLOOD_SUGAR_TAG:
+            return new BloodSugar(new Concentration(reader.readDoubleAsString()), dateTime);
+        case BMI_TAG:
+            Height height = new Height(reader.readDoubleAsString());
+            Weight weight = new Weight(reader.readDoubleAsString());
+            return new Bmi(height, weight, dateTime);
+        default:
+            throw new IllegalValueException(RecordType.MESSAGE_CONSTRAINTS);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.sugarmummy.storage.records;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
+import seedu.sugarmummy.model.records.RecordChange;
+import seedu.sugarmummy.model.records.RecordChange.ChangeType;
+
+/**
+ * Represents Jackson-friendly version of {@link RecordChange}, stored as a single entry of the record list journal.
+ */
+class JsonAdaptedRecordChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Record change's %s field is missing!";
+    public static final String MESSAGE_INVALID_CHANGE_TYPE = "Record change type should be either ADD or REMOVE";
+
+    private final String changeType;
+    private final JsonAdaptedRecord record;
+
+    /**
+     * Constructs a {@code JsonAdaptedRecordChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecordChange(@JsonProperty("changeType") String changeType,
+                                   @JsonProperty("record") JsonAdaptedRecord record) {
+        this.changeType = changeType;
+        this.record = record;
+    }
+
+    /**
+     * Converts a given {@code RecordChange} into this class for Jackson use.
+     */
+    public JsonAdaptedRecordChange(RecordChange source) {
+        changeType = source.getChangeType().name();
+        record = new JsonAdaptedRecord(source.getRecord());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record change object into the model's {@code RecordChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record change.
+     */
+    public RecordChange toModelType() throws IllegalValueException {
+        if (changeType == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    ChangeType.class.getSimpleName()));
+        }
+        if (record == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Record"));
+        }
+
+        final ChangeType modelChangeType;
+        try {
+            modelChangeType = ChangeType.valueOf(changeType);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE_TYPE);
+        }
+
+        return new RecordChange(modelChangeType, record.toModelType());
+    }
+
+}
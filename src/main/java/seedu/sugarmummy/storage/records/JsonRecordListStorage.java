@@ -1,16 +1,302 @@
 package seedu.sugarmummy.storage.records;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.exceptions.IllegalValueException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.commons.util.JsonUtil;
+import seedu.sugarmummy.commons.util.JsonUtil.JsonArrayElementConsumer;
+import seedu.sugarmummy.model.records.Record;
+import seedu.sugarmummy.model.records.RecordChange;
 import seedu.sugarmummy.model.records.UniqueRecordList;
 import seedu.sugarmummy.storage.JsonGeneralStorage;
 
 /**
  * Represents the specific version {@code JsonGeneralStorage} about record list.
+ * <p>
+ * The records in the snapshot are read from and written to the json file one record at a time, in the format of
+ * {@link JsonSerializableRecordList}, so the whole file is never held in memory.
+ * <p>
+ * Besides the json snapshot of the whole record list, additions and removals of records are appended to a journal
+ * file next to the snapshot, one json entry per line. The journal is replayed on top of the snapshot when reading, and
+ * is compacted into the snapshot once it grows beyond {@link #MAX_JOURNAL_ENTRIES} entries.
  */
 public class JsonRecordListStorage extends JsonGeneralStorage<UniqueRecordList, JsonSerializableRecordList> {
 
+    public static final int MAX_JOURNAL_ENTRIES = 100;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String RECORDS_FIELD = "records";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonRecordListStorage.class);
+
+    private long journalEntryCount = -1;
+
     public JsonRecordListStorage(Path filePath) {
         super(filePath, UniqueRecordList.class, JsonSerializableRecordList.class);
     }
+
+    /**
+     * Returns the path of the journal file belonging to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Reads the record list snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     *
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<UniqueRecordList> read(Path filePath) throws DataConversionException {
+        Optional<UniqueRecordList> snapshot = readSnapshot(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            setJournalEntryCount(filePath, 0);
+            return snapshot;
+        }
+
+        UniqueRecordList recordList = snapshot.orElseGet(UniqueRecordList::new);
+        List<RecordChange> changes = readJournal(journalFilePath);
+        try {
+            for (RecordChange recordChange : changes) {
+                recordChange.applyTo(recordList);
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Error replaying journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        setJournalEntryCount(filePath, changes.size());
+        return Optional.of(recordList);
+    }
+
+    /**
+     * Saves the whole record list to {@code filePath} and discards the journal, whose entries are now contained in the
+     * snapshot.
+     */
+    @Override
+    public void save(UniqueRecordList content, Path filePath) throws IOException {
+        requireNonNull(content);
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        saveSnapshot(content, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        setJournalEntryCount(filePath, 0);
+    }
+
+    /**
+     * Saves the changes made to {@code recordList} since it was last saved by appending them to the journal. The whole
+     * record list is saved instead if there is no snapshot yet, if the changes cannot be replayed, or if the journal
+     * would grow beyond {@link #MAX_JOURNAL_ENTRIES} entries.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void saveChanges(UniqueRecordList recordList) throws IOException {
+        requireNonNull(recordList);
+        Path filePath = getFilePath();
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<RecordChange> changes = recordList.getUnsavedChanges();
+
+        if (!FileUtil.isFileExists(filePath) || !recordList.areUnsavedChangesReplayable()
+                || getJournalEntryCount(journalFilePath) + changes.size() > MAX_JOURNAL_ENTRIES) {
+            logger.fine("Compacting record list journal into " + filePath);
+            save(recordList, filePath);
+            return;
+        }
+
+        repairJournalTail(journalFilePath);
+        StringBuilder entries = new StringBuilder();
+        for (RecordChange change : changes) {
+            entries.append(JsonUtil.toCompactJsonString(new JsonAdaptedRecordChange(change)))
+                    .append(System.lineSeparator());
+        }
+        FileUtil.appendToFile(journalFilePath, entries.toString());
+        journalEntryCount += changes.size();
+    }
+
+    /**
+     * Saves the whole record list if the journal contains any entries, so that the next read only has to parse the
+     * snapshot.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void compact(UniqueRecordList recordList) throws IOException {
+        requireNonNull(recordList);
+        if (FileUtil.isFileExists(getJournalFilePath(getFilePath()))) {
+            save(recordList, getFilePath());
+        }
+    }
+
+    /**
+     * Returns the record list in the snapshot at {@code filePath}, or {@code Optional.empty()} if there is no
+     * snapshot.
+     *
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     */
+    protected Optional<UniqueRecordList> readSnapshot(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        UniqueRecordList recordList = new UniqueRecordList();
+        JsonArrayElementConsumer<JsonAdaptedRecord> recordAdder = jsonAdapted -> addRecord(recordList, jsonAdapted);
+        if (!JsonUtil.readJsonArrayFile(filePath, RECORDS_FIELD, JsonAdaptedRecord.class, recordAdder)) {
+            return Optional.empty();
+        }
+        return Optional.of(recordList);
+    }
+
+    /**
+     * Writes the whole of {@code recordList} as the snapshot at {@code filePath}, which already exists.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    protected void saveSnapshot(UniqueRecordList recordList, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, RECORDS_FIELD, recordList, JsonAdaptedRecord::new);
+    }
+
+    /**
+     * Adds the record converted from {@code jsonAdaptedRecord} to {@code recordList}.
+     *
+     * @throws IllegalValueException if the record is invalid or already in {@code recordList}.
+     */
+    private void addRecord(UniqueRecordList recordList, JsonAdaptedRecord jsonAdaptedRecord)
+            throws IllegalValueException {
+        Record record = jsonAdaptedRecord.toModelType();
+        if (recordList.contains(record)) {
+            throw new IllegalValueException(JsonSerializableRecordList.MESSAGE_DUPLICATE_RECORD);
+        }
+        recordList.add(record);
+    }
+
+    /**
+     * Sets the number of entries known to be in the journal of this storage, if {@code filePath} is the snapshot of
+     * this storage.
+     */
+    private void setJournalEntryCount(Path filePath, long count) {
+        if (filePath.equals(getFilePath())) {
+            journalEntryCount = count;
+        }
+    }
+
+    /**
+     * Returns the number of entries in the journal at {@code journalFilePath}, which is the journal of this storage.
+     * The journal is only read if it has not been read or written through this storage before. A journal that cannot
+     * be read is counted as full, so that it is replaced by the next save of the whole record list.
+     */
+    private long getJournalEntryCount(Path journalFilePath) {
+        if (journalEntryCount >= 0) {
+            return journalEntryCount;
+        }
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            journalEntryCount = 0;
+            return journalEntryCount;
+        }
+        try {
+            journalEntryCount = readJournal(journalFilePath).size();
+            return journalEntryCount;
+        } catch (DataConversionException e) {
+            logger.warning("Replacing unreadable journal file " + journalFilePath + ": " + e);
+            return MAX_JOURNAL_ENTRIES;
+        }
+    }
+
+    /**
+     * Makes the journal at {@code journalFilePath}, if any, end with a line separator, so that the entries appended
+     * next start on a line of their own. An incomplete last entry, which may be left behind if the application stops
+     * while appending to the journal, is cut off, while a complete last entry is ended with a line separator.
+     *
+     * @throws IOException if there was any problem reading or writing the journal.
+     */
+    private void repairJournalTail(Path journalFilePath) throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            if (size == 0 || (channel.read(lastByte, size - 1) == 1 && lastByte.get(0) == '\n')) {
+                return;
+            }
+
+            byte[] content = Files.readAllBytes(journalFilePath);
+            int lastLineStart = content.length;
+            while (lastLineStart > 0 && content[lastLineStart - 1] != '\n') {
+                lastLineStart--;
+            }
+            String lastLine = new String(content, lastLineStart, content.length - lastLineStart,
+                    StandardCharsets.UTF_8);
+            if (parseJournalEntry(lastLine).isPresent()) {
+                channel.write(ByteBuffer.wrap(System.lineSeparator().getBytes(StandardCharsets.UTF_8)), size);
+            } else {
+                logger.warning("Removing incomplete last entry of journal file " + journalFilePath);
+                channel.truncate(lastLineStart);
+            }
+        }
+    }
+
+    /**
+     * Returns the record change stored in the journal entry {@code line}, or {@code Optional.empty()} if it is not a
+     * valid entry.
+     */
+    private static Optional<RecordChange> parseJournalEntry(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedRecordChange.class).toModelType());
+        } catch (IOException | IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the record changes stored in the journal at {@code journalFilePath}. An incomplete last entry, which may
+     * be left behind if the application stops while appending to the journal, is ignored, and is only removed from the
+     * journal before the next entries are appended to it.
+     *
+     * @throws DataConversionException if the journal is not in the correct format.
+     */
+    private List<RecordChange> readJournal(Path journalFilePath) throws DataConversionException {
+        String content;
+        try {
+            content = FileUtil.readFromFile(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        List<String> lines = content.lines().collect(Collectors.toList());
+        List<RecordChange> changes = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                changes.add(JsonUtil.fromJsonString(line, JsonAdaptedRecordChange.class).toModelType());
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    break;
+                }
+                logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+        return changes;
+    }
 }
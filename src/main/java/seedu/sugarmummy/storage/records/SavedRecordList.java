@@ -0,0 +1,133 @@
+package seedu.sugarmummy.storage.records;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.sugarmummy.model.records.RecordChange;
+import seedu.sugarmummy.model.records.UniqueRecordList;
+import seedu.sugarmummy.storage.BackgroundSaver.Saver;
+
+/**
+ * A copy of the record list as it is saved on the hard disk, which is kept up to date with the changes made to the
+ * record list, so that saving the record list in the background only requires the changes made since it was last
+ * saved to be copied, instead of the whole record list.
+ * <p>
+ * Updates are created by {@link #createUpdate(UniqueRecordList)} on the thread that modifies the record list, and
+ * saved by {@link #save(Update, Saver)} on the thread that writes to the hard disk. The whole record list is only
+ * copied into an update when its changes cannot be replayed. Every update is numbered, so that an update that is
+ * saved again after it failed to be written is not applied to the copy twice.
+ */
+public class SavedRecordList {
+
+    /** Only accessed by the thread that writes to the hard disk once constructed. */
+    private UniqueRecordList savedRecordList;
+    private long lastAppliedUpdateNumber = 0;
+
+    /** Only accessed by the thread that modifies the record list. */
+    private long lastCreatedUpdateNumber = 0;
+
+    /**
+     * Constructs a {@code SavedRecordList} that starts as a copy of {@code recordList}, which must have no changes
+     * that are yet to be saved.
+     */
+    public SavedRecordList(UniqueRecordList recordList) {
+        requireNonNull(recordList);
+        assert !recordList.isModified() : "The record list has unsaved changes.";
+        savedRecordList = recordList.copy();
+        savedRecordList.markAsSaved();
+    }
+
+    /**
+     * Returns an update containing the changes made to {@code recordList} since it was last saved, or a copy of the
+     * whole of {@code recordList} if those changes cannot be replayed.
+     */
+    public Update createUpdate(UniqueRecordList recordList) {
+        requireNonNull(recordList);
+        lastCreatedUpdateNumber++;
+        if (!recordList.areUnsavedChangesReplayable()) {
+            return new Update(List.of(new Step(lastCreatedUpdateNumber, List.of(), recordList.copy())));
+        }
+        return new Update(List.of(new Step(lastCreatedUpdateNumber, List.copyOf(recordList.getUnsavedChanges()),
+                null)));
+    }
+
+    /**
+     * Applies the parts of {@code update} that have not been applied before to the copy of the record list, and then
+     * saves the copy with {@code saver}. If saving fails, the changes stay unsaved in the copy, and are saved together
+     * with the next update.
+     *
+     * @throws IOException if {@code saver} fails to save the copy.
+     */
+    public void save(Update update, Saver<UniqueRecordList> saver) throws IOException {
+        requireNonNull(update);
+        requireNonNull(saver);
+        for (Step step : update.steps) {
+            if (step.updateNumber > lastAppliedUpdateNumber) {
+                applyStep(step);
+                lastAppliedUpdateNumber = step.updateNumber;
+            }
+        }
+        saver.save(savedRecordList);
+        savedRecordList.markAsSaved();
+    }
+
+    /**
+     * Applies the changes of {@code step} to the copy of the record list, or replaces the copy with the record list
+     * copied into {@code step}.
+     */
+    private void applyStep(Step step) {
+        if (step.replacement != null) {
+            savedRecordList = step.replacement;
+            return;
+        }
+        for (RecordChange change : step.changes) {
+            change.applyTo(savedRecordList);
+        }
+    }
+
+    /**
+     * The changes made to the record list by one or more consecutive commands, which are yet to be saved.
+     */
+    public static class Update {
+        private final List<Step> steps;
+
+        private Update(List<Step> steps) {
+            this.steps = steps;
+        }
+
+        /**
+         * Returns an update made up of this update followed by {@code laterUpdate}. The parts before the last copy of
+         * the whole record list are left out, since that copy already includes them.
+         */
+        public Update followedBy(Update laterUpdate) {
+            requireNonNull(laterUpdate);
+            List<Step> mergedSteps = new ArrayList<>(steps);
+            mergedSteps.addAll(laterUpdate.steps);
+            for (int i = mergedSteps.size() - 1; i > 0; i--) {
+                if (mergedSteps.get(i).replacement != null) {
+                    mergedSteps.subList(0, i).clear();
+                    break;
+                }
+            }
+            return new Update(List.copyOf(mergedSteps));
+        }
+    }
+
+    /**
+     * The changes made to the record list by one command, or a copy of the whole record list after that command.
+     */
+    private static class Step {
+        private final long updateNumber;
+        private final List<RecordChange> changes;
+        private final UniqueRecordList replacement;
+
+        private Step(long updateNumber, List<RecordChange> changes, UniqueRecordList replacement) {
+            this.updateNumber = updateNumber;
+            this.changes = changes;
+            this.replacement = replacement;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.sugarmummy.ui;
+
+/**
+ * A main display pane that listens to changes in the model, and stops listening while it is hidden, so that hidden
+ * panes are neither updated on every change nor kept alive by the model.
+ */
+public interface DetachablePane {
+
+    /**
+     * Stops listening to changes in the model. Called when the pane is hidden.
+     */
+    void detach();
+
+    /**
+     * Listens to changes in the model again, and updates the pane with the changes made while it was detached. Called
+     * when a detached pane is shown again.
+     */
+    void attach();
+}
@@ -0,0 +1,173 @@
+package seedu.sugarmummy.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.image.Image;
+import seedu.sugarmummy.MainApp;
+import seedu.sugarmummy.commons.core.LogsCenter;
+
+/**
+ * An application-wide cache of decoded images, such as the user's display picture and background images, so that an
+ * image is only decoded again once its file has changed.
+ * <p>
+ * Images are keyed by their paths and the sizes they are decoded at, so that a large photo shown as a small picture is
+ * decoded at that small size instead of its full resolution. Images read from files are only used while the size and
+ * the last modified time of their files are the same as when they were decoded. The least recently used images are
+ * evicted once the decoded pixels of all the cached images take up more than {@link #MAX_DECODED_BYTES}. Images loaded
+ * in the background only take up memory once they finish loading, so the cached images are checked again then.
+ */
+public class ImageCache {
+
+    public static final long MAX_DECODED_BYTES = 64L << 20;
+
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final Logger logger = LogsCenter.getLogger(ImageCache.class);
+    private static final LinkedHashMap<String, CachedImage> cachedImages = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Returns the image in the file at {@code filePath}, decoded to fit within {@code requestedWidth} by
+     * {@code requestedHeight} while keeping its aspect ratio, or at its full size if both are 0. The image is loaded
+     * in the background if {@code isBackgroundLoading} is true, and is not yet loaded if it was not cached before.
+     *
+     * @return The image, or {@code Optional.empty()} if there is no file at {@code filePath}.
+     */
+    public static synchronized Optional<Image> getFileImage(String filePath, double requestedWidth,
+            double requestedHeight, boolean isBackgroundLoading) {
+        requireNonNull(filePath);
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+
+        String key = getKey(file.getAbsolutePath(), requestedWidth, requestedHeight);
+        CachedImage cachedImage = cachedImages.get(key);
+        if (cachedImage == null || !cachedImage.isOf(file)) {
+            Image image = new Image(file.toURI().toString(), requestedWidth, requestedHeight, true, true,
+                    isBackgroundLoading);
+            cachedImage = new CachedImage(image, file.length(), file.lastModified());
+            put(key, cachedImage);
+            if (isBackgroundLoading && image.getProgress() < 1) {
+                image.progressProperty().addListener(ImageCache::evictOnceLoaded);
+            }
+        }
+        return Optional.of(cachedImage.image);
+    }
+
+    /**
+     * Returns the image in the application resource at {@code resourcePath}, decoded to fit within
+     * {@code requestedWidth} by {@code requestedHeight} while keeping its aspect ratio, or at its full size if both are
+     * 0.
+     */
+    public static synchronized Image getResourceImage(String resourcePath, double requestedWidth,
+            double requestedHeight) {
+        requireNonNull(resourcePath);
+        String key = getKey("resource:" + resourcePath, requestedWidth, requestedHeight);
+        CachedImage cachedImage = cachedImages.get(key);
+        if (cachedImage == null || cachedImage.image.isError()) {
+            URL resource = requireNonNull(MainApp.class.getResource(resourcePath));
+            Image image = new Image(resource.toExternalForm(), requestedWidth, requestedHeight, true, true, false);
+            cachedImage = new CachedImage(image, 0, 0);
+            put(key, cachedImage);
+        }
+        return cachedImage.image;
+    }
+
+    /**
+     * Returns the total size of the decoded pixels of the cached images that have finished loading.
+     */
+    public static synchronized long getDecodedBytes() {
+        long decodedBytes = 0;
+        for (CachedImage cachedImage : cachedImages.values()) {
+            decodedBytes += cachedImage.getDecodedBytes();
+        }
+        return decodedBytes;
+    }
+
+    /**
+     * Removes every cached image.
+     */
+    public static synchronized void clear() {
+        cachedImages.clear();
+    }
+
+    /**
+     * Returns the key of an image at {@code path} decoded at the requested size.
+     */
+    private static String getKey(String path, double requestedWidth, double requestedHeight) {
+        return path + "@" + requestedWidth + "x" + requestedHeight;
+    }
+
+    /**
+     * Caches {@code cachedImage} under {@code key}, and evicts the least recently used images while the cached images
+     * take up too much memory.
+     */
+    private static void put(String key, CachedImage cachedImage) {
+        cachedImages.put(key, cachedImage);
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Evicts the least recently used images once an image loaded in the background has finished loading with
+     * {@code newProgress}, since its decoded pixels were not counted when it was cached.
+     */
+    private static synchronized void evictOnceLoaded(ObservableValue<? extends Number> progress, Number oldProgress,
+            Number newProgress) {
+        if (newProgress.doubleValue() >= 1) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Evicts the least recently used images while the cached images take up too much memory. The most recently used
+     * image is always kept.
+     */
+    private static void evictLeastRecentlyUsed() {
+        long decodedBytes = getDecodedBytes();
+        Iterator<Map.Entry<String, CachedImage>> leastRecentlyUsed = cachedImages.entrySet().iterator();
+        while (decodedBytes > MAX_DECODED_BYTES && cachedImages.size() > 1) {
+            Map.Entry<String, CachedImage> evicted = leastRecentlyUsed.next();
+            decodedBytes -= evicted.getValue().getDecodedBytes();
+            leastRecentlyUsed.remove();
+            logger.fine("Evicted decoded image " + evicted.getKey());
+        }
+    }
+
+    /**
+     * A decoded image, together with the size and last modified time of its file when it was decoded.
+     */
+    private static class CachedImage {
+        private final Image image;
+        private final long fileSize;
+        private final long lastModified;
+
+        private CachedImage(Image image, long fileSize, long lastModified) {
+            this.image = image;
+            this.fileSize = fileSize;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Returns true if {@code file} has the same size and last modified time as the file of this image, and the
+         * image could be decoded.
+         */
+        private boolean isOf(File file) {
+            return !image.isError() && file.length() == fileSize && file.lastModified() == lastModified;
+        }
+
+        /**
+         * Returns the size of the decoded pixels of this image, or 0 if it has not finished loading.
+         */
+        private long getDecodedBytes() {
+            return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+        }
+    }
+}
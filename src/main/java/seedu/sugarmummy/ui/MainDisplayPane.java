@@ -1,17 +1,15 @@
 package seedu.sugarmummy.ui;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
-import javafx.scene.image.Image;
 import javafx.scene.layout.Region;
 import seedu.sugarmummy.logic.Logic;
 import seedu.sugarmummy.model.achievements.Achievement;
-import seedu.sugarmummy.model.biography.User;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.time.YearMonth;
 import seedu.sugarmummy.model.time.YearMonthDay;
@@ -25,16 +23,23 @@ import seedu.sugarmummy.ui.statistics.AverageGraphPane;
 
 /**
  * This is a class that stores and processes the possible Main Display Panes to be displayed to the user.
+ * <p>
+ * Panes are reused when they are shown again instead of being rebuilt. A {@link DetachablePane} is detached from the
+ * model while it is hidden, and attached again when it is shown. Only the {@link #MAX_CACHED_PANES} most recently
+ * shown panes are kept, so that the least recently shown ones can be garbage collected.
  */
 public class MainDisplayPane {
 
-    private Map<DisplayPaneType, UiPart<Region>> typeToPaneMap;
+    public static final int MAX_CACHED_PANES = 6;
+
+    private LinkedHashMap<DisplayPaneType, UiPart<Region>> typeToPaneMap;
     private DisplayPaneType currPaneType;
+    private UiPart<Region> currPane;
     private Logic logic;
 
     public MainDisplayPane(Logic logic) {
         this.logic = logic;
-        typeToPaneMap = new HashMap<>();
+        typeToPaneMap = new LinkedHashMap<>(16, 0.75f, true);
     }
 
     /**
@@ -49,20 +54,9 @@ public class MainDisplayPane {
         assert !displayPaneType.equals(DisplayPaneType.CALENDAR_MONTH);
         switch (displayPaneType) {
         case BIO:
-            ObservableList<User> filteredUserList = logic.getFilteredUserList();
-            BioPane previousBioPane = (BioPane) typeToPaneMap.get(DisplayPaneType.BIO);
-            Image previousDp = previousBioPane != null ? previousBioPane.getImg() : null;
-
-            if (!filteredUserList.isEmpty() && previousDp != null && filteredUserList.get(0).getDpPath().toString()
-                    .equals(previousBioPane.getDpPath())) {
-                return getMappedPane(displayPaneType, () -> new BioPane(filteredUserList, previousDp,
-                                logic.getFontColour(), logic.getBackground()),
-                        newPaneIsToBeCreated);
-            } else {
-                return getMappedPane(displayPaneType, () -> new BioPane(filteredUserList,
-                                logic.getFontColour(), logic.getBackground()),
-                        newPaneIsToBeCreated);
-            }
+            // the display picture is decoded once and then reused from the image cache
+            return getMappedPane(displayPaneType, () -> new BioPane(logic.getFilteredUserList(), logic.getFontColour(),
+                    logic.getBackground()), newPaneIsToBeCreated);
         case ACHVM:
             Map<RecordType, List<Achievement>> achievementsMap = logic.getAchievementsMap();
             AchievementsPane previousAchievementsPane = (AchievementsPane) typeToPaneMap.get(DisplayPaneType.ACHVM);
@@ -89,8 +83,9 @@ public class MainDisplayPane {
                     newPaneIsToBeCreated);
 
         case RECM_MIXED_FOOD:
+            // the mixed food list is updated in place, so the pane is refreshed instead of rebuilt
             return getMappedPane(displayPaneType, () -> new FoodFlowPanel(logic.getMixedFoodList()),
-                    true);
+                    false);
 
         case ADD:
         case LIST:
@@ -116,8 +111,17 @@ public class MainDisplayPane {
      */
     public UiPart<Region> get(DisplayPaneType displayPaneType, boolean newPaneIsToBeCreated,
             YearMonth yearMonth, Optional<YearMonthDay> yearMonthDay, boolean isShowingWeek) {
+        UiPart<Region> mappedPane = typeToPaneMap.get(displayPaneType);
+        if (mappedPane instanceof CalendarMonthScrollPanel) {
+            // the calendar pane is reused so that showing another month does not create a new calendar
+            CalendarMonthScrollPanel calendarMonthScrollPanel = (CalendarMonthScrollPanel) mappedPane;
+            calendarMonthScrollPanel.show(yearMonth, yearMonthDay, isShowingWeek);
+            currPaneType = displayPaneType;
+            show(calendarMonthScrollPanel);
+            return calendarMonthScrollPanel;
+        }
         return getMappedPane(displayPaneType, () -> new CalendarMonthScrollPanel(yearMonth, yearMonthDay, isShowingWeek,
-                logic.getFilteredCalendarEntryList(), logic.getToday()), newPaneIsToBeCreated);
+                logic.getCalendarEntryDateIndex(), logic.getToday()), newPaneIsToBeCreated);
 
     }
 
@@ -133,15 +137,89 @@ public class MainDisplayPane {
      */
     private UiPart<Region> getMappedPane(DisplayPaneType displayPaneType,
             Supplier<UiPart<Region>> newPaneSupplier, boolean isToCreateNewPane) {
-        UiPart<Region> mappedPane = typeToPaneMap.get(displayPaneType);
+        DisplayPaneType paneKey = getPaneKey(displayPaneType);
+        UiPart<Region> mappedPane = typeToPaneMap.get(paneKey);
         currPaneType = displayPaneType;
         if (mappedPane == null || isToCreateNewPane) {
+            if (mappedPane != null && mappedPane == currPane) {
+                detach(mappedPane);
+                currPane = null;
+            }
             mappedPane = newPaneSupplier.get();
-            typeToPaneMap.put(displayPaneType, mappedPane);
+            typeToPaneMap.put(paneKey, mappedPane);
+            evictLeastRecentlyShownPanes();
+            showNewPane(mappedPane);
+        } else {
+            show(mappedPane);
         }
         return mappedPane;
     }
 
+    /**
+     * Returns the type under which the pane of {@code displayPaneType} is stored. Display pane types that show the same
+     * list share the same pane.
+     */
+    private static DisplayPaneType getPaneKey(DisplayPaneType displayPaneType) {
+        switch (displayPaneType) {
+        case ADD:
+        case DELETE:
+            return DisplayPaneType.LIST;
+        case RESET_FOOD:
+            return DisplayPaneType.CHANGE_FOOD;
+        default:
+            return displayPaneType;
+        }
+    }
+
+    /**
+     * Removes the least recently shown panes while more than {@link #MAX_CACHED_PANES} panes are stored. Removed panes
+     * are never the one being shown, and have already been detached when they were hidden.
+     */
+    private void evictLeastRecentlyShownPanes() {
+        Iterator<UiPart<Region>> leastRecentlyShown = typeToPaneMap.values().iterator();
+        while (typeToPaneMap.size() > MAX_CACHED_PANES) {
+            UiPart<Region> evictedPane = leastRecentlyShown.next();
+            assert evictedPane != currPane;
+            leastRecentlyShown.remove();
+        }
+    }
+
+    /**
+     * Records {@code pane}, which has just been created and is already attached, as the pane being shown, and detaches
+     * the pane that was shown before it.
+     */
+    private void showNewPane(UiPart<Region> pane) {
+        if (currPane != null) {
+            detach(currPane);
+        }
+        currPane = pane;
+    }
+
+    /**
+     * Records {@code pane}, which was stored before, as the pane being shown. If it was hidden, the pane that was
+     * shown before it is detached, and {@code pane} is attached again.
+     */
+    private void show(UiPart<Region> pane) {
+        if (pane == currPane) {
+            return;
+        }
+        showNewPane(pane);
+        if (pane instanceof DetachablePane) {
+            DetachablePane detachablePane = (DetachablePane) pane;
+            detachablePane.attach();
+        }
+    }
+
+    /**
+     * Detaches {@code pane} from the model if it listens to changes in the model.
+     */
+    private static void detach(UiPart<Region> pane) {
+        if (pane instanceof DetachablePane) {
+            DetachablePane detachablePane = (DetachablePane) pane;
+            detachablePane.detach();
+        }
+    }
+
     public DisplayPaneType getCurrPaneType() {
         return currPaneType;
     }
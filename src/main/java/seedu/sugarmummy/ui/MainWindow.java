@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -34,7 +35,6 @@ import seedu.sugarmummy.logic.commands.CommandResult;
 import seedu.sugarmummy.logic.commands.calendar.CalendarCommandResult;
 import seedu.sugarmummy.logic.commands.exceptions.CommandException;
 import seedu.sugarmummy.logic.parser.exceptions.ParseException;
-import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.recmf.exceptions.FoodNotSuitableException;
 import seedu.sugarmummy.model.time.YearMonth;
 import seedu.sugarmummy.model.time.YearMonthDay;
@@ -106,7 +106,7 @@ public class MainWindow extends UiPart<Stage> {
         helpWindow = new HelpWindow();
         styleManager = new StyleManager(scene, mainWindowPlaceholder);
         setFontColour(logic.getGuiSettings());
-        setBackground(logic.getGuiSettings());
+        setBackground();
         styleManager.setFontFamily("Futura");
     }
 
@@ -223,11 +223,9 @@ public class MainWindow extends UiPart<Stage> {
      * @imagePath String representation of path to background image to be displayed to the user upon startup.
      */
     private void showInitialBackground(StackPane mainDisplayPanePlaceholder, String imagePath) {
-
-        mainDisplayPanePlaceholder.setStyle("-fx-background-image: url('" + imagePath + "'); "
-                + "-fx-background-position: center center; "
-                + "-fx-background-repeat: no-repeat;"
-                + "-fx-background-size: contain;");
+        double decodedSize = StyleManager.getBackgroundDecodedSize("contain");
+        mainDisplayPanePlaceholder.setBackground(StyleManager.getImageBackground(
+                ImageCache.getResourceImage(imagePath, decodedSize, decodedSize), "contain", "no-repeat"));
     }
 
     /**
@@ -237,6 +235,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() throws URISyntaxException {
         resultDisplay = new ResultDisplay();
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
         displayWelcomeMessage(resultDisplay);
         displayInvalidReferences(resultDisplay);
         if (logic.getBackground().showDefaultBackground()) {
@@ -280,13 +279,10 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Sets the background based on {@code guiSettings}.
-     *
-     * @param guiSettings GuiSettings to retrieve and store background in.
+     * Sets the background based on the one in the user prefs.
      */
-    private void setBackground(GuiSettings guiSettings) {
-        Background background = guiSettings.getBackground();
-        styleManager.setBackground(guiSettings.getBackground());
+    private void setBackground() {
+        styleManager.setBackground(logic.getBackground());
     }
 
     /**
@@ -331,11 +327,11 @@ public class MainWindow extends UiPart<Stage> {
             setFontColour(logic.getGuiSettings());
             return true;
         } else if (displayPaneType == DisplayPaneType.BACKGROUND) {
-            setBackground(logic.getGuiSettings());
+            setBackground();
             return true;
         } else if (displayPaneType == DisplayPaneType.COLOUR_AND_BACKGROUND) {
             setFontColour(logic.getGuiSettings());
-            setBackground(logic.getGuiSettings());
+            setBackground();
             return true;
         } else {
             return false;
@@ -383,7 +379,7 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     private void updateMainDisplayPane(UiPart<Region> paneUi) {
-        mainDisplayPanePlaceholder.setStyle(null);
+        mainDisplayPanePlaceholder.setBackground(null);
         mainDisplayPanePlaceholder.getChildren().clear();
         mainDisplayPanePlaceholder.getChildren().add(paneUi.getRoot());
     }
@@ -1,26 +1,38 @@
 package seedu.sugarmummy.ui.aesthetics;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.VBox;
+import javafx.stage.Screen;
+import seedu.sugarmummy.commons.core.LogsCenter;
 import seedu.sugarmummy.model.aesthetics.Background;
+import seedu.sugarmummy.ui.ImageCache;
+import seedu.sugarmummy.ui.aesthetics.StyleSheetTemplate.Slot;
 
 /**
  * Helper class that helps in managing the styles used for the GUI of the program.
+ * <p>
+ * The theme is parsed once into a {@link StyleSheetTemplate}, and every change of font colour, font family or
+ * background renders the whole stylesheet again from the template in memory. The rendered stylesheet is only written
+ * to disk when it differs from the one in use, as JavaFX can only load stylesheets from URLs.
  */
 public class StyleManager {
 
@@ -30,6 +42,13 @@ public class StyleManager {
     private static final String STYLESHEET_DIRECTORY_PATH_NAME = System.getProperty("user.dir") + SEPARATOR
             + STYLESHEET_DIRECTORY_NAME;
 
+    private static final String THEME_PATH = "/view/DarkTheme.css";
+    private static final List<String> FIELDS_TO_IGNORE = List.of("#lineChart", ".commonScrollPane .",
+            ".lineChartScrollPaneSecondVersion .", ".card_big_label", ".card_small_label");
+    private static final String BACKGROUND_COLOUR_FOR_IMAGES = "transparent";
+
+    private static final Logger logger = LogsCenter.getLogger(StyleManager.class);
+
     private Scene scene;
     private VBox mainWindowPlaceholder;
     private File myStyleSheet;
@@ -37,22 +56,21 @@ public class StyleManager {
 
     private List<String> styleSheetUriPaths;
 
-    // Variables used for reading and writing css files
-    private InputStream inputStream;
-    private InputStreamReader inputStreamReader;
-    private BufferedReader bufferedReader;
-    private FileWriter fileWriter;
-    private File tempOutputCss;
-    private String lineReadFromReader;
-    private String linesToWriteViaWriter;
-    private List<String> fieldsToIgnore = new ArrayList<>(List.of("#lineChart", ".commonScrollPane .",
-            ".lineChartScrollPaneSecondVersion .", ".card_big_label", ".card_small_label"));
+    private final StyleSheetTemplate styleSheetTemplate;
+    private final Map<Slot, String> slotValues = new EnumMap<>(Slot.class);
+    private String appliedStyleSheet;
 
     public StyleManager(Scene scene, VBox mainWindowPlaceholder) {
         this.scene = scene;
         this.mainWindowPlaceholder = mainWindowPlaceholder;
         this.styleSheetUriPaths = new ArrayList<>();
         addToStyleSheetUriPaths(getSceneStylesheets().get(0));
+        try {
+            this.styleSheetTemplate = StyleSheetTemplate.read(getClass().getResourceAsStream(THEME_PATH),
+                    FIELDS_TO_IGNORE);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
     }
 
     /**
@@ -60,6 +78,9 @@ public class StyleManager {
      */
     public void resetStyleSheets() {
         getSceneStylesheets().set(0, styleSheetUriPaths.get(0));
+        slotValues.clear();
+        appliedStyleSheet = null;
+        myStyleSheet = null;
         File styleSheetDirectory = new File(STYLESHEET_DIRECTORY_PATH_NAME);
         if (styleSheetDirectory.exists()) {
             Arrays.asList(Objects.requireNonNull(styleSheetDirectory.listFiles())).forEach(File::delete);
@@ -139,107 +160,43 @@ public class StyleManager {
     }
 
     /**
-     * Initialises a new variable to store the output file and generates streams responsible for handling the process to
-     * modify this scene's CSS stylesheets.
+     * Renders the stylesheet with the current font colour, font family and background, and sets it as the CSS
+     * stylesheet to be used if it differs from the one in use.
      *
-     * @throws FileNotFoundException If creation of the streams is unsuccessful.
+     * @throws IOException If writing the stylesheet to its file is unsuccessful.
      */
-    private void initialiseOutputCssAndStreams() throws FileNotFoundException {
-        if (myStyleSheet != null && myStyleSheet.exists()) {
-            String nameWithoutCssExtension = getFileNameWithoutExtension(myStyleSheet);
-            File copy = createNewStyleSheet(nameWithoutCssExtension + " copy.css");
-            inputStream = new FileInputStream(getMyStyleSheet());
-            tempOutputCss = copy;
-        } else {
-            inputStream = this.getClass().getResourceAsStream("/view/DarkTheme.css");
-            tempOutputCss = getMyStyleSheet();
+    public void writeAndSave() throws IOException {
+        String styleSheet = styleSheetTemplate.render(slotValues);
+        if (styleSheet.equals(appliedStyleSheet)) {
+            return;
         }
-
-        inputStreamReader = new InputStreamReader(inputStream);
-        bufferedReader = new BufferedReader(inputStreamReader);
-
-        lineReadFromReader = "";
-        linesToWriteViaWriter = "";
-    }
-
-    /**
-     * Writes the line to be written via this StyleManager's writer stream to the output file.
-     *
-     * @throws IOException If the writing process is unsuccessful.
-     */
-    private void writeToOutput() throws IOException {
-        fileWriter = new FileWriter(tempOutputCss);
-        fileWriter.write(linesToWriteViaWriter);
-    }
-
-    /**
-     * Closes the streams of this StyleManager that have previously been opened to modify the CSS required CSS files to
-     * be modified.
-     *
-     * @throws IOException If closing of any of the streams is unsuccessful.
-     */
-    private void closeStreams() throws IOException {
-        fileWriter.close();
-        bufferedReader.close();
-        inputStream.close();
-        inputStreamReader.close();
+        Files.writeString(getMyStyleSheet().toPath(), styleSheet, StandardCharsets.UTF_8);
+        appliedStyleSheet = styleSheet;
+        setStyleSheet(myStyleSheet);
     }
 
     /**
-     * Copies the temporary output file to this active stylesheet belonging to the scene of this StyleManager.
+     * Sets the value of {@code slot} in the stylesheet and applies the resulting stylesheet.
      *
-     * @throws IOException If the copying process is unsuccessful.
+     * @param slot  Slot of the stylesheet with values to be replaced.
+     * @param value Replacement string for the values of the slot.
      */
-    private void copyTempOutputToMyStyleSheet() throws IOException {
-        if ((myStyleSheet != null && myStyleSheet.exists())
-                && tempOutputCss != null && tempOutputCss.exists()
-                && myStyleSheet.getPath() != tempOutputCss.getPath()) {
-            bufferedReader = new BufferedReader(new FileReader(tempOutputCss));
-            myStyleSheet.delete();
-            myStyleSheet = getMyStyleSheet();
-            fileWriter = new FileWriter(myStyleSheet);
-            String line = "";
-            while ((line = bufferedReader.readLine()) != null) {
-                fileWriter.write(line + "\n");
-            }
-            bufferedReader.close();
-            fileWriter.close();
-            tempOutputCss.delete();
-            tempOutputCss = null;
+    private void setSlotValue(Slot slot, String value) {
+        slotValues.put(slot, value);
+        try {
+            writeAndSave();
+        } catch (IOException e) {
+            logger.warning("Unable to apply stylesheet: " + e.getMessage());
         }
     }
 
-    /**
-     * Writes the styling content to be written and sets the file with the content as the CSS stylesheet to be used.
-     *
-     * @throws IOException If writing to the files are unsuccessful.
-     */
-    public void writeAndSave() throws IOException {
-        writeToOutput();
-        closeStreams();
-        copyTempOutputToMyStyleSheet();
-        setStyleSheet(myStyleSheet);
-    }
-
     /**
      * Sets the font family of this style manager's scene.
      *
      * @param fontFamily String representation of a CSS font family.
      */
     public void setFontFamily(String fontFamily) {
-        try {
-            initialiseOutputCssAndStreams();
-            while ((lineReadFromReader = bufferedReader.readLine()) != null) {
-                ignoreTextToBeIgnored();
-                if (lineReadFromReader != null) {
-                    linesToWriteViaWriter += getLineAfterReplacement(lineReadFromReader, "fx-font-family",
-                            fontFamily) + "\n";
-                }
-            }
-            writeAndSave();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        setSlotValue(Slot.FONT_FAMILY, fontFamily);
     }
 
     /**
@@ -248,36 +205,7 @@ public class StyleManager {
      * @param fontColour String representation of a CSS font colour.
      */
     public void setFontColour(String fontColour) {
-        try {
-            initialiseOutputCssAndStreams();
-            while ((lineReadFromReader = bufferedReader.readLine()) != null) {
-                ignoreTextToBeIgnored();
-                if (lineReadFromReader != null) {
-                    String changedTextFill = getLineAfterReplacement(lineReadFromReader, "fx-text-fill",
-                            fontColour);
-                    String changedFill = getLineAfterReplacement(changedTextFill,
-                            "fx-fill",
-                            fontColour);
-                    linesToWriteViaWriter += changedFill + "\n";
-                }
-            }
-            writeAndSave();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Ignores text to be ignored in each line read by this style manager's reader.
-     *
-     * @throws IOException If consumption of lines to be ignored is unsuccessful.
-     */
-    private void ignoreTextToBeIgnored() throws IOException {
-        for (String fieldToIgnore : fieldsToIgnore) {
-            if (lineReadFromReader != null && lineReadFromReader.startsWith(fieldToIgnore)) {
-                ignoreUntilNextField();
-            }
-        }
+        setSlotValue(Slot.FONT_COLOUR, fontColour);
     }
 
     /**
@@ -286,31 +214,12 @@ public class StyleManager {
      * @param background String representation of a CSS background.
      */
     public void setBackground(Background background) {
-        try {
-            initialiseOutputCssAndStreams();
-            String backgroundColourForImages = "transparent";
-            String backgroundColour = background.isBackgroundColour()
-                    ? background.toString()
-                    : backgroundColourForImages;
-            while ((lineReadFromReader = bufferedReader.readLine()) != null) {
-                ignoreTextToBeIgnored();
-                if (lineReadFromReader != null) {
-                    String changedBackgroundFields = getLineAfterReplacement(lineReadFromReader, "fx-background",
-                            backgroundColour);
-                    String changedBackgroundColourFields = getLineAfterReplacement(changedBackgroundFields,
-                            "fx-background-color",
-                            backgroundColour);
-                    linesToWriteViaWriter += changedBackgroundColourFields + "\n";
-                }
-            }
-
-            if (!background.isBackgroundColour()) {
-                setBackgroundImage(background);
-            }
-            writeAndSave();
-        } catch (Exception e) {
-            e.printStackTrace();
+        if (!background.isBackgroundColour()) {
+            setBackgroundImage(background);
         }
+        setSlotValue(Slot.BACKGROUND, background.isBackgroundColour()
+                ? background.toString()
+                : BACKGROUND_COLOUR_FOR_IMAGES);
     }
 
     /**
@@ -319,86 +228,91 @@ public class StyleManager {
      * @param background Background object representing background information of this application.
      */
     public void setBackgroundImage(Background background) {
-        String filePath = background.getBackgroundPicPath();
-        String bgSize = background.getBgSize();
-        String bgRepeat = background.getBgRepeat();
-
-        File file = new File(filePath);
-
         if (this.background == null || !this.background.equals(background)) {
-            mainWindowPlaceholder.setStyle("-fx-background-image: url('" + file.toURI().toString() + "'); "
-                    + "-fx-background-position: center center; "
-                    + "-fx-background-repeat: " + bgRepeat + ";"
-                    + "-fx-background-size: " + bgSize + ";");
+            mainWindowPlaceholder.setBackground(ImageCache.getFileImage(background.getBackgroundPicPath(),
+                    getBackgroundDecodedSize(background.getBgSize()),
+                    getBackgroundDecodedSize(background.getBgSize()), true)
+                    .map(image -> getImageBackground(image, background.getBgSize(), background.getBgRepeat()))
+                    .orElse(null));
             this.background = background;
         }
     }
 
     /**
-     * Returns a String representation of the given file's name without extensions.
-     *
-     * @param file File with name to be extracted without extensions.
-     * @return Given file's name without extension as a String.
-     */
-    private String getFileNameWithoutExtension(File file) {
-        return file.getName().replaceFirst("[.][^.]+$", "");
-    }
-
-    /**
-     * Returns the output String after replacing the values of the specified fields in a stylesheet.
+     * Returns the size of the square that a background image sized as given by the CSS value {@code bgSize} is decoded
+     * to fit in. Images that are scaled to cover or fit in the window are never shown larger than the largest screen,
+     * while other images are shown at their own size and are decoded at their full size, which is given by 0.
      *
-     * @param lineReadFromReader Line of string in which content may have to be possibly replace.
-     * @param field              Field of a stylesheet with values to be replaced.
-     * @param replacement        Replacement string for the field which requires values to be replaced.
-     * @return Output String after replacing the values of the specified fields in a stylesheet.
+     * @param bgSize CSS background size, which is one of {@code BackgroundImageArgs.BACKGROUND_SIZE_VALUES}.
+     * @return Width and height to decode the background image at.
      */
-    private String getLineAfterReplacement(String lineReadFromReader, String field, String replacement) {
-        String outputLine = lineReadFromReader;
-        int textFillIndex = outputLine.indexOf("-" + field + ": ");
-        if (textFillIndex != -1) {
-            String subText = lineReadFromReader.substring(textFillIndex);
-            int semiColonIndex = subText.indexOf(":");
-            int exclamationIndex = subText.indexOf("!");
-            String toReplace;
-            if (exclamationIndex == -1) {
-                int colonIndex = subText.indexOf(";");
-                toReplace = lineReadFromReader.substring(textFillIndex + semiColonIndex + 1, textFillIndex
-                        + colonIndex);
-                lineReadFromReader = lineReadFromReader.replace(toReplace, " " + replacement);
-            } else {
-                toReplace = lineReadFromReader.substring(textFillIndex + semiColonIndex + 1,
-                        textFillIndex + exclamationIndex);
-                lineReadFromReader = lineReadFromReader.replace(toReplace, " " + replacement
-                        + " ");
-            }
+    public static double getBackgroundDecodedSize(String bgSize) {
+        String lowerCaseBgSize = bgSize == null ? "" : bgSize.toLowerCase();
+        if (!lowerCaseBgSize.equals("cover") && !lowerCaseBgSize.equals("contain")) {
+            return 0;
+        }
+        double decodedSize = 0;
+        for (Screen screen : Screen.getScreens()) {
+            Rectangle2D bounds = screen.getBounds();
+            double outputScale = Math.max(screen.getOutputScaleX(), screen.getOutputScaleY());
+            decodedSize = Math.max(decodedSize, Math.max(bounds.getWidth(), bounds.getHeight()) * outputScale);
         }
-        return lineReadFromReader;
+        return Math.ceil(decodedSize);
     }
 
     /**
-     * Consumes the next whole field from this current onwards.
+     * Returns a JavaFX background showing {@code image} at the centre, sized and repeated as given by the CSS values
+     * {@code bgSize} and {@code bgRepeat}.
      *
-     * @throws IOException If reading of lines of text is unsuccessful.
+     * @param image    Image to be shown in the background.
+     * @param bgSize   CSS background size, which is one of {@code BackgroundImageArgs.BACKGROUND_SIZE_VALUES}.
+     * @param bgRepeat CSS background repeat, which is one of {@code BackgroundImageArgs.BACKGROUND_REPEAT_VALUES}.
+     * @return JavaFX background showing the given image.
      */
-    private void ignoreUntilNextField() throws IOException {
-        boolean foundOpeningCurlyBraces = lineReadFromReader.contains("{");
-        boolean foundClosingCurlyBraces = lineReadFromReader.contains("}");
-
-        while (!foundOpeningCurlyBraces && lineReadFromReader != null) {
-            linesToWriteViaWriter += lineReadFromReader + "\n";
-            if (lineReadFromReader.contains("{")) {
-                foundOpeningCurlyBraces = true;
-            }
-            lineReadFromReader = bufferedReader.readLine();
+    public static javafx.scene.layout.Background getImageBackground(Image image, String bgSize, String bgRepeat) {
+        BackgroundSize backgroundSize;
+        switch (bgSize == null ? "" : bgSize.toLowerCase()) {
+        case "cover":
+            backgroundSize = new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, true, true, false, true);
+            break;
+        case "contain":
+            backgroundSize = new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, true, true, true, false);
+            break;
+        default:
+            backgroundSize = BackgroundSize.DEFAULT;
+            break;
         }
 
-        while (!foundClosingCurlyBraces && lineReadFromReader != null) {
-            linesToWriteViaWriter += lineReadFromReader + "\n";
-            if (lineReadFromReader.contains("}")) {
-                foundClosingCurlyBraces = true;
-            }
-            lineReadFromReader = bufferedReader.readLine();
+        BackgroundRepeat repeatX;
+        BackgroundRepeat repeatY;
+        switch (bgRepeat == null ? "" : bgRepeat.toLowerCase()) {
+        case "repeat-x":
+            repeatX = BackgroundRepeat.REPEAT;
+            repeatY = BackgroundRepeat.NO_REPEAT;
+            break;
+        case "repeat-y":
+            repeatX = BackgroundRepeat.NO_REPEAT;
+            repeatY = BackgroundRepeat.REPEAT;
+            break;
+        case "space":
+            repeatX = BackgroundRepeat.SPACE;
+            repeatY = BackgroundRepeat.SPACE;
+            break;
+        case "round":
+            repeatX = BackgroundRepeat.ROUND;
+            repeatY = BackgroundRepeat.ROUND;
+            break;
+        case "no-repeat":
+            repeatX = BackgroundRepeat.NO_REPEAT;
+            repeatY = BackgroundRepeat.NO_REPEAT;
+            break;
+        default:
+            repeatX = BackgroundRepeat.REPEAT;
+            repeatY = BackgroundRepeat.REPEAT;
+            break;
         }
-    }
 
+        return new javafx.scene.layout.Background(new BackgroundImage(image, repeatX, repeatY,
+                BackgroundPosition.CENTER, backgroundSize));
+    }
 }
@@ -0,0 +1,168 @@
+package seedu.sugarmummy.ui.aesthetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A CSS stylesheet parsed once into literal text and named slots, so that it can be rendered again with different
+ * values for the slots without reading and rewriting the stylesheet line by line.
+ * <p>
+ * Each slot is the value of a declaration of one of the properties of a {@link Slot}. Rules whose selectors start with
+ * one of the {@code ignoredSelectors} are kept as literal text, so that their values are never replaced.
+ */
+class StyleSheetTemplate {
+
+    /**
+     * The kinds of values that can be replaced in a stylesheet, with the properties whose values they replace.
+     */
+    enum Slot {
+        FONT_COLOUR("-fx-text-fill", "-fx-fill"),
+        FONT_FAMILY("-fx-font-family"),
+        BACKGROUND("-fx-background", "-fx-background-color");
+
+        private final String[] properties;
+
+        Slot(String... properties) {
+            this.properties = properties;
+        }
+    }
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<SlotValue> slotValues = new ArrayList<>();
+    private final int originalLength;
+
+    /**
+     * Constructs a template from the {@code lines} of a stylesheet.
+     */
+    StyleSheetTemplate(List<String> lines, List<String> ignoredSelectors) {
+        requireNonNull(lines);
+        requireNonNull(ignoredSelectors);
+        StringBuilder literal = new StringBuilder();
+        boolean isInIgnoredRule = false;
+        int length = 0;
+        for (String line : lines) {
+            length += line.length() + 1;
+            if (!isInIgnoredRule && ignoredSelectors.stream().anyMatch(line::startsWith)) {
+                isInIgnoredRule = true;
+            }
+            if (isInIgnoredRule) {
+                literal.append(line).append('\n');
+                isInIgnoredRule = !line.contains("}");
+                continue;
+            }
+            addLine(line, literal);
+        }
+        literals.add(literal.toString());
+        originalLength = length;
+    }
+
+    /**
+     * Returns a template of the stylesheet read from {@code inputStream}, which is closed afterwards.
+     *
+     * @throws IOException If the stylesheet cannot be read.
+     */
+    static StyleSheetTemplate read(InputStream inputStream, List<String> ignoredSelectors) throws IOException {
+        requireNonNull(inputStream);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream,
+                StandardCharsets.UTF_8))) {
+            return new StyleSheetTemplate(reader.lines().collect(Collectors.toList()), ignoredSelectors);
+        }
+    }
+
+    /**
+     * Adds the text of {@code line} to {@code literal}, ending the literal at every slot found in the line.
+     */
+    private void addLine(String line, StringBuilder literal) {
+        int start = 0;
+        SlotValue slotValue;
+        while ((slotValue = findSlotValue(line, start)) != null) {
+            literal.append(line, start, slotValue.valueStart);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slotValues.add(slotValue);
+            start = slotValue.valueEnd;
+        }
+        literal.append(line, start, line.length()).append('\n');
+    }
+
+    /**
+     * Returns the first slot in {@code line} from {@code fromIndex} onwards, or null if there is none.
+     */
+    private static SlotValue findSlotValue(String line, int fromIndex) {
+        SlotValue firstSlotValue = null;
+        for (Slot slot : Slot.values()) {
+            for (String property : slot.properties) {
+                int propertyIndex = line.indexOf(property + ": ", fromIndex);
+                int valueStart = propertyIndex + property.length() + 1;
+                if (propertyIndex == -1 || (firstSlotValue != null && valueStart > firstSlotValue.valueStart)) {
+                    continue;
+                }
+                int semicolonIndex = line.indexOf(';', valueStart);
+                if (semicolonIndex == -1) {
+                    continue;
+                }
+                int importantIndex = line.indexOf('!', valueStart);
+                boolean isImportant = importantIndex != -1 && importantIndex < semicolonIndex;
+                int valueEnd = isImportant ? importantIndex : semicolonIndex;
+                firstSlotValue = new SlotValue(slot, line.substring(valueStart, valueEnd), valueStart, valueEnd,
+                        isImportant);
+            }
+        }
+        return firstSlotValue;
+    }
+
+    /**
+     * Returns the number of slots in this template.
+     */
+    int getNumberOfSlots() {
+        return slotValues.size();
+    }
+
+    /**
+     * Returns the stylesheet with the value of every slot in {@code values} replaced, and the original value kept for
+     * every other slot.
+     */
+    String render(Map<Slot, String> values) {
+        requireNonNull(values);
+        StringBuilder styleSheet = new StringBuilder(originalLength + slotValues.size() * 16);
+        for (int i = 0; i < slotValues.size(); i++) {
+            styleSheet.append(literals.get(i));
+            SlotValue slotValue = slotValues.get(i);
+            String value = values.get(slotValue.slot);
+            if (value == null) {
+                styleSheet.append(slotValue.originalValue);
+            } else {
+                styleSheet.append(' ').append(value).append(slotValue.isImportant ? " " : "");
+            }
+        }
+        return styleSheet.append(literals.get(slotValues.size())).toString();
+    }
+
+    /**
+     * The value of a declaration that fills a slot, with its position in its line.
+     */
+    private static class SlotValue {
+        private final Slot slot;
+        private final String originalValue;
+        private final int valueStart;
+        private final int valueEnd;
+        private final boolean isImportant;
+
+        private SlotValue(Slot slot, String originalValue, int valueStart, int valueEnd, boolean isImportant) {
+            this.slot = slot;
+            this.originalValue = originalValue;
+            this.valueStart = valueStart;
+            this.valueEnd = valueEnd;
+            this.isImportant = isImportant;
+        }
+    }
+}
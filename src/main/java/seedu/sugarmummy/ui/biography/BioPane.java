@@ -1,6 +1,5 @@
 package seedu.sugarmummy.ui.biography;
 
-import java.io.File;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -9,10 +8,10 @@ import javafx.scene.image.Image;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import seedu.sugarmummy.MainApp;
 import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
 import seedu.sugarmummy.model.biography.User;
+import seedu.sugarmummy.ui.ImageCache;
 import seedu.sugarmummy.ui.UiPart;
 
 /**
@@ -23,11 +22,11 @@ public class BioPane extends UiPart<Region> {
 
     private static final String FXML = "BioPane.fxml";
     private static final String DEFAULT_DP_PATH = "/images/user.png";
+    /** The size display pictures are decoded at, which is twice the size they are shown at for high density screens. */
+    private static final double DP_DECODED_SIZE = 152;
 
     private BioTable bioTable;
     private Profile profile;
-    private Image img;
-    private String dpPath;
 
     @FXML
     private HBox profilePlaceholder;
@@ -36,17 +35,13 @@ public class BioPane extends UiPart<Region> {
     private VBox bioTablePlaceholder;
 
     public BioPane(ObservableList<User> filteredUserList, Colour fontColour, Background background) {
-        this(filteredUserList, null, fontColour, background);
-    }
-
-    public BioPane(ObservableList<User> filteredUserList, Image img, Colour fontColour, Background background) {
         super(FXML);
 
         if (!filteredUserList.isEmpty()) {
 
             User user = filteredUserList.get(0);
 
-            dpPath = user.getDpPath().toString();
+            String dpPath = user.getDpPath().toString();
 
             String name = user.getName().toString();
             String nric = user.getNric().toString();
@@ -63,28 +58,14 @@ public class BioPane extends UiPart<Region> {
             String myGoals = listToString(user.getGoals());
             String otherBioInfo = user.getOtherBioInfo().toString();
 
-            File file = new File(dpPath);
-
-            if (img != null) {
-                profile = new Profile(img, user.getName().toString(), user.getProfileDesc().toString());
-            } else {
-                if (!file.exists()) {
-                    if (img == null) {
-                        img = new Image(MainApp.class.getResourceAsStream(DEFAULT_DP_PATH));
-                    }
-                } else {
-                    img = new Image(file.toURI().toString());
-                }
-
-                profile = new Profile(img, user.getName().toString(), user.getProfileDesc().toString());
-                this.img = img;
-            }
+            Image img = ImageCache.getFileImage(dpPath, DP_DECODED_SIZE, DP_DECODED_SIZE, true)
+                    .orElseGet(() -> ImageCache.getResourceImage(DEFAULT_DP_PATH, DP_DECODED_SIZE, DP_DECODED_SIZE));
+            profile = new Profile(img, user.getName().toString(), user.getProfileDesc().toString());
             profilePlaceholder.getChildren().add(profile.getRoot());
             bioTable = new BioTable(name, nric, gender, dob, hp, emergencyHp, medicalCondition, address, dpPath,
                     fontColourToString, bg, bgSize, bgRepeat, myGoals, otherBioInfo);
         } else {
-            img = new Image(MainApp.class.getResourceAsStream(DEFAULT_DP_PATH));
-            this.img = img;
+            Image img = ImageCache.getResourceImage(DEFAULT_DP_PATH, DP_DECODED_SIZE, DP_DECODED_SIZE);
             profile = new Profile(img, "No user bio added :(", null);
             profilePlaceholder.getChildren().add(profile.getRoot());
             bioTable = new BioTable(fontColour.toString(), background.toString(), background.getBgSize(),
@@ -116,12 +97,4 @@ public class BioPane extends UiPart<Region> {
         return stringBuilder.toString();
     }
 
-    public String getDpPath() {
-        return dpPath;
-    }
-
-    public Image getImg() {
-        return img;
-    }
-
 }
@@ -9,20 +9,35 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.ui.DetachablePane;
 import seedu.sugarmummy.ui.UiPart;
 
 /**
  * Panel containing a list of calendar entries.
  */
-public class CalendarEntryRawList extends UiPart<Region> {
+public class CalendarEntryRawList extends UiPart<Region> implements DetachablePane {
     private static final String FXML = "CalendarEntryRawList.fxml";
+    private final ObservableList<CalendarEntry> calendarEntries;
+
     @FXML
     private ListView<CalendarEntry> calendarEntryListView;
 
     public CalendarEntryRawList(ObservableList<CalendarEntry> calendarEntries) {
         super(FXML);
-        calendarEntryListView.setItems(calendarEntries.sorted(Comparator.comparing(CalendarEntry::getDateTime)));
+        this.calendarEntries = calendarEntries;
         calendarEntryListView.setCellFactory(listView -> new CalendarListViewCell());
+        attach();
+    }
+
+    @Override
+    public void detach() {
+        calendarEntryListView.setItems(null);
+        calendarEntryListView.prefHeightProperty().unbind();
+    }
+
+    @Override
+    public void attach() {
+        calendarEntryListView.setItems(calendarEntries.sorted(Comparator.comparing(CalendarEntry::getDateTime)));
         calendarEntryListView.prefHeightProperty().bind(Bindings.size(calendarEntries).multiply(54));
     }
 
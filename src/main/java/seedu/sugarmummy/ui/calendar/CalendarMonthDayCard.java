@@ -7,6 +7,8 @@ import java.util.logging.Logger;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableObjectValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -33,28 +35,41 @@ public class CalendarMonthDayCard extends UiPart<Region> {
     @FXML
     private BorderPane dayCard;
 
-    public CalendarMonthDayCard(LocalDate date, ObservableList<CalendarEntry> calendarEntries, Today today) {
+    private final ObjectProperty<LocalDate> shownDate = new SimpleObjectProperty<>();
+
+    public CalendarMonthDayCard(Today today) {
         super(FXML);
         BooleanBinding booleanBinding = Bindings.createBooleanBinding(new Callable<Boolean>() {
             @Override
             public Boolean call() {
-                return today.getDateProperty().get().equals(date);
+                return today.getDateProperty().get().equals(shownDate.get());
             }
-        }, today.getDateProperty());
+        }, today.getDateProperty(), shownDate);
         ObservableObjectValue<Color> colorProperty = Bindings.when(booleanBinding)
                 .then(Color.BLACK).otherwise(Color.WHITE);
         this.date.setWrapText(true);
         this.date.textFillProperty().bind(colorProperty);
+        entryNumber.setStyle("-fx-text-fill: #FAF3DD");
+        showBlank();
+    }
+
+    /**
+     * Shows {@code date} and the number of calendar entries on it, in place of what was shown previously.
+     */
+    public void showDate(LocalDate date, ObservableList<CalendarEntry> calendarEntriesOnDate) {
+        shownDate.set(date);
         this.date.setText(date.getDayOfMonth() + "");
-        StringBinding stringBinding = Bindings.size(
-                calendarEntries.filtered(calendarEntry -> calendarEntry.isOnDate(date))).asString();
+        StringBinding stringBinding = Bindings.size(calendarEntriesOnDate).asString();
         entryNumber.textProperty().bind(stringBinding);
-        entryNumber.setStyle("-fx-text-fill: #FAF3DD");
     }
 
-    public CalendarMonthDayCard() {
-        super(FXML);
+    /**
+     * Shows nothing, for the days on the calendar that are outside the month shown.
+     */
+    public void showBlank() {
+        shownDate.set(null);
         this.date.setText("");
-        this.entryNumber.setText("");
+        entryNumber.textProperty().unbind();
+        entryNumber.setText("");
     }
 }
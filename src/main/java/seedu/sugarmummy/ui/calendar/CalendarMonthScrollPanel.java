@@ -2,15 +2,18 @@ package seedu.sugarmummy.ui.calendar;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.sugarmummy.commons.core.LogsCenter;
-import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.time.Today;
 import seedu.sugarmummy.model.time.YearMonth;
 import seedu.sugarmummy.model.time.YearMonthDay;
@@ -18,69 +21,92 @@ import seedu.sugarmummy.ui.UiPart;
 
 /**
  * Panel containing a monthly calendar and calendar entries on each day.
+ * <p>
+ * The panel can be reused to show another month. The day cards of the monthly calendar are reused for every month,
+ * and the calendar entries of each day are shown in a list view, which only creates the cells near the visible part
+ * of the list and reuses them as the list is scrolled.
  */
 public class CalendarMonthScrollPanel extends UiPart<Region> {
     private static final String FXML = "CalendarMonthScrollPane.fxml";
     private final Logger logger = LogsCenter.getLogger(CalendarMonthScrollPanel.class);
 
+    private final CalendarEntryDateIndex calendarEntryDateIndex;
+    private final MonthlyCalendar monthlyCalendar;
+
     @FXML
     private VBox calendarMonthVBox;
     @FXML
-    private VBox monthlyCalendarEntries;
+    private ListView<LocalDate> dailyCalendarEntriesList;
 
     public CalendarMonthScrollPanel(YearMonth yearMonth, Optional<YearMonthDay> yearMonthDay, boolean isShowingWeek,
-                                    ObservableList<CalendarEntry> calendarEntries, Today today) {
+                                    CalendarEntryDateIndex calendarEntryDateIndex, Today today) {
         super(FXML);
-        calendarMonthVBox.getChildren().add(0, new MonthlyCalendar(yearMonth, calendarEntries, today).getRoot());
-        initializeDailyCalendarEntries(yearMonth, yearMonthDay, isShowingWeek, calendarEntries);
+        this.calendarEntryDateIndex = calendarEntryDateIndex;
+        monthlyCalendar = new MonthlyCalendar(calendarEntryDateIndex, today);
+        calendarMonthVBox.getChildren().add(0, monthlyCalendar.getRoot());
+        dailyCalendarEntriesList.setCellFactory(listView -> new DailyCalendarEntriesCell());
+        show(yearMonth, yearMonthDay, isShowingWeek);
+    }
+
+    /**
+     * Shows the monthly calendar of the given year and month, and the calendar entries on the given day, in the week
+     * containing the given day, or in the whole month if no day is given.
+     */
+    public void show(YearMonth yearMonth, Optional<YearMonthDay> yearMonthDay, boolean isShowingWeek) {
+        logger.fine("Showing calendar of " + yearMonth);
+        monthlyCalendar.showMonth(yearMonth);
+        dailyCalendarEntriesList.getItems().setAll(getDatesShown(yearMonth, yearMonthDay, isShowingWeek));
+        dailyCalendarEntriesList.scrollTo(0);
     }
 
     /**
-     * Initializes calendar entries.
+     * Returns the dates whose calendar entries are shown.
      */
-    private void initializeDailyCalendarEntries(YearMonth yearMonth, Optional<YearMonthDay> yearMonthDay,
-            boolean isShowingWeek, ObservableList<CalendarEntry> calendarEntries) {
+    private List<LocalDate> getDatesShown(YearMonth yearMonth, Optional<YearMonthDay> yearMonthDay,
+            boolean isShowingWeek) {
+        List<LocalDate> dates = new ArrayList<>();
         if (yearMonthDay.isPresent()) {
+            LocalDate date = yearMonthDay.get().getYearMonthDay();
             if (isShowingWeek) {
-                initializeWeeklyCalendarEntries(yearMonthDay.get(), calendarEntries);
+                DayOfWeek dayOfWeek = date.getDayOfWeek();
+                date = date.minusDays(dayOfWeek.getValue() - 1);
+                for (int i = 1; i <= 7; i++) {
+                    dates.add(date);
+                    date = date.plusDays(1);
+                }
             } else {
-                initializeDailyCalendarEntries(yearMonthDay.get(), calendarEntries);
+                dates.add(date);
             }
         } else {
-            initializeDailyCalendarEntries(yearMonth, calendarEntries);
+            LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), 1);
+            for (; date.getMonthValue() == yearMonth.getMonth(); date = date.plusDays(1)) {
+                dates.add(date);
+            }
         }
+        return dates;
     }
 
     /**
-     * Initializes calendar entries of each day in the give year and month.
+     * Custom {@code ListCell} that displays the calendar entries on a date using a {@code DailyCalendarEntries}, which
+     * is created once for the cell and reused for every date the cell shows.
      */
-    private void initializeDailyCalendarEntries(YearMonth yearMonth, ObservableList<CalendarEntry> calendarEntries) {
-        LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), 1);
-        for (; date.getMonthValue() == yearMonth.getMonth(); date = date.plusDays(1)) {
-            monthlyCalendarEntries.getChildren().add(new DailyCalendarEntries(date, calendarEntries).getRoot());
-        }
-    }
+    class DailyCalendarEntriesCell extends ListCell<LocalDate> {
+        private DailyCalendarEntries dailyCalendarEntries;
 
-    /**
-     * Initializes calendar entries on the given year month and day.
-     */
-    private void initializeDailyCalendarEntries(YearMonthDay yearMonthDay,
-            ObservableList<CalendarEntry> calendarEntries) {
-        monthlyCalendarEntries.getChildren().add(new DailyCalendarEntries(yearMonthDay.getYearMonthDay(),
-                calendarEntries).getRoot());
-    }
+        @Override
+        protected void updateItem(LocalDate date, boolean empty) {
+            super.updateItem(date, empty);
 
-    /**
-     * Initializes calendar entries in the week containing the given year month and day.
-     */
-    private void initializeWeeklyCalendarEntries(YearMonthDay yearMonthDay,
-                                                 ObservableList<CalendarEntry> calendarEntries) {
-        LocalDate date = yearMonthDay.getYearMonthDay();
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        date = date.minusDays(dayOfWeek.getValue() - 1);
-        for (int i = 1; i <= 7; i++) {
-            monthlyCalendarEntries.getChildren().add(new DailyCalendarEntries(date, calendarEntries).getRoot());
-            date = date.plusDays(1);
+            if (empty || date == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                if (dailyCalendarEntries == null) {
+                    dailyCalendarEntries = new DailyCalendarEntries();
+                }
+                dailyCalendarEntries.showDate(date, calendarEntryDateIndex.getCalendarEntriesOn(date));
+                setGraphic(dailyCalendarEntries.getRoot());
+            }
         }
     }
 }
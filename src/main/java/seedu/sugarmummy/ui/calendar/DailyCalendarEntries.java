@@ -25,20 +25,23 @@ public class DailyCalendarEntries extends UiPart<Region> {
     @FXML
     private ListView<CalendarEntry> dailyCalendarEntryList;
 
-    public DailyCalendarEntries(LocalDate date, ObservableList<CalendarEntry> calendarEntries) {
+    public DailyCalendarEntries() {
         super(FXML);
         this.getRoot().setStyle("-fx-border-width: 0 0 2 0; -fx-border-color: #818A90");
-        day.setText(date.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + date.getDayOfMonth() + " "
-                + date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
         day.setWrapText(true);
         day.setStyle("-fx-background-radius: 0.2em; -fx-background-color: #818A9E; "
                 + "-fx-text-fill: white; -fx-padding: 2");
-        dailyCalendarEntryList.setItems(calendarEntries
-                .filtered(calendarEntry -> calendarEntry.isOnDate(date)).sorted());
         dailyCalendarEntryList.setCellFactory(listView -> new CalendarListViewCell());
-        dailyCalendarEntryList.prefHeightProperty().bind(Bindings.size(
-                calendarEntries.filtered(calendarEntry -> calendarEntry.isOnDate(date)))
-                .multiply(54));
+    }
+
+    /**
+     * Shows {@code date} and the calendar entries on it, in place of those shown previously.
+     */
+    public void showDate(LocalDate date, ObservableList<CalendarEntry> calendarEntriesOnDate) {
+        day.setText(date.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + date.getDayOfMonth() + " "
+                + date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+        dailyCalendarEntryList.setItems(calendarEntriesOnDate.sorted());
+        dailyCalendarEntryList.prefHeightProperty().bind(Bindings.size(calendarEntriesOnDate).multiply(54));
     }
 
     /**
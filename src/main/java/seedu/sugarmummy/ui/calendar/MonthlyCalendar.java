@@ -2,9 +2,10 @@ package seedu.sugarmummy.ui.calendar;
 
 import java.text.DateFormatSymbols;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.ColumnConstraints;
@@ -12,7 +13,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import seedu.sugarmummy.commons.core.LogsCenter;
-import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.time.Today;
 import seedu.sugarmummy.model.time.YearMonth;
 import seedu.sugarmummy.ui.UiPart;
@@ -23,6 +24,7 @@ import seedu.sugarmummy.ui.UiPart;
 public class MonthlyCalendar extends UiPart<Region> {
     private static final String FXML = "MonthlyCalendar.fxml";
     private static int numberOfColumns = 7;
+    private static int numberOfRows = 6;
     private final Logger logger = LogsCenter.getLogger(MonthlyCalendar.class);
 
     @FXML
@@ -30,12 +32,23 @@ public class MonthlyCalendar extends UiPart<Region> {
     @FXML
     private GridPane calendarMonthPanel;
 
-    public MonthlyCalendar(YearMonth yearMonth, ObservableList<CalendarEntry> calendarEntries, Today today) {
+    private final CalendarEntryDateIndex calendarEntryDateIndex;
+    private final List<CalendarMonthDayCard> dayCards = new ArrayList<>();
+
+    public MonthlyCalendar(CalendarEntryDateIndex calendarEntryDateIndex, Today today) {
         super(FXML);
-        initializeTitle(yearMonth.getYear(), yearMonth.getMonth());
+        this.calendarEntryDateIndex = calendarEntryDateIndex;
         setStyle();
         initializeHeader();
-        initializeDates(yearMonth.getYear(), yearMonth.getMonth(), calendarEntries, today);
+        initializeDayCards(today);
+    }
+
+    /**
+     * Shows the given year and month on this calendar, reusing the day cards showing the previous month.
+     */
+    public void showMonth(YearMonth yearMonth) {
+        initializeTitle(yearMonth.getYear(), yearMonth.getMonth());
+        showDates(yearMonth.getYear(), yearMonth.getMonth());
     }
 
     /**
@@ -71,26 +84,38 @@ public class MonthlyCalendar extends UiPart<Region> {
     }
 
     /**
-     * Initializes UI for each date in the given year and month.
+     * Initializes enough day cards for the weeks of any month. The cards are reused for every month shown.
      */
-    private void initializeDates(int year, int month, ObservableList<CalendarEntry> calendarEntries, Today today) {
-        LocalDate currentDate = LocalDate.of(year, month, 1);
-        int currentDayOfWeek = currentDate.getDayOfWeek().getValue();
+    private void initializeDayCards(Today today) {
+        for (int rowNum = 1; rowNum <= numberOfRows; rowNum++) {
+            for (int colNum = 0; colNum < numberOfColumns; colNum++) {
+                CalendarMonthDayCard dayCard = new CalendarMonthDayCard(today);
+                dayCards.add(dayCard);
+                calendarMonthPanel.add(dayCard.getRoot(), colNum, rowNum, 1, 1);
+            }
+        }
+    }
 
-        int rowNum = 1;
-        int colNum = 0;
+    /**
+     * Shows each date in the given year and month on the day card of its day of week and week, leaving the other day
+     * cards blank and hiding the weeks that are not in the month.
+     */
+    private void showDates(int year, int month) {
+        LocalDate firstDate = LocalDate.of(year, month, 1);
+        int firstCardIndex = firstDate.getDayOfWeek().getValue() - 1;
+        int numberOfCardsShown = firstCardIndex + firstDate.lengthOfMonth();
 
-        for (; colNum < currentDayOfWeek - 1; colNum++) {
-            calendarMonthPanel.add(new CalendarMonthDayCard().getRoot(), colNum, rowNum, 1, 1);
-        }
-        for (; currentDate.getMonthValue() == month; currentDate = currentDate.plusDays(1)) {
-            calendarMonthPanel.add(new CalendarMonthDayCard(currentDate, calendarEntries, today).getRoot(),
-                    colNum, rowNum, 1, 1);
-            colNum++;
-            if (colNum == numberOfColumns) {
-                rowNum++;
-                colNum = 0;
+        for (int i = 0; i < dayCards.size(); i++) {
+            CalendarMonthDayCard dayCard = dayCards.get(i);
+            LocalDate date = firstDate.plusDays(i - firstCardIndex);
+            if (date.getMonthValue() != month) {
+                dayCard.showBlank();
+            } else {
+                dayCard.showDate(date, calendarEntryDateIndex.getCalendarEntriesOn(date));
             }
+            boolean isInShownWeek = i / numberOfColumns * numberOfColumns < numberOfCardsShown;
+            dayCard.getRoot().setVisible(isInShownWeek);
+            dayCard.getRoot().setManaged(isInShownWeek);
         }
     }
 }
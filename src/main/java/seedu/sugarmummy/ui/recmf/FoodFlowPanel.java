@@ -1,5 +1,7 @@
 package seedu.sugarmummy.ui.recmf;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ListChangeListener;
@@ -10,15 +12,20 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import seedu.sugarmummy.commons.core.LogsCenter;
 import seedu.sugarmummy.model.recmf.Food;
+import seedu.sugarmummy.ui.DetachablePane;
 import seedu.sugarmummy.ui.UiPart;
 
 /**
  * Represents a panel of a list of foods.
  */
-public class FoodFlowPanel extends UiPart<Region> {
+public class FoodFlowPanel extends UiPart<Region> implements DetachablePane {
     private static final String FXML = "FoodFlowPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(FoodFlowPanel.class);
 
+    private final ObservableList<Food> foodList;
+    private final ListChangeListener<Food> foodListListener = change -> refreshFlowPanel();
+    private List<Food> foodsShown;
+
     @FXML
     private FlowPane flowPane;
     @FXML
@@ -26,21 +33,36 @@ public class FoodFlowPanel extends UiPart<Region> {
 
     public FoodFlowPanel(ObservableList<Food> foodList) {
         super(FXML);
+        this.foodList = foodList;
 
-        foodList.addListener((ListChangeListener<Food>) listener -> refreshFlowPanel(foodList));
-        fillFlowPaneContent(foodList);
+        foodList.addListener(foodListListener);
+        fillFlowPaneContent();
         mainScrollPanel.setContent(flowPane);
     }
 
-    private void fillFlowPaneContent(ObservableList<Food> foodList) {
-        foodList.stream().forEach(food -> flowPane.getChildren().add(new FoodCard(food).getRoot()));
+    private void fillFlowPaneContent() {
+        foodsShown = new ArrayList<>(foodList);
+        foodsShown.forEach(food -> flowPane.getChildren().add(new FoodCard(food).getRoot()));
     }
 
     /**
      * Updates the food recommendation panel.
      */
-    private void refreshFlowPanel(ObservableList<Food> foodList) {
+    private void refreshFlowPanel() {
         flowPane.getChildren().clear();
-        fillFlowPaneContent(foodList);
+        fillFlowPaneContent();
+    }
+
+    @Override
+    public void detach() {
+        foodList.removeListener(foodListListener);
+    }
+
+    @Override
+    public void attach() {
+        foodList.addListener(foodListListener);
+        if (!foodsShown.equals(foodList)) {
+            refreshFlowPanel();
+        }
     }
 }
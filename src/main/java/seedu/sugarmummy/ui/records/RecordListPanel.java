@@ -11,24 +11,38 @@ import seedu.sugarmummy.commons.core.LogsCenter;
 import seedu.sugarmummy.model.records.BloodSugar;
 import seedu.sugarmummy.model.records.Bmi;
 import seedu.sugarmummy.model.records.Record;
+import seedu.sugarmummy.ui.DetachablePane;
 import seedu.sugarmummy.ui.UiPart;
 
 /**
  * Panel containing the list of records.
  */
-public class RecordListPanel extends UiPart<Region> {
+public class RecordListPanel extends UiPart<Region> implements DetachablePane {
     private static final String FXML = "RecordListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(RecordListPanel.class);
 
+    private final ObservableList<Record> recordList;
+
     @FXML
     private ListView<Record> recordListView;
 
     public RecordListPanel(ObservableList<Record> recordList) {
         super(FXML);
+        this.recordList = recordList;
         recordListView.setItems(recordList);
         recordListView.setCellFactory(listView -> new RecordListViewCell());
     }
 
+    @Override
+    public void detach() {
+        recordListView.setItems(null);
+    }
+
+    @Override
+    public void attach() {
+        recordListView.setItems(recordList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Record} using a {@code BloodSugarRecordCard} or a
      * {@code BmiRecordCard}.
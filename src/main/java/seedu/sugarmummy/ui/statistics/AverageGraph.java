@@ -60,29 +60,33 @@ public class AverageGraph {
 
     private final CustomLineChart<String, Number> customLineChart = new CustomLineChart<>(xAxis, yAxis);
 
+    private final ObservableMap<LocalDate, Double> averageMap;
+    private final SimpleStringProperty averageType;
+    private final SimpleStringProperty recordType;
+
+    private final MapChangeListener<LocalDate, Double> averageMapListener = new MapChangeListener<LocalDate, Double>() {
+        @Override
+        public void onChanged(Change<? extends LocalDate, ? extends Double> change) {
+            refreshChart(averageMap, averageType, recordType);
+        }
+    };
+
+    private final ChangeListener<String> typeListener = new ChangeListener<String>() {
+        @Override
+        public void changed(ObservableValue<? extends String> observable, String oldValue, String newValue) {
+            refreshChart(averageMap, averageType, recordType);
+        }
+    };
+
     public AverageGraph(ObservableMap<LocalDate, Double> averageMap, SimpleStringProperty averageType,
             SimpleStringProperty recordType) {
+        this.averageMap = averageMap;
+        this.averageType = averageType;
+        this.recordType = recordType;
 
-        averageMap.addListener(new MapChangeListener<LocalDate, Double>() {
-            @Override
-            public void onChanged(Change<? extends LocalDate, ? extends Double> change) {
-                refreshChart(averageMap, averageType, recordType);
-            }
-        });
-
-        averageType.addListener(new ChangeListener<String>() {
-            @Override
-            public void changed(ObservableValue<? extends String> observable, String oldValue, String newValue) {
-                refreshChart(averageMap, averageType, recordType);
-            }
-        });
-
-        recordType.addListener(new ChangeListener<String>() {
-            @Override
-            public void changed(ObservableValue<? extends String> observable, String oldValue, String newValue) {
-                refreshChart(averageMap, averageType, recordType);
-            }
-        });
+        averageMap.addListener(averageMapListener);
+        averageType.addListener(typeListener);
+        recordType.addListener(typeListener);
 
         customLineChart.setId("lineChartCustom");
         customLineChart.setAnimated(false);
@@ -93,6 +97,26 @@ public class AverageGraph {
         createChart(averageMap, averageType, recordType);
     }
 
+    /**
+     * Stops updating customLineChart when averageMap, averageType or recordType changes.
+     */
+    public void detach() {
+        averageMap.removeListener(averageMapListener);
+        averageType.removeListener(typeListener);
+        recordType.removeListener(typeListener);
+    }
+
+    /**
+     * Updates customLineChart with the changes made while it was detached, and resumes updating it whenever
+     * averageMap, averageType or recordType changes.
+     */
+    public void attach() {
+        averageMap.addListener(averageMapListener);
+        averageType.addListener(typeListener);
+        recordType.addListener(typeListener);
+        refreshChart(averageMap, averageType, recordType);
+    }
+
     /**
      * A convenience function to update customLineChart with new data points whenever averageMap, averageType or
      * recordType changes.
@@ -10,6 +10,7 @@ import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.sugarmummy.commons.core.LogsCenter;
+import seedu.sugarmummy.ui.DetachablePane;
 import seedu.sugarmummy.ui.UiPart;
 
 //@@author chen-xi-cx
@@ -17,7 +18,7 @@ import seedu.sugarmummy.ui.UiPart;
 /**
  * Represents a panel of an average graph and its legend.
  */
-public class AverageGraphPane extends UiPart<Region> {
+public class AverageGraphPane extends UiPart<Region> implements DetachablePane {
     private static final String FXML = "AverageGraphPane.fxml";
 
     private final AverageGraph averageGraph;
@@ -44,4 +45,15 @@ public class AverageGraphPane extends UiPart<Region> {
         lineChartScrollPane.setContent(lineChartVBox);
     }
 
+    @Override
+    public void detach() {
+        averageGraph.detach();
+        legendPane.detach();
+    }
+
+    @Override
+    public void attach() {
+        averageGraph.attach();
+        legendPane.attach();
+    }
 }
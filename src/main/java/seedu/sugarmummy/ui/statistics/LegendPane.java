@@ -53,26 +53,52 @@ public class LegendPane extends UiPart<Region> {
     @FXML
     private FlowPane lineChartLegendFlowPane;
 
+    private final ObservableMap<LocalDate, Double> averageMap;
+    private final SimpleStringProperty recordType;
+
+    private final ChangeListener<String> recordTypeListener = new ChangeListener<String>() {
+        @Override
+        public void changed(ObservableValue<? extends String> observable, String oldValue, String newValue) {
+            refreshLegendFlowPane(averageMap, recordType);
+        }
+    };
+
+    private final MapChangeListener<LocalDate, Double> averageMapListener = new MapChangeListener<LocalDate, Double>() {
+        @Override
+        public void onChanged(Change<? extends LocalDate, ? extends Double> change) {
+            refreshLegendFlowPane(averageMap, recordType);
+        }
+    };
+
     public LegendPane(ObservableMap<LocalDate, Double> averageMap, SimpleStringProperty recordType) {
         super(FXML);
+        this.averageMap = averageMap;
+        this.recordType = recordType;
 
-        recordType.addListener(new ChangeListener<String>() {
-            @Override
-            public void changed(ObservableValue<? extends String> observable, String oldValue, String newValue) {
-                refreshLegendFlowPane(averageMap, recordType);
-            }
-        });
-
-        averageMap.addListener(new MapChangeListener<LocalDate, Double>() {
-            @Override
-            public void onChanged(Change<? extends LocalDate, ? extends Double> change) {
-                refreshLegendFlowPane(averageMap, recordType);
-            }
-        });
+        recordType.addListener(recordTypeListener);
+        averageMap.addListener(averageMapListener);
 
         updateLegendPane(averageMap, recordType);
     }
 
+    /**
+     * Stops updating lineChartLegendFlowPane when averageMap or recordType changes.
+     */
+    public void detach() {
+        recordType.removeListener(recordTypeListener);
+        averageMap.removeListener(averageMapListener);
+    }
+
+    /**
+     * Updates lineChartLegendFlowPane with the changes made while it was detached, and resumes updating it whenever
+     * averageMap or recordType changes.
+     */
+    public void attach() {
+        recordType.addListener(recordTypeListener);
+        averageMap.addListener(averageMapListener);
+        refreshLegendFlowPane(averageMap, recordType);
+    }
+
     /**
      * A convenience function to update lineChartLegendFlowPane with new symbols and description whenever averageMap
      * or recordType changes.
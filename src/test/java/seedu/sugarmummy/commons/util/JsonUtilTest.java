@@ -1,9 +1,13 @@
 package seedu.sugarmummy.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +43,22 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_otherFields_onlyArrayElementsRead() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"name\" : \"list\", \"other\" : [ \"x\" ], "
+                + "\"values\" : [ \"a\", \"b\" ], \"nested\" : { \"values\" : [ \"c\" ] } }");
+
+        List<String> values = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values", String.class, values::add));
+        assertEquals(List.of("a", "b"), values);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "values",
+                String.class, value -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
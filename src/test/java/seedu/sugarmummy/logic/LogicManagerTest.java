@@ -1,11 +1,14 @@
 package seedu.sugarmummy.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sugarmummy.commons.core.Messages.MESSAGE_INVALID_RECORD_DISPLAYED_INDEX;
 import static seedu.sugarmummy.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.sugarmummy.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.sugarmummy.logic.commands.CommandResult;
 import seedu.sugarmummy.logic.commands.exceptions.CommandException;
+import seedu.sugarmummy.logic.commands.recmf.ResetFoodDataCommand;
 import seedu.sugarmummy.logic.commands.records.ListCommand;
 import seedu.sugarmummy.logic.parser.exceptions.ParseException;
 import seedu.sugarmummy.model.Model;
@@ -71,6 +75,24 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_noDataSaved() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("recordList.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("foodList.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_onlyModifiedDataSaved() throws Exception {
+        logic.execute(ResetFoodDataCommand.COMMAND_WORD);
+        logic.flushPendingSaves();
+        assertTrue(Files.exists(temporaryFolder.resolve("foodList.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("recordList.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("userList.json")));
+        assertFalse(model.isFoodListModified());
+    }
+
     //TODO: rewrite test with different add command
     //    @Test
     //    public void execute_storageThrowsIoException_throwsCommandException() {
@@ -21,6 +21,7 @@ import seedu.sugarmummy.model.aesthetics.AestheticsModelStub.ModelStubForBackgro
 import seedu.sugarmummy.model.aesthetics.AestheticsModelStub.ModelStubForFontColour;
 import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
+import seedu.sugarmummy.model.aesthetics.DominantColourCache;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
 class BackgroundCommandTest {
@@ -58,7 +59,7 @@ class BackgroundCommandTest {
         ModelStubForFontColour modelStubForFontColour = new ModelStubForFontColour();
         Colour colourToSet = modelStubForFontColour.getFontColour();
         Background background = new Background(colourToSet.toString());
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
         assertThrows(CommandException.class,
                 MESSAGE_COLOURS_TOO_CLOSE, () -> new BackgroundCommand(background)
                         .execute(new ModelStubForBackground()));
@@ -108,7 +109,7 @@ class BackgroundCommandTest {
 
         background.setBgRepeat("");
         background.setBgSize("");
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
 
         String updateMessage = "- Background has been changed from " + model.getBackground() + " to darkblue.";
 
@@ -126,7 +127,7 @@ class BackgroundCommandTest {
 
         background.setBgRepeat("");
         background.setBgSize("");
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
 
         ModelStubForFontColour modelStubForFontColour = new ModelStubForFontColour();
         FontColourCommand fontColourCommand = new FontColourCommand(new Colour("white"));
@@ -151,7 +152,7 @@ class BackgroundCommandTest {
 
         background.setBgRepeat("");
         background.setBgSize("");
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
 
         ModelStubForFontColour modelStubForFontColour = new ModelStubForFontColour();
         FontColourCommand fontColourCommand = new FontColourCommand(modelStubForFontColour.getFontColour());
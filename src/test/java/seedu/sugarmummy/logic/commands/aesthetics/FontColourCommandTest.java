@@ -17,6 +17,7 @@ import seedu.sugarmummy.model.aesthetics.AestheticsModelStub.ModelStubForBackgro
 import seedu.sugarmummy.model.aesthetics.AestheticsModelStub.ModelStubForFontColour;
 import seedu.sugarmummy.model.aesthetics.Background;
 import seedu.sugarmummy.model.aesthetics.Colour;
+import seedu.sugarmummy.model.aesthetics.DominantColourCache;
 import seedu.sugarmummy.ui.DisplayPaneType;
 
 class FontColourCommandTest {
@@ -103,7 +104,7 @@ class FontColourCommandTest {
         Background background = new Background("white");
         background.setBgRepeat("");
         background.setBgSize("");
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
 
         BackgroundCommand backgroundCommand = new BackgroundCommand(background);
         expectedModel.setBackground(background);
@@ -0,0 +1,107 @@
+package seedu.sugarmummy.logic.commands.recmf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sugarmummy.logic.commands.recmf.RecmMixedFoodCommand.MAX_NUMBER_OF_COMBINATIONS;
+import static seedu.sugarmummy.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.sugarmummy.logic.commands.CommandResult;
+import seedu.sugarmummy.model.ModelStub;
+import seedu.sugarmummy.model.recmf.Food;
+import seedu.sugarmummy.testutil.recmf.FoodBuilder;
+
+class RecmMixedFoodCommandTest {
+
+    @Test
+    public void constructor_numberOutOfBounds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RecmMixedFoodCommand.MESSAGE_USAGE, () ->
+                new RecmMixedFoodCommand(0));
+        assertThrows(IllegalArgumentException.class, RecmMixedFoodCommand.MESSAGE_USAGE, () ->
+                new RecmMixedFoodCommand(MAX_NUMBER_OF_COMBINATIONS + 1));
+    }
+
+    @Test
+    public void execute_noNumber_oneCombinationRequested() throws Exception {
+        ModelStubWithMixedFoods modelStub = new ModelStubWithMixedFoods(true);
+
+        CommandResult commandResult = new RecmMixedFoodCommand().execute(modelStub);
+
+        assertEquals(RecmMixedFoodCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
+        assertEquals(1, modelStub.requestedNumberOfCombinations);
+    }
+
+    @Test
+    public void execute_multipleCombinations_numberRequestedAndShown() throws Exception {
+        ModelStubWithMixedFoods modelStub = new ModelStubWithMixedFoods(true);
+
+        CommandResult commandResult = new RecmMixedFoodCommand(MAX_NUMBER_OF_COMBINATIONS).execute(modelStub);
+
+        assertEquals(String.format(RecmMixedFoodCommand.MESSAGE_SUCCESS_MULTIPLE, MAX_NUMBER_OF_COMBINATIONS),
+                commandResult.getFeedbackToUser());
+        assertEquals(MAX_NUMBER_OF_COMBINATIONS, modelStub.requestedNumberOfCombinations);
+        assertEquals(MAX_NUMBER_OF_COMBINATIONS * 2, modelStub.getMixedFoodList().size());
+    }
+
+    @Test
+    public void execute_noFood_emptyFoodListMessage() throws Exception {
+        ModelStubWithMixedFoods modelStub = new ModelStubWithMixedFoods(false);
+
+        CommandResult commandResult = new RecmMixedFoodCommand(3).execute(modelStub);
+
+        assertEquals(RecmMixedFoodCommand.MESSAGE_RESPONSE_EMPTY_FOOD_LIST, commandResult.getFeedbackToUser());
+        assertEquals(3, modelStub.requestedNumberOfCombinations);
+    }
+
+    @Test
+    public void equals() {
+        RecmMixedFoodCommand recmOneCommand = new RecmMixedFoodCommand();
+
+        // same values -> returns true
+        assertTrue(recmOneCommand.equals(new RecmMixedFoodCommand(1)));
+        assertEquals(recmOneCommand.hashCode(), new RecmMixedFoodCommand(1).hashCode());
+
+        // different types -> returns false
+        assertFalse(recmOneCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(recmOneCommand.equals(null));
+
+        // different number of combinations -> returns false
+        assertFalse(recmOneCommand.equals(new RecmMixedFoodCommand(2)));
+    }
+
+    /**
+     * A Model stub that gives combinations of one food and a summary, or none if it has no food.
+     */
+    private class ModelStubWithMixedFoods extends ModelStub {
+        private final ObservableList<Food> mixedFoods = FXCollections.observableArrayList();
+        private final boolean hasFood;
+        private int requestedNumberOfCombinations;
+
+        ModelStubWithMixedFoods(boolean hasFood) {
+            this.hasFood = hasFood;
+        }
+
+        @Override
+        public ObservableList<Food> getMixedFoodList() {
+            return mixedFoods;
+        }
+
+        @Override
+        public void updateMixedFoodList(int numberOfCombinations) {
+            requestedNumberOfCombinations = numberOfCombinations;
+            mixedFoods.clear();
+            for (int i = 0; hasFood && i < numberOfCombinations; i++) {
+                mixedFoods.addAll(List.of(new FoodBuilder().build(),
+                        new FoodBuilder().withFoodName("Summary").build()));
+            }
+        }
+    }
+}
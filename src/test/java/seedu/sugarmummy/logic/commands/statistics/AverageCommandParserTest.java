@@ -16,25 +16,20 @@ import org.junit.jupiter.api.Test;
 import seedu.sugarmummy.logic.parser.statistics.AverageCommandParser;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.statistics.AverageType;
-import seedu.sugarmummy.model.statistics.predicates.RecordContainsRecordTypePredicate;
 
 //@@author chen-xi-cx
 
 public class AverageCommandParserTest {
-    private final RecordContainsRecordTypePredicate bloodSugarPredicate =
-            new RecordContainsRecordTypePredicate(RecordType.BLOODSUGAR);
-    private final RecordContainsRecordTypePredicate bmiPredicate =
-            new RecordContainsRecordTypePredicate(RecordType.BMI);
     private AverageCommandParser parser = new AverageCommandParser();
 
     @Test
     public void parse_allFieldsPresent_success() {
         assertParseSuccess(parser, " a/DAILY rt/BLOODSUGAR n/8",
-                new AverageCommand(bloodSugarPredicate, AverageType.DAILY, RecordType.BLOODSUGAR, 8));
+                new AverageCommand(AverageType.DAILY, RecordType.BLOODSUGAR, 8));
         assertParseSuccess(parser, " a/weekly rt/BMI n/1",
-                new AverageCommand(bmiPredicate, AverageType.WEEKLY, RecordType.BMI, 1));
+                new AverageCommand(AverageType.WEEKLY, RecordType.BMI, 1));
         assertParseSuccess(parser, " a/MONTHLY rt/BLOODSUGAR n/12",
-                new AverageCommand(bloodSugarPredicate, AverageType.MONTHLY, RecordType.BLOODSUGAR, 12));
+                new AverageCommand(AverageType.MONTHLY, RecordType.BLOODSUGAR, 12));
     }
 
     @Test
@@ -42,11 +37,11 @@ public class AverageCommandParserTest {
 
         // missing count prefix
         assertParseSuccess(parser, " a/DAILY rt/BMI",
-                new AverageCommand(bmiPredicate, AverageType.DAILY, RecordType.BMI, 5));
+                new AverageCommand(AverageType.DAILY, RecordType.BMI, 5));
         assertParseSuccess(parser, " a/weekly rt/BLOODSUGAR",
-                new AverageCommand(bloodSugarPredicate, AverageType.WEEKLY, RecordType.BLOODSUGAR, 5));
+                new AverageCommand(AverageType.WEEKLY, RecordType.BLOODSUGAR, 5));
         assertParseSuccess(parser, " a/MONTHLY rt/BMI",
-                new AverageCommand(bmiPredicate, AverageType.MONTHLY, RecordType.BMI, 5));
+                new AverageCommand(AverageType.MONTHLY, RecordType.BMI, 5));
     }
 
     @Test
@@ -9,7 +9,6 @@ import static seedu.sugarmummy.testutil.Assert.assertThrows;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,22 +27,14 @@ import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.records.Weight;
 import seedu.sugarmummy.model.statistics.AverageMap;
 import seedu.sugarmummy.model.statistics.AverageType;
-import seedu.sugarmummy.model.statistics.predicates.RecordContainsRecordTypePredicate;
 import seedu.sugarmummy.model.time.DateTime;
 
 //@@author chen-xi-cx
 public class AverageCommandTest {
-    private final RecordContainsRecordTypePredicate bloodSugarPredicate =
-            new RecordContainsRecordTypePredicate(RecordType.BLOODSUGAR);
-
-    private final RecordContainsRecordTypePredicate bmiPredicate =
-            new RecordContainsRecordTypePredicate(RecordType.BMI);
-
     @Test
     public void execute_zeroRecordType_throwsCommandException() {
         ModelStubWithNoRecords modelStubWithNoRecords = new ModelStubWithNoRecords();
-        AverageCommand command = new AverageCommand(bloodSugarPredicate,
-                AverageType.DAILY, RecordType.BLOODSUGAR, 5);
+        AverageCommand command = new AverageCommand(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
         assertThrows(CommandException.class, String.format(MESSAGE_NO_RECORD,
                 RecordType.BLOODSUGAR), () -> command.execute(modelStubWithNoRecords));
     }
@@ -52,10 +43,8 @@ public class AverageCommandTest {
     public void execute_dailyAverageBloodSugar_success() {
         ModelStubWithRecords modelStubWithRecords = new ModelStubWithRecords();
         ModelStubWithRecords expectedModel = new ModelStubWithRecords();
-        expectedModel.updateFilteredRecordList(bloodSugarPredicate);
         expectedModel.calculateAverageMap(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
-        AverageCommand command = new AverageCommand(bloodSugarPredicate,
-                AverageType.DAILY, RecordType.BLOODSUGAR, 5);
+        AverageCommand command = new AverageCommand(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
         String expectedMessage = String.format(MESSAGE_SUCCESS, AverageType.DAILY, RecordType.BLOODSUGAR);
         assertCommandSuccess(command, modelStubWithRecords, expectedMessage, expectedModel);
         ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
@@ -70,9 +59,8 @@ public class AverageCommandTest {
     public void execute_weeklyAverageBmi_success() {
         ModelStubWithRecords modelStubWithRecords = new ModelStubWithRecords();
         ModelStubWithRecords expectedModel = new ModelStubWithRecords();
-        expectedModel.updateFilteredRecordList(bmiPredicate);
         expectedModel.calculateAverageMap(AverageType.WEEKLY, RecordType.BMI, 5);
-        AverageCommand command = new AverageCommand(bmiPredicate, AverageType.WEEKLY, RecordType.BMI, 5);
+        AverageCommand command = new AverageCommand(AverageType.WEEKLY, RecordType.BMI, 5);
         String expectedMessage = String.format(MESSAGE_SUCCESS, AverageType.WEEKLY, RecordType.BMI);
         assertCommandSuccess(command, modelStubWithRecords, expectedMessage, expectedModel);
         ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
@@ -87,10 +75,8 @@ public class AverageCommandTest {
     public void execute_monthlyAverageBloodSugar_success() {
         ModelStubWithRecords modelStubWithRecords = new ModelStubWithRecords();
         ModelStubWithRecords expectedModel = new ModelStubWithRecords();
-        expectedModel.updateFilteredRecordList(bloodSugarPredicate);
         expectedModel.calculateAverageMap(AverageType.MONTHLY, RecordType.BLOODSUGAR, 5);
-        AverageCommand command = new AverageCommand(bloodSugarPredicate,
-                AverageType.MONTHLY, RecordType.BLOODSUGAR, 5);
+        AverageCommand command = new AverageCommand(AverageType.MONTHLY, RecordType.BLOODSUGAR, 5);
         String expectedMessage = String.format(MESSAGE_SUCCESS, AverageType.MONTHLY, RecordType.BLOODSUGAR);
         assertCommandSuccess(command, modelStubWithRecords, expectedMessage, expectedModel);
         ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
@@ -104,11 +90,6 @@ public class AverageCommandTest {
      * A Model stub that contains no records.
      */
     private class ModelStubWithNoRecords extends ModelStub {
-        @Override
-        public void updateFilteredRecordList(Predicate<Record> predicate) {
-            return;
-        }
-
         @Override
         public void calculateAverageMap(AverageType averageType, RecordType recordType, int count) {
             return;
@@ -137,17 +118,12 @@ public class AverageCommandTest {
         private final AverageMap averageMap;
 
         public ModelStubWithRecords() {
-            this.averageMap = new AverageMap();
-        }
-
-        @Override
-        public void updateFilteredRecordList(Predicate<Record> predicate) {
-            filteredRecordList.setPredicate(predicate);
+            this.averageMap = new AverageMap(recordList);
         }
 
         @Override
         public void calculateAverageMap(AverageType averageType, RecordType recordType, int count) {
-            averageMap.calculateAverage(filteredRecordList, averageType, recordType, count);
+            averageMap.calculateAverage(averageType, recordType, count);
         }
 
         @Override
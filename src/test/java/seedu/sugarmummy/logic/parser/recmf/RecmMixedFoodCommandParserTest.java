@@ -0,0 +1,36 @@
+package seedu.sugarmummy.logic.parser.recmf;
+
+import static seedu.sugarmummy.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.sugarmummy.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.sugarmummy.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sugarmummy.logic.commands.recmf.RecmMixedFoodCommand;
+
+public class RecmMixedFoodCommandParserTest {
+
+    private RecmMixedFoodCommandParser parser = new RecmMixedFoodCommandParser();
+
+    @Test
+    public void parse_noNumber_returnsSingleCombinationCommand() {
+        assertParseSuccess(parser, "", new RecmMixedFoodCommand());
+        assertParseSuccess(parser, "  ", new RecmMixedFoodCommand(1));
+    }
+
+    @Test
+    public void parse_validNumber_returnsRecmMixedFoodCommand() {
+        assertParseSuccess(parser, " 3", new RecmMixedFoodCommand(3));
+        assertParseSuccess(parser, " " + RecmMixedFoodCommand.MAX_NUMBER_OF_COMBINATIONS,
+                new RecmMixedFoodCommand(RecmMixedFoodCommand.MAX_NUMBER_OF_COMBINATIONS));
+    }
+
+    @Test
+    public void parse_invalidNumber_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecmMixedFoodCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -2", expectedMessage);
+        assertParseFailure(parser, " three", expectedMessage);
+        assertParseFailure(parser, " " + (RecmMixedFoodCommand.MAX_NUMBER_OF_COMBINATIONS + 1), expectedMessage);
+    }
+}
@@ -57,6 +57,24 @@ public class ModelManagerTest {
         assertEquals(guiSettings, modelManager.getGuiSettings());
     }
 
+    @Test
+    public void constructor_freshData_notModified() {
+        assertFalse(modelManager.isUserListModified());
+        assertFalse(modelManager.isFoodListModified());
+        assertFalse(modelManager.isRecordListModified());
+        assertFalse(modelManager.isCalendarModified());
+    }
+
+    @Test
+    public void addFood_foodListModifiedUntilMarkedAsSaved() {
+        modelManager.addFood(FOODS.get(0));
+        assertTrue(modelManager.isFoodListModified());
+        assertFalse(modelManager.isRecordListModified());
+
+        modelManager.markAllDataAsSaved();
+        assertFalse(modelManager.isFoodListModified());
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs();
@@ -17,12 +17,15 @@ import seedu.sugarmummy.model.aesthetics.Colour;
 import seedu.sugarmummy.model.biography.ReadOnlyUserList;
 import seedu.sugarmummy.model.biography.User;
 import seedu.sugarmummy.model.calendar.CalendarEntry;
+import seedu.sugarmummy.model.calendar.CalendarEntryDateIndex;
 import seedu.sugarmummy.model.calendar.ReadOnlyCalendar;
 import seedu.sugarmummy.model.calendar.Reminder;
 import seedu.sugarmummy.model.recmf.Food;
 import seedu.sugarmummy.model.recmf.FoodComparator;
 import seedu.sugarmummy.model.recmf.FoodName;
 import seedu.sugarmummy.model.recmf.UniqueFoodList;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
+import seedu.sugarmummy.model.recmf.predicates.FoodTypeIsWantedPredicate;
 import seedu.sugarmummy.model.records.Record;
 import seedu.sugarmummy.model.records.RecordType;
 import seedu.sugarmummy.model.records.UniqueRecordList;
@@ -188,6 +191,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public CalendarEntryDateIndex getCalendarEntryDateIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void schedule() {
         throw new AssertionError("This method should not be called.");
@@ -274,16 +282,19 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void updateFilteredFoodList(Predicate<Food> predicate) {
+    public void updateFilteredFoodList(FoodTypeIsWantedPredicate typePredicate,
+            FoodNameContainsKeywordsPredicate namePredicate,
+            FoodComparator foodComparator) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void sortFoodList(FoodComparator foodComparator) {
+    public ObservableList<Food> getMixedFoodList() {
+        throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Food> getMixedFoodList() {
+    public void updateMixedFoodList(int numberOfCombinations) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -383,4 +394,31 @@ public class ModelStub implements Model {
     public boolean currAchievementsMapIsSameAs(Map<RecordType, List<Achievement>> prevAchievemenstMap) {
         throw new AssertionError("This method should not be called.");
     }
+
+    //=========== Persistence =============================================================
+
+    @Override
+    public boolean isUserListModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isFoodListModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isRecordListModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isCalendarModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void markAllDataAsSaved() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
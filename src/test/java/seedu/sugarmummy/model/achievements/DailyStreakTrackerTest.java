@@ -0,0 +1,63 @@
+package seedu.sugarmummy.model.achievements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class DailyStreakTrackerTest {
+
+    private static final double WITHIN_RANGE = 5.0;
+    private static final double OUT_OF_RANGE = 10.0;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 1, 1);
+
+    private final DailyStreakTracker streakTracker = new DailyStreakTracker(4.0, 7.8);
+
+    @Test
+    public void getStreaks_noDays_returnsZero() {
+        assertEquals(0, streakTracker.getCurrentStreak());
+        assertEquals(0, streakTracker.getLongestStreak());
+    }
+
+    @Test
+    public void setDailyAverage_daysAddedOutOfOrder_streaksMerged() {
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(2), WITHIN_RANGE);
+        streakTracker.setDailyAverage(FIRST_DAY, WITHIN_RANGE);
+        assertEquals(1, streakTracker.getLongestStreak());
+
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(1), WITHIN_RANGE);
+        assertEquals(3, streakTracker.getCurrentStreak());
+        assertEquals(3, streakTracker.getLongestStreak());
+    }
+
+    @Test
+    public void setDailyAverage_dayOutOfRange_streakSplit() {
+        for (int i = 0; i < 5; i++) {
+            streakTracker.setDailyAverage(FIRST_DAY.plusDays(i), WITHIN_RANGE);
+        }
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(1), OUT_OF_RANGE);
+        assertEquals(3, streakTracker.getCurrentStreak());
+        assertEquals(3, streakTracker.getLongestStreak());
+    }
+
+    @Test
+    public void setDailyAverage_latestDayOutOfRange_noCurrentStreak() {
+        streakTracker.setDailyAverage(FIRST_DAY, WITHIN_RANGE);
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(1), WITHIN_RANGE);
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(2), OUT_OF_RANGE);
+        assertEquals(0, streakTracker.getCurrentStreak());
+        assertEquals(2, streakTracker.getLongestStreak());
+    }
+
+    @Test
+    public void setDailyAverage_latestDayRemoved_previousStreakBecomesCurrent() {
+        streakTracker.setDailyAverage(FIRST_DAY, WITHIN_RANGE);
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(1), WITHIN_RANGE);
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(3), OUT_OF_RANGE);
+        assertEquals(0, streakTracker.getCurrentStreak());
+
+        streakTracker.setDailyAverage(FIRST_DAY.plusDays(3), null);
+        assertEquals(2, streakTracker.getCurrentStreak());
+    }
+}
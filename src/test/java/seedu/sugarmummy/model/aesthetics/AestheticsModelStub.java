@@ -1,6 +1,7 @@
 package seedu.sugarmummy.model.aesthetics;
 
 import seedu.sugarmummy.model.ModelStub;
+import seedu.sugarmummy.model.ReadOnlyUserPrefs;
 import seedu.sugarmummy.model.UserPrefs;
 
 /**
@@ -18,6 +19,11 @@ public class AestheticsModelStub {
 
         private UserPrefs userPrefs = new UserPrefs();
 
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return userPrefs;
+        }
+
         @Override
         public Colour getFontColour() {
             return userPrefs.getFontColour();
@@ -58,6 +64,11 @@ public class AestheticsModelStub {
 
         private UserPrefs userPrefs = new UserPrefs();
 
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return userPrefs;
+        }
+
         @Override
         public Background getBackground() {
             return userPrefs.getBackground();
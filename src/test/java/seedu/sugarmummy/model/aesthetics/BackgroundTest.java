@@ -238,14 +238,14 @@ class BackgroundTest {
     @Test
     public void setDominantColour_test() {
         Background background = new Background("yellow");
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
         assertEquals(new Colour("yellow"), background.getDominantColour());
     }
 
     @Test
     public void getDominantColour_test() {
         Background background = new Background("yellow");
-        background.setDominantColour();
+        background.setDominantColour(new DominantColourCache());
         assertNotNull(background.getDominantColour());
         assertEquals(new Colour("yellow"), background.getDominantColour());
     }
@@ -0,0 +1,36 @@
+package seedu.sugarmummy.model.aesthetics;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The way {@code ImageAnalyser} used to find the dominant colour of an image, which {@code DominantColourFinder} is
+ * checked against. Equally common colours are broken by taking the lowest argb value, as an unsigned int.
+ */
+class DominantColourBaseline {
+
+    /**
+     * Returns the most common colour in {@code image} as a packed argb int, by counting every pixel colour in a map.
+     */
+    static int findDominantArgb(BufferedImage image) {
+        Map<Integer, Integer> colourMap = new HashMap<>();
+        for (int i = 0; i < image.getWidth(); i++) {
+            for (int j = 0; j < image.getHeight(); j++) {
+                colourMap.merge(image.getRGB(i, j), 1, Integer::sum);
+            }
+        }
+
+        int dominantArgb = 0;
+        int dominantCount = 0;
+        for (Map.Entry<Integer, Integer> entry : colourMap.entrySet()) {
+            int count = entry.getValue();
+            if (count > dominantCount
+                    || (count == dominantCount && Integer.compareUnsigned(entry.getKey(), dominantArgb) < 0)) {
+                dominantArgb = entry.getKey();
+                dominantCount = count;
+            }
+        }
+        return dominantArgb;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.sugarmummy.model.aesthetics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sugarmummy.commons.util.JsonUtil;
+import seedu.sugarmummy.model.UserPrefs;
+
+class DominantColourCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final DominantColourCache dominantColourCache = new DominantColourCache();
+
+    @Test
+    public void getDominantColour_imageAnalysedBefore_readFromCache() throws Exception {
+        String imagePath = writeImage("bg.png", 0x123456);
+        assertFalse(ImageAnalyser.hasCachedDominantColour(imagePath, dominantColourCache));
+
+        assertEquals("#123456", ImageAnalyser.getDominantColour(imagePath, dominantColourCache));
+        assertTrue(ImageAnalyser.hasCachedDominantColour(imagePath, dominantColourCache));
+        assertEquals(Optional.of("#123456"), dominantColourCache.get(imagePath));
+    }
+
+    @Test
+    public void setDominantColour_backgroundPictureChanged_analysedAgain() throws Exception {
+        String imagePath = writeImage("bg.png", 0x123456);
+        Background background = new Background(imagePath);
+        background.setDominantColour(dominantColourCache);
+        assertEquals(new Colour("#123456"), background.getDominantColour());
+
+        File file = new File(imagePath);
+        long lastModified = file.lastModified();
+        writeImage("bg.png", 0xABCDEF);
+        assertTrue(file.setLastModified(lastModified + 60000));
+        background.setDominantColour(dominantColourCache);
+        assertEquals(new Colour("#ABCDEF"), background.getDominantColour());
+        assertEquals(Optional.of("#ABCDEF"), dominantColourCache.get(imagePath));
+    }
+
+    @Test
+    public void get_imageChanged_returnsEmpty() throws Exception {
+        String imagePath = writeImage("bg.png", 0x123456);
+        dominantColourCache.put(imagePath, "#123456");
+        File file = new File(imagePath);
+        assertTrue(file.setLastModified(file.lastModified() - 60000));
+        assertEquals(Optional.empty(), dominantColourCache.get(imagePath));
+    }
+
+    @Test
+    public void put_tooManyImages_oldestEvicted() {
+        for (int i = 0; i <= DominantColourCache.MAX_ENTRIES; i++) {
+            dominantColourCache.put(testFolder.resolve(i + ".png").toString(), "#000000");
+        }
+        assertEquals(DominantColourCache.MAX_ENTRIES, dominantColourCache.size());
+    }
+
+    @Test
+    public void userPrefs_savedAndRead_cacheKept() throws Exception {
+        String imagePath = writeImage("bg.png", 0xABCDEF);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.getDominantColourCache().put(imagePath, "#ABCDEF");
+
+        UserPrefs readUserPrefs = JsonUtil.fromJsonString(JsonUtil.toJsonString(userPrefs), UserPrefs.class);
+        assertEquals(Optional.of("#ABCDEF"), readUserPrefs.getDominantColourCache().get(imagePath));
+    }
+
+    /**
+     * Writes an image of a single {@code rgb} colour to {@code fileName} in the test folder, and returns its path.
+     */
+    private String writeImage(String fileName, int rgb) throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        File file = testFolder.resolve(fileName).toFile();
+        ImageIO.write(image, "png", file);
+        return file.getPath();
+    }
+}
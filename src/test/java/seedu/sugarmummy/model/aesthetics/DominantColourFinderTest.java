@@ -0,0 +1,152 @@
+package seedu.sugarmummy.model.aesthetics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DominantColourFinderTest {
+
+    private static final int[] IMAGE_TYPES = {BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB,
+        BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR, BufferedImage.TYPE_USHORT_565_RGB};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void findDominantArgb_noisyImagesOfEveryType_sameAsBaseline() {
+        Random random = new Random(2103);
+        for (int imageType : IMAGE_TYPES) {
+            BufferedImage image = createNoisyImage(random, 600, 400, imageType, 0x3366CC);
+            assertSameAsBaseline(image);
+        }
+    }
+
+    @Test
+    public void findDominantArgb_nearColoursInSameGroup_mostCommonExactColour() {
+        BufferedImage image = new BufferedImage(201, 1, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 201; x++) {
+            image.setRGB(x, 0, x < 100 ? 0xFF0000 : x < 160 ? 0x000000 : 0x010101);
+        }
+        assertEquals(0xFFFF0000, new DominantColourFinder(image).findDominantArgb());
+        assertSameAsBaseline(image);
+    }
+
+    @Test
+    public void findDominantArgb_sameColourWithDifferentAlpha_countedSeparately() {
+        BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                image.setRGB(x, y, x < 4 ? 0xFF123456 : x < 7 ? 0x80ABCDEF : 0x40ABCDEF);
+            }
+        }
+        assertEquals(0xFF123456, new DominantColourFinder(image).findDominantArgb());
+        assertSameAsBaseline(image);
+    }
+
+    @Test
+    public void findDominantArgb_twoEquallyCommonColours_lowestArgb() {
+        BufferedImage image = new BufferedImage(4, 1, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xFF000010);
+        image.setRGB(1, 0, 0x80FFFFFF);
+        image.setRGB(2, 0, 0xFF000010);
+        image.setRGB(3, 0, 0x80FFFFFF);
+        assertEquals(0x80FFFFFF, new DominantColourFinder(image).findDominantArgb());
+    }
+
+    @Test
+    public void findDominantArgb_equallyCommonColours_sameAsBaseline() {
+        Random random = new Random(2103);
+        for (int imageType : IMAGE_TYPES) {
+            for (int numberOfColours : new int[] {2, 4, 10, 100, 5000}) {
+                BufferedImage image = createTiedImage(random, 100, 50, imageType, numberOfColours);
+                assertSameAsBaseline(image);
+            }
+            // every pixel a different colour
+            assertSameAsBaseline(createNoisyImage(random, 64, 64, imageType, random.nextInt(1 << 24)));
+        }
+    }
+
+    @Test
+    public void findDominantArgb_tooManyColoursForOnePass_sameAsBaseline() {
+        Random random = new Random(2103);
+        assertSameAsBaseline(createTiedImage(random, 1024, 1024, BufferedImage.TYPE_INT_RGB, 1 << 19));
+    }
+
+    @Test
+    public void findDominantArgb_subimage_onlySubimageCounted() {
+        BufferedImage image = createNoisyImage(new Random(2103), 300, 300, BufferedImage.TYPE_INT_RGB, 0x3366CC);
+        for (int x = 0; x < 100; x++) {
+            for (int y = 0; y < 100; y++) {
+                image.setRGB(x, y, 0xFF0000);
+            }
+        }
+        BufferedImage subimage = image.getSubimage(0, 0, 100, 100);
+        assertEquals(0xFFFF0000, new DominantColourFinder(subimage).findDominantArgb());
+    }
+
+    @Test
+    public void getDominantColour_largeImageFile_sameAsBaseline() throws Exception {
+        BufferedImage image = createNoisyImage(new Random(2103), 2400, 1200, BufferedImage.TYPE_INT_RGB, 0x3366CC);
+        File file = testFolder.resolve("large.png").toFile();
+        ImageIO.write(image, "png", file);
+
+        assertEquals("#3366CC", ImageAnalyser.getDominantColour(file.getPath(), new DominantColourCache()));
+    }
+
+    /**
+     * Asserts that the dominant colour found in {@code image} is the one the baseline finds.
+     */
+    private void assertSameAsBaseline(BufferedImage image) {
+        assertEquals(DominantColourBaseline.findDominantArgb(image),
+                new DominantColourFinder(image).findDominantArgb());
+    }
+
+    /**
+     * Returns an image of {@code imageType} in which a third of the pixels are {@code dominantRgb}, and the others are
+     * random colours.
+     */
+    private static BufferedImage createNoisyImage(Random random, int width, int height, int imageType,
+            int dominantRgb) {
+        BufferedImage image = new BufferedImage(width, height, imageType);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, random.nextInt(3) == 0 ? dominantRgb : random.nextInt());
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns an image of {@code imageType} made up of {@code numberOfColours} random near colours, which divides the
+     * number of pixels, in random positions so that every colour is equally common.
+     */
+    private BufferedImage createTiedImage(Random random, int width, int height, int imageType, int numberOfColours) {
+        int[] colours = new int[numberOfColours];
+        int baseColour = random.nextInt();
+        for (int i = 0; i < numberOfColours; i++) {
+            colours[i] = random.nextBoolean() ? baseColour ^ random.nextInt(1 << 4) ^ i << 20 : random.nextInt();
+        }
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = colours[i % numberOfColours];
+        }
+        for (int i = pixels.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int pixel = pixels[i];
+            pixels[i] = pixels[j];
+            pixels[j] = pixel;
+        }
+
+        BufferedImage image = new BufferedImage(width, height, imageType);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        return image;
+    }
+}
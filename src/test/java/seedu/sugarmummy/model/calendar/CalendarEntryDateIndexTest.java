@@ -0,0 +1,60 @@
+package seedu.sugarmummy.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.sugarmummy.model.time.DateTime;
+
+class CalendarEntryDateIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 11, 1);
+    private static final LocalTime TIME = LocalTime.of(9, 0);
+
+    private final ObservableList<CalendarEntry> calendarEntries = FXCollections.observableArrayList();
+    private final CalendarEntryDateIndex calendarEntryDateIndex = new CalendarEntryDateIndex(calendarEntries);
+
+    @Test
+    public void getCalendarEntriesOn_entriesAddedBeforeGrouping_sameAsIsOnDate() {
+        calendarEntries.addAll(createReminder("Daily", FIRST_DAY.minusMonths(1), Repetition.Daily),
+                createReminder("Weekly", FIRST_DAY.plusDays(3), Repetition.Weekly),
+                createReminder("Once", FIRST_DAY.plusDays(5), Repetition.Once),
+                new Event(new Description("Event"), new DateTime(FIRST_DAY.plusDays(5), TIME)));
+
+        for (LocalDate date = FIRST_DAY; date.getMonth() == FIRST_DAY.getMonth(); date = date.plusDays(1)) {
+            assertEntriesOnDate(date);
+        }
+    }
+
+    @Test
+    public void getCalendarEntriesOn_entriesChangedAfterGrouping_viewUpdated() {
+        List<CalendarEntry> entriesOnDate = calendarEntryDateIndex.getCalendarEntriesOn(FIRST_DAY.plusDays(7));
+        assertTrue(entriesOnDate.isEmpty());
+
+        Reminder weeklyReminder = createReminder("Weekly", FIRST_DAY, Repetition.Weekly);
+        calendarEntries.add(weeklyReminder);
+        assertEquals(List.of(weeklyReminder), entriesOnDate);
+
+        calendarEntries.remove(weeklyReminder);
+        assertTrue(entriesOnDate.isEmpty());
+    }
+
+    /**
+     * Asserts that the grouped calendar entries on {@code date} are those that are on {@code date}.
+     */
+    private void assertEntriesOnDate(LocalDate date) {
+        List<CalendarEntry> expectedEntries = calendarEntries.filtered(calendarEntry -> calendarEntry.isOnDate(date));
+        assertEquals(expectedEntries, calendarEntryDateIndex.getCalendarEntriesOn(date));
+    }
+
+    private Reminder createReminder(String description, LocalDate date, Repetition repetition) {
+        return new Reminder(new Description(description), new DateTime(date, TIME), repetition);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.sugarmummy.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sugarmummy.model.ModelManager;
+import seedu.sugarmummy.model.UserPrefs;
+import seedu.sugarmummy.model.biography.UserList;
+import seedu.sugarmummy.model.recmf.UniqueFoodList;
+import seedu.sugarmummy.model.records.UniqueRecordList;
+import seedu.sugarmummy.model.time.DateTime;
+import seedu.sugarmummy.storage.calendar.JsonCalendarStorage;
+
+public class SchedulerTest {
+
+    private static final int REPETITIONS = 20;
+
+    @TempDir
+    public Path testFolder;
+
+    private final Scheduler scheduler = new Scheduler();
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stopAll();
+    }
+
+    @Test
+    public void constructor_calendarsModelsAndStorage_noThreadStarted() throws Exception {
+        JsonCalendarStorage calendarStorage = new JsonCalendarStorage(testFolder.resolve("events.json"),
+                testFolder.resolve("reminders.json"));
+
+        for (int i = 0; i < REPETITIONS; i++) {
+            Calendar calendar = new Calendar(new Calendar());
+            new ModelManager(new UserPrefs(), new UserList(), new UniqueFoodList(), new UniqueRecordList(),
+                    calendar, scheduler);
+            calendarStorage.saveCalendar(calendar);
+            calendarStorage.readCalendar();
+        }
+
+        assertEquals(0, scheduler.getNumberOfThreadsStarted());
+    }
+
+    @Test
+    public void schedule_repeatedly_oneThreadStarted() {
+        Calendar calendar = new Calendar();
+
+        for (int i = 0; i < REPETITIONS; i++) {
+            scheduler.schedule(calendar);
+        }
+
+        assertEquals(1, scheduler.getNumberOfThreadsStarted());
+    }
+
+    @Test
+    public void schedule_reminderAddedAfterScheduling_addedToPastRemindersWhenDue() throws Exception {
+        Calendar calendar = new Calendar();
+        scheduler.schedule(calendar);
+
+        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+        Reminder dueReminder = new Reminder(new Description("Due"), new DateTime(now), Repetition.Once);
+        Reminder laterReminder = new Reminder(new Description("Later"), new DateTime(now.plusDays(1)),
+                Repetition.Once);
+        calendar.addCalendarEntry(laterReminder);
+        calendar.addCalendarEntry(dueReminder);
+
+        for (int i = 0; i < 50 && calendar.getPastReminderList().isEmpty(); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(List.of(dueReminder), calendar.getPastReminderList());
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.sugarmummy.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sugarmummy.model.time.DateTime;
+
+class UniqueCalendarEntryListTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 11, 1, 8, 0);
+
+    private final UniqueCalendarEntryList calendarEntryList = new UniqueCalendarEntryList();
+
+    @Test
+    public void overlaps_longEventStartingMuchEarlier_returnsTrue() {
+        Event longEvent = createEvent("Trip", START, START.plusDays(10));
+        calendarEntryList.add(createEvent("Lunch", START.plusDays(1), START.plusDays(1).plusHours(1)));
+        calendarEntryList.add(longEvent);
+
+        Event toCheck = createEvent("Dinner", START.plusDays(5), null);
+        assertTrue(calendarEntryList.overlaps(toCheck));
+        assertEquals(List.of(longEvent), calendarEntryList.getCalendarEntryOverlaps(toCheck));
+
+        calendarEntryList.remove(longEvent);
+        assertFalse(calendarEntryList.overlaps(toCheck));
+    }
+
+    @Test
+    public void getCalendarEntryOverlaps_entryInMiddleRemoved_otherEntriesInListOrder() {
+        List<CalendarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(createEvent("Event " + i, START.minusDays(i), START.plusDays(1)));
+            calendarEntryList.add(entries.get(i));
+        }
+        calendarEntryList.remove(entries.remove(2));
+        calendarEntryList.remove(entries.remove(0));
+        Event appended = createEvent("Appended", START.minusDays(10), START.plusDays(2));
+        calendarEntryList.add(appended);
+        entries.add(appended);
+
+        assertEquals(entries, calendarEntryList.getCalendarEntryOverlaps(createEvent("Check", START, null)));
+    }
+
+    @Test
+    public void queries_randomEntries_sameAsCheckingEveryEntry() {
+        Random random = new Random(2103);
+        List<CalendarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            CalendarEntry entry = createRandomEntry(random);
+            if (!calendarEntryList.contains(entry)) {
+                calendarEntryList.add(entry);
+                entries.add(entry);
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            CalendarEntry toRemove = entries.remove(random.nextInt(entries.size()));
+            calendarEntryList.remove(toRemove);
+        }
+        assertQueriesSameAsCheckingEveryEntry(random, entries);
+
+        for (int i = 0; i < 50; i++) {
+            int index = random.nextInt(entries.size());
+            CalendarEntry edited = createRandomEntry(random);
+            if (!calendarEntryList.contains(edited)) {
+                calendarEntryList.setCalendarEntry(entries.get(index), edited);
+                entries.set(index, edited);
+            }
+        }
+        assertQueriesSameAsCheckingEveryEntry(random, entries);
+
+        Collections.shuffle(entries, random);
+        calendarEntryList.setCalendarEntries(new ArrayList<>(entries));
+        assertQueriesSameAsCheckingEveryEntry(random, entries);
+    }
+
+    /**
+     * Asserts that the queries on random calendar entries give the same results as checking each of {@code entries},
+     * which are the entries in the list, in order.
+     */
+    private void assertQueriesSameAsCheckingEveryEntry(Random random, List<CalendarEntry> entries) {
+        for (int i = 0; i < 200; i++) {
+            CalendarEntry toCheck = createRandomEntry(random);
+            assertEquals(entries.stream().anyMatch(toCheck::isSameCalendarEntry), calendarEntryList.contains(toCheck));
+            assertEquals(filter(entries, toCheck::overlaps), calendarEntryList.getCalendarEntryOverlaps(toCheck));
+            assertEquals(filter(entries, toCheck::conflicts), calendarEntryList.getCalendarEntryConflicts(toCheck));
+            assertEquals(filter(entries, entry -> entry.isSubsetCalendarEntryOf(toCheck)),
+                    calendarEntryList.getCalendarEntriesCoveredBy(toCheck));
+            assertEquals(entries.stream().anyMatch(toCheck::isSubsetCalendarEntryOf),
+                    calendarEntryList.covers(toCheck));
+        }
+    }
+
+    private List<CalendarEntry> filter(List<CalendarEntry> entries, Predicate<CalendarEntry> predicate) {
+        return entries.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an event or a reminder with one of a few descriptions, at a random time in November 2019.
+     */
+    private CalendarEntry createRandomEntry(Random random) {
+        LocalDateTime dateTime = START.plusDays(random.nextInt(30)).plusHours(random.nextInt(4));
+        String description = "Entry " + random.nextInt(3);
+        if (random.nextBoolean()) {
+            LocalDateTime endingDateTime = random.nextBoolean()
+                    ? null
+                    : dateTime.plusHours(random.nextInt(72));
+            return createEvent(description, dateTime, endingDateTime);
+        }
+        Repetition repetition = Repetition.values()[random.nextInt(Repetition.values().length)];
+        return new Reminder(new Description(description), new DateTime(dateTime), repetition);
+    }
+
+    /**
+     * Returns an event with the given description, starting date time and ending date time, if any.
+     */
+    private Event createEvent(String description, LocalDateTime dateTime, LocalDateTime endingDateTime) {
+        Event event = new Event(new Description(description), new DateTime(dateTime));
+        if (endingDateTime != null) {
+            event.setEndingDateTime(new DateTime(endingDateTime));
+        }
+        return event;
+    }
+}
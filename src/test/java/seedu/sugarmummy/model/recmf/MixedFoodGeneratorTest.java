@@ -0,0 +1,128 @@
+package seedu.sugarmummy.model.recmf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sugarmummy.testutil.recmf.TypicalFoods.FOODS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.sugarmummy.testutil.recmf.FoodBuilder;
+
+class MixedFoodGeneratorTest {
+
+    private final ObservableList<Food> foods = FXCollections.observableArrayList();
+
+    @Test
+    public void getMixedFoods_noFood_returnsEmptyList() {
+        assertTrue(createGenerator(0).getMixedFoods().isEmpty());
+        assertTrue(createGenerator(0).getRankedMixedFoods(3).isEmpty());
+    }
+
+    @Test
+    public void getMixedFoods_sameSeed_sameCombinations() {
+        MixedFoodGenerator generator = createGenerator(2103);
+        MixedFoodGenerator sameSeedGenerator = createGenerator(2103);
+        foods.setAll(FOODS);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(generator.getMixedFoods(), sameSeedGenerator.getMixedFoods());
+        }
+    }
+
+    @Test
+    public void getMixedFoods_foodsChanged_oneCurrentFoodOfEachTypeAndSummary() {
+        MixedFoodGenerator generator = createGenerator(2103);
+        foods.setAll(FOODS);
+        Food removedFood = FOODS.get(0);
+        foods.remove(removedFood);
+
+        List<Food> mixedFoods = generator.getMixedFoods();
+        List<Food> pickedFoods = mixedFoods.subList(0, mixedFoods.size() - 1);
+        assertEquals(FOODS.stream().map(Food::getFoodType).distinct().count(), pickedFoods.size());
+        assertEquals(pickedFoods.size(), pickedFoods.stream().map(Food::getFoodType).distinct().count());
+        assertTrue(foods.containsAll(pickedFoods));
+        assertFalse(pickedFoods.contains(removedFood));
+        assertEquals(new FoodName(MixedFoodGenerator.SUMMARY_FOOD_NAME),
+                mixedFoods.get(mixedFoods.size() - 1).getFoodName());
+    }
+
+    @Test
+    public void getMixedFoods_foodsInMiddleDeleted_everyRemainingFoodPicked() {
+        MixedFoodGenerator generator = createGenerator(2103);
+        for (int i = 0; i < 6; i++) {
+            foods.add(new FoodBuilder().withFoodName("Food" + i).withFoodType(FoodType.MEAL.getAbbr()).build());
+        }
+        foods.remove(1, 3);
+        foods.remove(0);
+
+        Set<Food> pickedFoods = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            pickedFoods.add(generator.getMixedFoods().get(0));
+        }
+        assertEquals(new HashSet<>(foods), pickedFoods);
+    }
+
+    @Test
+    public void getRankedMixedFoods_randomSugarAndGi_sameCombinationsRankedBySugarThenGi() {
+        MixedFoodGenerator generator = createGenerator(2103);
+        MixedFoodGenerator sameSeedGenerator = createGenerator(2103);
+        Random random = new Random(2103);
+        for (int i = 0; i < 30; i++) {
+            foods.add(new FoodBuilder().withFoodName("Food" + i)
+                    .withFoodType(FoodType.values()[i % FoodType.values().length].getAbbr())
+                    .withSugar(String.valueOf(random.nextInt(3)))
+                    .withGi(String.valueOf(random.nextInt(70)))
+                    .build());
+        }
+
+        List<List<Food>> expectedCombinations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expectedCombinations.add(sameSeedGenerator.getMixedFoods());
+        }
+        expectedCombinations.sort(Comparator.comparingDouble(MixedFoodGeneratorTest::getSugarSum)
+                .thenComparingDouble(MixedFoodGeneratorTest::getGiAverage));
+
+        List<List<Food>> combinations = generator.getRankedMixedFoods(5);
+        assertEquals(expectedCombinations, combinations);
+        List<Double> sugarSums = combinations.stream()
+                .map(MixedFoodGeneratorTest::getSugarSum)
+                .collect(Collectors.toList());
+        assertEquals(sugarSums.stream().sorted().collect(Collectors.toList()), sugarSums);
+    }
+
+    /**
+     * Returns the total sugar of the foods picked in {@code mixedFoods}, without its summary.
+     */
+    private static double getSugarSum(List<Food> mixedFoods) {
+        return mixedFoods.subList(0, mixedFoods.size() - 1).stream()
+                .mapToDouble(food -> food.getSugar().getNumericalValue())
+                .sum();
+    }
+
+    /**
+     * Returns the average GI of the foods picked in {@code mixedFoods}, as rounded in its summary.
+     */
+    private static double getGiAverage(List<Food> mixedFoods) {
+        return mixedFoods.get(mixedFoods.size() - 1).getGi().getNumericalValue();
+    }
+
+    /**
+     * Returns a generator of combinations of the foods added to {@code foods} from now on, with a random number
+     * generator seeded with {@code seed}.
+     */
+    private MixedFoodGenerator createGenerator(long seed) {
+        MixedFoodGenerator generator = new MixedFoodGenerator(new Random(seed));
+        foods.addListener(generator::update);
+        return generator;
+    }
+}
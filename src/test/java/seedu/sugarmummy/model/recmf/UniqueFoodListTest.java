@@ -0,0 +1,133 @@
+package seedu.sugarmummy.model.recmf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sugarmummy.testutil.recmf.TypicalFoods.FOODS;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sugarmummy.model.recmf.exceptions.DuplicateFoodException;
+import seedu.sugarmummy.model.recmf.exceptions.FoodNotFoundException;
+import seedu.sugarmummy.model.recmf.predicates.FoodNameContainsKeywordsPredicate;
+import seedu.sugarmummy.testutil.recmf.FoodBuilder;
+
+class UniqueFoodListTest {
+
+    private static final String[] NAME_WORDS = {"Rice", "rich Bean", "Bean", "Ricotta"};
+
+    private final UniqueFoodList uniqueFoodList = new UniqueFoodList();
+
+    @Test
+    public void getFilteredList_noFilter_allFoodsSortedByFoodType() {
+        uniqueFoodList.setFoods(FOODS);
+        assertEquals(filterAndSort(FOODS, EnumSet.allOf(FoodType.class), food -> true,
+                new FoodComparator(FoodComparator.DEFAULT_SORT_ORDER_STRING)), uniqueFoodList.getFilteredList());
+    }
+
+    @Test
+    public void containsAndDelete_foodNameInDifferentCase_foundByFoodName() {
+        uniqueFoodList.setFoods(FOODS);
+        Food food = FOODS.get(0);
+        Food sameName = new FoodBuilder().withFoodName(food.getFoodName().toString().toUpperCase()).build();
+        assertTrue(uniqueFoodList.contains(sameName));
+        assertThrows(DuplicateFoodException.class, () -> uniqueFoodList.add(sameName));
+
+        uniqueFoodList.delete(sameName.getFoodName());
+        assertFalse(uniqueFoodList.contains(food));
+        assertThrows(FoodNotFoundException.class, () -> uniqueFoodList.delete(food.getFoodName()));
+    }
+
+    @Test
+    public void containsAndDelete_turkishDefaultLocale_foundByFoodName() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            uniqueFoodList.add(new FoodBuilder().withFoodName("Rice").build());
+            FoodName upperCaseName = new FoodName("RICE");
+            assertTrue(uniqueFoodList.contains(new FoodBuilder().withFoodName("RICE").build()));
+            uniqueFoodList.delete(upperCaseName);
+            assertTrue(uniqueFoodList.getUnmodifiableObservableList().isEmpty());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void delete_foodsInMiddle_remainingFoodsDeletedByFoodName() {
+        uniqueFoodList.setFoods(FOODS);
+        List<Food> remainingFoods = new ArrayList<>(FOODS);
+        for (int i = remainingFoods.size() / 2; !remainingFoods.isEmpty(); i = remainingFoods.size() / 2) {
+            uniqueFoodList.delete(remainingFoods.remove(i).getFoodName());
+            assertEquals(remainingFoods, uniqueFoodList.getUnmodifiableObservableList());
+        }
+        uniqueFoodList.add(FOODS.get(0));
+        uniqueFoodList.delete(FOODS.get(0).getFoodName());
+        assertTrue(uniqueFoodList.getUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setFoods_duplicateFoodNames_throwsDuplicateFoodException() {
+        List<Food> foods = new ArrayList<>(FOODS);
+        foods.add(new FoodBuilder().withFoodName(FOODS.get(0).getFoodName().toString().toLowerCase()).build());
+        assertThrows(DuplicateFoodException.class, () -> uniqueFoodList.setFoods(foods));
+    }
+
+    @Test
+    public void updateFilteredList_randomFoods_sameAsFilteringAndSortingWithoutChangingFoodList() {
+        Random random = new Random(2103);
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            foods.add(new FoodBuilder().withFoodName("Food" + i + " " + NAME_WORDS[random.nextInt(NAME_WORDS.length)])
+                    .withFoodType(FoodType.values()[random.nextInt(FoodType.values().length)].getAbbr())
+                    .withGi(String.valueOf(random.nextInt(10)))
+                    .withSugar(String.valueOf(random.nextInt(10)))
+                    .build());
+        }
+        uniqueFoodList.setFoods(foods);
+
+        Set<FoodType> foodTypes = EnumSet.of(FoodType.PROTEIN, FoodType.NON_STARCHY_VEGETABLE);
+        FoodNameContainsKeywordsPredicate predicate = new FoodNameContainsKeywordsPredicate(List.of("RIC*", "bean"));
+        for (FoodComparator foodComparator : List.of(new FoodComparator("gi"), new FoodComparator("su").reversed(),
+                new FoodComparator("fn"))) {
+            uniqueFoodList.updateFilteredList(foodTypes, predicate, foodComparator);
+            assertEquals(filterAndSort(foods, foodTypes, predicate, foodComparator), uniqueFoodList.getFilteredList());
+        }
+        for (List<String> keywords : List.of(List.of("Food7"), List.of("Ric"), List.of("f*"), List.of("*"))) {
+            FoodNameContainsKeywordsPredicate keywordsPredicate = new FoodNameContainsKeywordsPredicate(keywords);
+            uniqueFoodList.updateFilteredList(foodTypes, keywordsPredicate, new FoodComparator("fn"));
+            assertEquals(filterAndSort(foods, foodTypes, keywordsPredicate, new FoodComparator("fn")),
+                    uniqueFoodList.getFilteredList());
+        }
+        uniqueFoodList.updateFilteredList(foodTypes, predicate, new FoodComparator("fn"));
+        assertEquals(foods, uniqueFoodList.getUnmodifiableObservableList());
+
+        Food addedFood = new FoodBuilder().withFoodName("Added Rice").withFoodType("p").withGi("5").build();
+        uniqueFoodList.add(addedFood);
+        foods.add(addedFood);
+        uniqueFoodList.delete(foods.get(0).getFoodName());
+        foods.remove(0);
+        assertEquals(filterAndSort(foods, foodTypes, predicate, new FoodComparator("fn")),
+                uniqueFoodList.getFilteredList());
+    }
+
+    /**
+     * Returns the foods in {@code foods} of {@code foodTypes} that satisfy {@code predicate}, sorted by
+     * {@code foodComparator}.
+     */
+    private List<Food> filterAndSort(List<Food> foods, Set<FoodType> foodTypes, Predicate<Food> predicate,
+            FoodComparator foodComparator) {
+        return foods.stream().filter(food -> foodTypes.contains(food.getFoodType())).filter(predicate)
+                .sorted(foodComparator).collect(Collectors.toList());
+    }
+}
@@ -39,4 +39,14 @@ class FoodNameContainsKeywordsPredicateTest {
 
         assertTrue(FOODS.stream().allMatch(food -> predicateWithEmptyList.test(food)));
     }
+
+    @Test
+    void test_prefixKeyword_matchesWordsStartingWithPrefix() {
+        FoodNameContainsKeywordsPredicate predicateWithPrefix =
+                new FoodNameContainsKeywordsPredicate(Arrays.asList("chick*", "BRO*"));
+        assertTrue(predicateWithPrefix.test(CHICKEN));
+        assertTrue(predicateWithPrefix.test(BROCCOLI));
+        assertFalse(predicateWithPrefix.test(POTATO));
+        assertFalse(new FoodNameContainsKeywordsPredicate(Arrays.asList("chick")).test(CHICKEN));
+    }
 }
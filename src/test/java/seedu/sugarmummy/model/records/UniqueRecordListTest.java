@@ -0,0 +1,71 @@
+package seedu.sugarmummy.model.records;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sugarmummy.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sugarmummy.model.records.exceptions.DuplicateRecordException;
+import seedu.sugarmummy.model.records.exceptions.RecordNotFoundException;
+import seedu.sugarmummy.model.time.DateTime;
+
+class UniqueRecordListTest {
+
+    private static final Record EARLY_BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-01 08:00").build();
+    private static final Record LATE_BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-03 08:00").build();
+    private static final Record BMI_AT_EARLY_DATE_TIME = new BmiBuilder().withDateTime("2019-01-01 08:00").build();
+
+    private final UniqueRecordList uniqueRecordList = new UniqueRecordList();
+
+    @Test
+    public void contains_sameDateTimeDifferentType_returnsFalse() {
+        uniqueRecordList.add(EARLY_BLOOD_SUGAR);
+        assertTrue(uniqueRecordList.contains(EARLY_BLOOD_SUGAR));
+        assertFalse(uniqueRecordList.contains(BMI_AT_EARLY_DATE_TIME));
+    }
+
+    @Test
+    public void add_duplicateRecord_throwsDuplicateRecordException() {
+        uniqueRecordList.add(EARLY_BLOOD_SUGAR);
+        assertThrows(DuplicateRecordException.class, () -> uniqueRecordList.add(
+                new BloodSugarBuilder().withDateTime("2019-01-01 08:00").withConcentration("5.0").build()));
+    }
+
+    @Test
+    public void remove_removedRecord_noLongerContained() {
+        uniqueRecordList.add(EARLY_BLOOD_SUGAR);
+        uniqueRecordList.remove(EARLY_BLOOD_SUGAR);
+        assertFalse(uniqueRecordList.contains(EARLY_BLOOD_SUGAR));
+        assertThrows(RecordNotFoundException.class, () -> uniqueRecordList.remove(EARLY_BLOOD_SUGAR));
+    }
+
+    @Test
+    public void setRecords_listWithDuplicateRecords_throwsDuplicateRecordException() {
+        assertThrows(DuplicateRecordException.class, () -> uniqueRecordList.setRecords(
+                List.of(EARLY_BLOOD_SUGAR, BMI_AT_EARLY_DATE_TIME, EARLY_BLOOD_SUGAR)));
+    }
+
+    @Test
+    public void setRecords_replacesIndexedRecords() {
+        uniqueRecordList.add(EARLY_BLOOD_SUGAR);
+        uniqueRecordList.setRecords(List.of(LATE_BLOOD_SUGAR, BMI_AT_EARLY_DATE_TIME));
+        assertFalse(uniqueRecordList.contains(EARLY_BLOOD_SUGAR));
+        assertTrue(uniqueRecordList.contains(LATE_BLOOD_SUGAR));
+        assertTrue(uniqueRecordList.contains(BMI_AT_EARLY_DATE_TIME));
+    }
+
+    @Test
+    public void getRecordsBetween_returnsRecordsOfTypeWithinPeriodSortedByDateTime() {
+        uniqueRecordList.setRecords(List.of(LATE_BLOOD_SUGAR, BMI_AT_EARLY_DATE_TIME, EARLY_BLOOD_SUGAR));
+        assertEquals(List.of(EARLY_BLOOD_SUGAR, LATE_BLOOD_SUGAR), uniqueRecordList.getRecordsBetween(
+                RecordType.BLOODSUGAR, new DateTime("2019-01-01 08:00"), new DateTime("2019-01-03 08:00")));
+        assertEquals(List.of(LATE_BLOOD_SUGAR), uniqueRecordList.getRecordsBetween(
+                RecordType.BLOODSUGAR, new DateTime("2019-01-02 00:00"), new DateTime("2019-01-31 00:00")));
+        assertEquals(List.of(), uniqueRecordList.getRecordsBetween(
+                RecordType.BLOODSUGAR, new DateTime("2019-01-31 00:00"), new DateTime("2019-01-01 00:00")));
+    }
+}
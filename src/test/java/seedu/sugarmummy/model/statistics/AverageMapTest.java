@@ -34,18 +34,25 @@ public class AverageMapTest {
             new Bmi(new Height("2.0"), new Weight("64.0"), new DateTime("2019-01-08 00:00"))
     ));
 
-    private AverageMap averageMap = new AverageMap();
-
     @Test
     public void calculateAverage_noRecords_returnsEmptyMap() {
         ObservableList<Record> emptyRecordList = FXCollections.observableArrayList();
-        averageMap.calculateAverage(emptyRecordList, AverageType.DAILY, RecordType.BLOODSUGAR, 5);
+        AverageMap averageMap = new AverageMap(emptyRecordList);
+        averageMap.calculateAverage(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
+        assertTrue(averageMap.asUnmodifiableObservableMap().isEmpty());
+    }
+
+    @Test
+    public void calculateAverage_recordsOfOtherType_returnsEmptyMap() {
+        AverageMap averageMap = new AverageMap(bmiRecordList);
+        averageMap.calculateAverage(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
         assertTrue(averageMap.asUnmodifiableObservableMap().isEmpty());
     }
 
     @Test
     public void calculateAverage_dailyAverageBloodSugar_success() {
-        averageMap.calculateAverage(bloodSugarRecordList, AverageType.DAILY, RecordType.BLOODSUGAR, 5);
+        AverageMap averageMap = new AverageMap(bloodSugarRecordList);
+        averageMap.calculateAverage(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
         ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
                 LocalDate.of(2019, 1, 1), 4.0,
                 LocalDate.of(2019, 1, 8), 5.0
@@ -56,7 +63,8 @@ public class AverageMapTest {
 
     @Test
     public void calculateAverage_weeklyAverageBmi_success() {
-        averageMap.calculateAverage(bmiRecordList, AverageType.WEEKLY, RecordType.BMI, 5);
+        AverageMap averageMap = new AverageMap(bmiRecordList);
+        averageMap.calculateAverage(AverageType.WEEKLY, RecordType.BMI, 5);
         ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
                 LocalDate.of(2018, 12, 31), 20.0,
                 LocalDate.of(2019, 1, 7), 16.0
@@ -67,7 +75,8 @@ public class AverageMapTest {
 
     @Test
     public void calculateAverage_monthlyAverageBloodSugar_success() {
-        averageMap.calculateAverage(bloodSugarRecordList, AverageType.MONTHLY, RecordType.BLOODSUGAR, 5);
+        AverageMap averageMap = new AverageMap(bloodSugarRecordList);
+        averageMap.calculateAverage(AverageType.MONTHLY, RecordType.BLOODSUGAR, 5);
         ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
                 LocalDate.of(2019, 1, 1), 4.5
         ));
@@ -75,10 +84,34 @@ public class AverageMapTest {
         assertEquals(expectedResult, averageMap.asUnmodifiableObservableMap());
     }
 
+    @Test
+    public void calculateAverage_recordsAddedAndRemoved_averagesUpdated() {
+        AverageMap averageMap = new AverageMap(bloodSugarRecordList);
+        bloodSugarRecordList.add(new BloodSugar(new Concentration("6.0"), new DateTime("2019-01-08 12:00")));
+        bloodSugarRecordList.remove(0);
+        averageMap.calculateAverage(AverageType.DAILY, RecordType.BLOODSUGAR, 5);
+        ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
+                LocalDate.of(2019, 1, 8), 5.5
+        ));
+        ObservableMap<LocalDate, Double> expectedResult = FXCollections.unmodifiableObservableMap(calculationMap);
+        assertEquals(expectedResult, averageMap.asUnmodifiableObservableMap());
+    }
+
+    @Test
+    public void calculateAverage_countSmallerThanNumberOfPeriods_returnsLatestPeriods() {
+        AverageMap averageMap = new AverageMap(bloodSugarRecordList);
+        averageMap.calculateAverage(AverageType.DAILY, RecordType.BLOODSUGAR, 1);
+        ObservableMap<LocalDate, Double> calculationMap = FXCollections.observableMap(Map.of(
+                LocalDate.of(2019, 1, 8), 5.0
+        ));
+        ObservableMap<LocalDate, Double> expectedResult = FXCollections.unmodifiableObservableMap(calculationMap);
+        assertEquals(expectedResult, averageMap.asUnmodifiableObservableMap());
+    }
+
     @Test
     public void equals() {
-        AverageMap mapOne = new AverageMap();
-        AverageMap mapTwo = new AverageMap();
+        AverageMap mapOne = new AverageMap(FXCollections.observableArrayList());
+        AverageMap mapTwo = new AverageMap(FXCollections.observableArrayList());
         assertEquals(mapOne, mapTwo);
     }
 }
@@ -0,0 +1,94 @@
+package seedu.sugarmummy.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.sugarmummy.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundSaverTest {
+
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver();
+    private final List<String> writtenSnapshots = new ArrayList<>();
+
+    @Test
+    public void submit_burstOfSnapshots_coalescedIntoSingleWrite() throws Exception {
+        CountDownLatch blocker = blockBackgroundThread();
+        backgroundSaver.submit("store", "first", writtenSnapshots::add);
+        backgroundSaver.submit("store", "second", writtenSnapshots::add);
+        backgroundSaver.submit("store", "third", writtenSnapshots::add);
+        blocker.countDown();
+        backgroundSaver.flush();
+
+        assertEquals(List.of("third"), writtenSnapshots);
+    }
+
+    @Test
+    public void submit_withMerger_earlierSnapshotMerged() throws Exception {
+        CountDownLatch blocker = blockBackgroundThread();
+        backgroundSaver.submit("store", "first", writtenSnapshots::add, (earlier, later) -> earlier + later);
+        backgroundSaver.submit("store", "second", writtenSnapshots::add, (earlier, later) -> earlier + later);
+        blocker.countDown();
+        backgroundSaver.flush();
+
+        assertEquals(List.of("firstsecond"), writtenSnapshots);
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionAndRetriesWithNextSnapshot() throws Exception {
+        backgroundSaver.submit("store", "failed", snapshot -> {
+            throw new IOException("dummy exception");
+        });
+        assertThrows(IOException.class, "dummy exception", backgroundSaver::flush);
+
+        backgroundSaver.submit("store", "next", writtenSnapshots::add, (earlier, later) -> earlier + later);
+        backgroundSaver.flush();
+
+        assertEquals(List.of("failednext"), writtenSnapshots);
+    }
+
+    @Test
+    public void submit_writeFailed_failureHandlerGivenFailure() throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        BackgroundSaver failureHandlingSaver = new BackgroundSaver(failures::add);
+        IOException failure = new IOException("dummy exception");
+        failureHandlingSaver.submit("store", "failed", snapshot -> {
+            throw failure;
+        });
+        assertThrows(IOException.class, "dummy exception", failureHandlingSaver::flush);
+
+        assertEquals(List.of(failure), failures);
+    }
+
+    @Test
+    public void shutdown_pendingSnapshot_writtenAndFurtherSnapshotsRejected() throws Exception {
+        CountDownLatch blocker = blockBackgroundThread();
+        backgroundSaver.submit("store", "pending", writtenSnapshots::add);
+        blocker.countDown();
+        backgroundSaver.shutdown();
+
+        assertEquals(List.of("pending"), writtenSnapshots);
+        assertThrows(RejectedExecutionException.class, () -> backgroundSaver.submit("store", "late",
+                writtenSnapshots::add));
+    }
+
+    /**
+     * Keeps the background thread busy until the returned latch is counted down.
+     */
+    private CountDownLatch blockBackgroundThread() {
+        CountDownLatch blocker = new CountDownLatch(1);
+        backgroundSaver.submit("blocker", blocker, latch -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        });
+        return blocker;
+    }
+}
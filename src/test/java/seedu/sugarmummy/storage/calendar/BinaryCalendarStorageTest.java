@@ -0,0 +1,64 @@
+package seedu.sugarmummy.storage.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.sugarmummy.testutil.TypicalEvents.APPOINTMENT;
+import static seedu.sugarmummy.testutil.TypicalEvents.MEETING;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.model.calendar.Calendar;
+import seedu.sugarmummy.model.calendar.Reminder;
+import seedu.sugarmummy.testutil.TypicalReminders;
+
+public class BinaryCalendarStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonCalendarStorage jsonStorage;
+    private BinaryCalendarStorage storage;
+    private Calendar calendar;
+
+    @BeforeEach
+    public void setUp() {
+        jsonStorage = new JsonCalendarStorage(testFolder.resolve("events.json"), testFolder.resolve("reminders.json"));
+        storage = new BinaryCalendarStorage(testFolder.resolve("events.bin"), testFolder.resolve("reminders.bin"),
+                jsonStorage);
+        calendar = new Calendar();
+        calendar.addCalendarEntry(APPOINTMENT);
+        calendar.addCalendarEntry(MEETING);
+        for (Reminder reminder : TypicalReminders.getTypicalReminders()) {
+            calendar.addCalendarEntry(reminder);
+        }
+    }
+
+    @Test
+    public void readCalendar_noBinaryFiles_readFromJsonFiles() throws Exception {
+        jsonStorage.saveCalendar(calendar);
+        assertEquals(calendar, storage.readCalendar().get());
+        assertFalse(Files.exists(storage.getEventFilePath()));
+    }
+
+    @Test
+    public void saveAndReadCalendar_calendar_sameAsJson() throws Exception {
+        storage.saveCalendar(calendar);
+        jsonStorage.saveCalendar(calendar);
+        assertEquals(jsonStorage.readCalendar().get(), storage.readCalendar().get());
+    }
+
+    @Test
+    public void readCalendar_notBinaryFile_throwsDataConversionException() throws Exception {
+        storage.saveCalendar(calendar);
+        FileUtil.writeToFile(storage.getReminderFilePath(), "{ \"reminderList\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> storage.readCalendar());
+    }
+}
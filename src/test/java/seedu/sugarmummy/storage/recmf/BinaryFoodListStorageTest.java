@@ -0,0 +1,64 @@
+package seedu.sugarmummy.storage.recmf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sugarmummy.testutil.recmf.TypicalFoods.FOODS;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.model.recmf.UniqueFoodList;
+import seedu.sugarmummy.testutil.recmf.FoodBuilder;
+
+public class BinaryFoodListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonFoodListStorage jsonStorage;
+    private BinaryFoodListStorage storage;
+    private UniqueFoodList foodList;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("foodList.bin");
+        jsonStorage = new JsonFoodListStorage(testFolder.resolve("foodList.json"));
+        storage = new BinaryFoodListStorage(filePath, jsonStorage);
+        foodList = new UniqueFoodList();
+        foodList.setFoods(FOODS);
+        foodList.add(new FoodBuilder().withFoodName("Precise food").withCalorie("123.4567").withSugar("0.0001")
+                .build());
+    }
+
+    @Test
+    public void read_noBinaryFile_readFromJsonFile() throws Exception {
+        jsonStorage.save(foodList);
+        assertEquals(foodList, storage.read().get());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAndRead_foodList_sameAsJson() throws Exception {
+        storage.save(foodList);
+        jsonStorage.save(foodList);
+
+        assertEquals(jsonStorage.read().get(), storage.read().get());
+        assertTrue(Files.size(filePath) < Files.size(jsonStorage.getFilePath()));
+    }
+
+    @Test
+    public void read_notBinaryFile_throwsDataConversionException() throws Exception {
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, "{ \"foods\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> storage.read());
+    }
+}
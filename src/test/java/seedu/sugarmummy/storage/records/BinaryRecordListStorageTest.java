@@ -0,0 +1,79 @@
+package seedu.sugarmummy.storage.records;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sugarmummy.commons.exceptions.DataConversionException;
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.model.records.BloodSugarBuilder;
+import seedu.sugarmummy.model.records.BmiBuilder;
+import seedu.sugarmummy.model.records.Record;
+import seedu.sugarmummy.model.records.UniqueRecordList;
+
+public class BinaryRecordListStorageTest {
+
+    private static final Record BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-01 08:00")
+            .withConcentration("6.35").build();
+    private static final Record BMI = new BmiBuilder().build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonRecordListStorage jsonStorage;
+    private BinaryRecordListStorage storage;
+    private UniqueRecordList recordList;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("recordList.bin");
+        jsonStorage = new JsonRecordListStorage(testFolder.resolve("recordList.json"));
+        storage = new BinaryRecordListStorage(filePath, jsonStorage);
+        recordList = new UniqueRecordList();
+        recordList.add(BLOOD_SUGAR);
+        recordList.add(BMI);
+    }
+
+    @Test
+    public void read_noBinaryFile_readFromJsonFile() throws Exception {
+        jsonStorage.save(recordList);
+        assertEquals(recordList, storage.read().get());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAndRead_recordList_sameAsJson() throws Exception {
+        storage.save(recordList);
+        jsonStorage.save(recordList);
+
+        assertEquals(jsonStorage.read().get(), storage.read().get());
+        assertTrue(Files.size(filePath) < Files.size(jsonStorage.getFilePath()));
+    }
+
+    @Test
+    public void saveChanges_addition_replayedOnBinarySnapshot() throws Exception {
+        storage.save(recordList);
+        recordList.markAsSaved();
+        recordList.remove(BMI);
+        storage.saveChanges(recordList);
+
+        assertTrue(Files.exists(JsonRecordListStorage.getJournalFilePath(filePath)));
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void read_notBinaryFile_throwsDataConversionException() throws Exception {
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, "{ \"records\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> storage.read());
+    }
+}
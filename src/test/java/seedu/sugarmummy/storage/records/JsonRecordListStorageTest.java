@@ -0,0 +1,165 @@
+package seedu.sugarmummy.storage.records;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sugarmummy.commons.util.FileUtil;
+import seedu.sugarmummy.commons.util.JsonUtil;
+import seedu.sugarmummy.model.records.BloodSugarBuilder;
+import seedu.sugarmummy.model.records.BmiBuilder;
+import seedu.sugarmummy.model.records.Record;
+import seedu.sugarmummy.model.records.UniqueRecordList;
+
+public class JsonRecordListStorageTest {
+
+    private static final Record BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-01 08:00").build();
+    private static final Record OTHER_BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-02 08:00").build();
+    private static final Record EDITED_OTHER_BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-02 08:00")
+            .withConcentration("9.9").build();
+    private static final Record BMI = new BmiBuilder().build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JsonRecordListStorage storage;
+    private UniqueRecordList recordList;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("recordList.json");
+        journalFilePath = JsonRecordListStorage.getJournalFilePath(filePath);
+        storage = new JsonRecordListStorage(filePath);
+        recordList = new UniqueRecordList();
+        recordList.add(BLOOD_SUGAR);
+        storage.save(recordList);
+        recordList.markAsSaved();
+    }
+
+    @Test
+    public void save_recordList_sameFormatAsSerializableRecordList() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        recordList.add(BMI);
+        storage.save(recordList);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableRecordList(recordList)),
+                FileUtil.readFromFile(filePath));
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void saveChanges_additionAndRemoval_appendedToJournal() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        recordList.add(BMI);
+        recordList.remove(BLOOD_SUGAR);
+        storage.saveChanges(recordList);
+
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void saveChanges_journalTooLong_compactedIntoSnapshot() throws Exception {
+        for (int i = 0; i < JsonRecordListStorage.MAX_JOURNAL_ENTRIES / 2 + 1; i++) {
+            recordList.add(OTHER_BLOOD_SUGAR);
+            recordList.remove(OTHER_BLOOD_SUGAR);
+        }
+        storage.saveChanges(recordList);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void read_journalAlreadyInSnapshot_sameRecordList() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        recordList.remove(OTHER_BLOOD_SUGAR);
+        recordList.add(EDITED_OTHER_BLOOD_SUGAR);
+        storage.saveChanges(recordList);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // the application stops after saving the snapshot, but before the journal is deleted
+        storage.save(recordList);
+        Files.write(journalFilePath, journal);
+
+        UniqueRecordList readRecordList = storage.read().get();
+        assertEquals(recordList, readRecordList);
+        assertEquals(recordList.asUnmodifiableObservableList().toString(),
+                readRecordList.asUnmodifiableObservableList().toString());
+    }
+
+    @Test
+    public void read_incompleteLastEntry_ignoredAndJournalUnchanged() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        storage.saveChanges(recordList);
+        Files.writeString(journalFilePath, "{\"changeType\":\"ADD\",\"rec", StandardOpenOption.APPEND);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        assertEquals(recordList, storage.read().get());
+        assertArrayEquals(journal, Files.readAllBytes(journalFilePath));
+    }
+
+    @Test
+    public void saveChanges_completeLastEntryWithoutLineSeparator_appendedEntriesReadable() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        storage.saveChanges(recordList);
+        recordList.markAsSaved();
+        Files.writeString(journalFilePath, Files.readString(journalFilePath).strip());
+
+        recordList.add(BMI);
+        storage.saveChanges(recordList);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void saveChanges_afterReadingIncompleteLastEntry_appendedEntriesReadable() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        storage.saveChanges(recordList);
+        recordList.markAsSaved();
+        Files.writeString(journalFilePath, "{\"changeType\":\"ADD\",\"rec", StandardOpenOption.APPEND);
+        assertEquals(recordList, storage.read().get());
+
+        recordList.add(BMI);
+        storage.saveChanges(recordList);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void saveChanges_incompleteLastEntryNotRead_appendedEntriesReadable() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        storage.saveChanges(recordList);
+        recordList.markAsSaved();
+        Files.writeString(journalFilePath, "{\"changeType\":\"ADD\",\"rec", StandardOpenOption.APPEND);
+
+        recordList.add(BMI);
+        new JsonRecordListStorage(filePath).saveChanges(recordList);
+
+        assertEquals(recordList, storage.read().get());
+    }
+
+    @Test
+    public void compact_journalPresent_journalRemoved() throws Exception {
+        recordList.add(BMI);
+        storage.saveChanges(recordList);
+        storage.compact(recordList);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(recordList, storage.read().get());
+    }
+}
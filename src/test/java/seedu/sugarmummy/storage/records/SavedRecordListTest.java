@@ -0,0 +1,105 @@
+package seedu.sugarmummy.storage.records;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sugarmummy.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.sugarmummy.model.records.BloodSugarBuilder;
+import seedu.sugarmummy.model.records.BmiBuilder;
+import seedu.sugarmummy.model.records.Record;
+import seedu.sugarmummy.model.records.RecordChange;
+import seedu.sugarmummy.model.records.UniqueRecordList;
+
+public class SavedRecordListTest {
+
+    private static final Record BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-01 08:00").build();
+    private static final Record OTHER_BLOOD_SUGAR = new BloodSugarBuilder().withDateTime("2019-01-02 08:00").build();
+    private static final Record BMI = new BmiBuilder().build();
+
+    private final List<UniqueRecordList> savedCopies = new ArrayList<>();
+    private UniqueRecordList recordList;
+    private SavedRecordList savedRecordList;
+
+    @BeforeEach
+    public void setUp() {
+        recordList = new UniqueRecordList();
+        recordList.add(BLOOD_SUGAR);
+        recordList.markAsSaved();
+        savedRecordList = new SavedRecordList(recordList);
+    }
+
+    @Test
+    public void save_replayableChanges_onlyChangesSaved() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        recordList.remove(BLOOD_SUGAR);
+        List<RecordChange> changes = List.copyOf(recordList.getUnsavedChanges());
+        savedRecordList.save(createUpdate(), this::saveCopy);
+
+        UniqueRecordList savedCopy = savedCopies.get(0);
+        assertEquals(recordList, savedCopy);
+        assertEquals(changes, savedCopy.getUnsavedChanges());
+        assertTrue(savedCopy.areUnsavedChangesReplayable());
+    }
+
+    @Test
+    public void save_changesNotReplayable_wholeRecordListSaved() throws Exception {
+        recordList.add(BMI);
+        recordList.setRecord(BLOOD_SUGAR, OTHER_BLOOD_SUGAR);
+        savedRecordList.save(createUpdate(), this::saveCopy);
+
+        assertEquals(recordList, savedCopies.get(0));
+        assertFalse(savedCopies.get(0).areUnsavedChangesReplayable());
+    }
+
+    @Test
+    public void save_afterFailedSave_failedChangesSavedOnce() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        SavedRecordList.Update failedUpdate = createUpdate();
+        assertThrows(IOException.class, () -> savedRecordList.save(failedUpdate, copy -> {
+            throw new IOException("dummy exception");
+        }));
+
+        recordList.add(BMI);
+        savedRecordList.save(failedUpdate.followedBy(createUpdate()), this::saveCopy);
+
+        UniqueRecordList savedCopy = savedCopies.get(0);
+        assertEquals(recordList, savedCopy);
+        assertEquals(2, savedCopy.getUnsavedChanges().size());
+    }
+
+    @Test
+    public void save_mergedUpdates_sameAsSavingEachUpdate() throws Exception {
+        recordList.add(OTHER_BLOOD_SUGAR);
+        SavedRecordList.Update firstUpdate = createUpdate();
+        recordList.setRecord(BLOOD_SUGAR, BMI);
+        SavedRecordList.Update secondUpdate = createUpdate();
+        recordList.remove(OTHER_BLOOD_SUGAR);
+        savedRecordList.save(firstUpdate.followedBy(secondUpdate).followedBy(createUpdate()), this::saveCopy);
+
+        assertEquals(recordList, savedCopies.get(0));
+    }
+
+    /**
+     * Returns an update of the unsaved changes of the record list, which are then marked as saved.
+     */
+    private SavedRecordList.Update createUpdate() {
+        SavedRecordList.Update update = savedRecordList.createUpdate(recordList);
+        recordList.markAsSaved();
+        return update;
+    }
+
+    /**
+     * Keeps a copy of {@code savedRecordList} with its unsaved changes, as it is when it is saved.
+     */
+    private void saveCopy(UniqueRecordList savedRecordList) {
+        savedCopies.add(savedRecordList.copy());
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.sugarmummy.ui.aesthetics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sugarmummy.ui.aesthetics.StyleSheetTemplate.Slot;
+
+class StyleSheetTemplateTest {
+
+    private static final List<String> STYLE_SHEET = List.of(
+            ".label {",
+            "    -fx-font-family: \"Arial\" !important;",
+            "    -fx-text-fill: white;",
+            "}",
+            ".pane {",
+            "    -fx-background: derive(#1d1d1d, 20%);",
+            "    -fx-background-color: #383838; -fx-fill: #ffffff;",
+            "    -fx-background-radius: 2;",
+            "}",
+            "#lineChartCustom {",
+            "    -fx-text-fill: black;",
+            "}");
+
+    private final StyleSheetTemplate styleSheetTemplate = new StyleSheetTemplate(STYLE_SHEET, List.of("#lineChart"));
+
+    @Test
+    public void render_noValues_originalStyleSheet() {
+        assertEquals(5, styleSheetTemplate.getNumberOfSlots());
+        assertEquals(String.join("\n", STYLE_SHEET) + "\n", styleSheetTemplate.render(Map.of()));
+    }
+
+    @Test
+    public void render_allValues_slotsReplacedOutsideIgnoredRules() {
+        String expected = String.join("\n",
+                ".label {",
+                "    -fx-font-family: Futura !important;",
+                "    -fx-text-fill: yellow;",
+                "}",
+                ".pane {",
+                "    -fx-background: transparent;",
+                "    -fx-background-color: transparent; -fx-fill: yellow;",
+                "    -fx-background-radius: 2;",
+                "}",
+                "#lineChartCustom {",
+                "    -fx-text-fill: black;",
+                "}") + "\n";
+        assertEquals(expected, styleSheetTemplate.render(Map.of(Slot.FONT_COLOUR, "yellow", Slot.FONT_FAMILY,
+                "Futura", Slot.BACKGROUND, "transparent")));
+    }
+
+    @Test
+    public void read_darkTheme_everyFontColourSlotReplaced() throws Exception {
+        StyleSheetTemplate darkTheme = StyleSheetTemplate.read(getClass().getResourceAsStream("/view/DarkTheme.css"),
+                List.of());
+        String rendered = darkTheme.render(Map.of(Slot.FONT_COLOUR, "yellow"));
+        assertEquals(rendered.split("-fx-text-fill: ").length, rendered.split("-fx-text-fill: yellow").length);
+    }
+}